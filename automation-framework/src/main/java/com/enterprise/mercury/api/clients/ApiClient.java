@@ -40,13 +40,14 @@ public class ApiClient {
     
     /**
      * Initialize Request Specification
+     * The base URL comes from the config scope of the creating thread and is kept on this
+     * client's spec only; the global RestAssured.baseURI is not touched, so clients for
+     * different environments can run in parallel.
      */
     private void initializeRequestSpec() {
         String baseUrl = config.getApiBaseUrl();
         logger.info("Initializing API client with base URL: {}", baseUrl);
         
-        RestAssured.baseURI = baseUrl;
-        
         requestSpec = new RequestSpecBuilder()
                 .setBaseUri(baseUrl)
                 .setContentType(ContentType.JSON)
@@ -0,0 +1,21 @@
+package com.enterprise.mercury.core.config;
+
+/**
+ * Callback for components that cache configuration values and must follow a reload
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    /**
+     * Called after a new validated snapshot has been published
+     * Runs on the thread that performed the reload; implementations should only
+     * record the new values and apply them on their own threads.
+     *
+     * @param previous Snapshot that was replaced
+     * @param current Snapshot now returned by ConfigManager
+     */
+    void onConfigChange(ConfigSnapshot previous, ConfigSnapshot current);
+}
@@ -0,0 +1,241 @@
+package com.enterprise.mercury.core.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves configuration from layered sources, highest precedence first:
+ * <ol>
+ *   <li>JVM system properties with the same key ({@code -Dthread.count=6})</li>
+ *   <li>Environment variables named {@code MERCURY_} + key in upper case with dots as
+ *       underscores ({@code MERCURY_THREAD_COUNT=6})</li>
+ *   <li>Profile file {@code config-<profile>.properties}; the profile is {@code config.profile},
+ *       or the environment when no profile is set</li>
+ *   <li>Base file {@code config.properties}</li>
+ * </ol>
+ * Files are read from the config directory, falling back to the classpath. Values may
+ * reference other keys, system properties or environment variables as {@code ${NAME}};
+ * unresolved references are left as written. Overrides apply to keys the files define.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class ConfigLoader {
+
+    private static final Logger logger = LogManager.getLogger(ConfigLoader.class);
+
+    public static final String ENV_PREFIX = "MERCURY_";
+    public static final String PROFILE_KEY = "config.profile";
+
+    private static final Pattern REFERENCE = Pattern.compile("\\$\\{([^}]+)}");
+    private static final Pattern SECRET_KEY = Pattern.compile("(?i).*(password|secret|token|api\\.?key).*");
+    private static final Pattern SECRET_PARAM = Pattern.compile("(?i)((?:password|token|secret)=)[^&\\s]*");
+    private static final int MAX_INTERPOLATION_DEPTH = 10;
+
+    private final Path configDir;
+    private final Map<String, String> systemProperties;
+    private final Map<String, String> environment;
+
+    /**
+     * Resolved configuration with the layer each value came from
+     *
+     * @param values Effective values by key
+     * @param sources Source layer by key (system property, environment, profile or base file)
+     * @param profile Profile that was applied, or null
+     */
+    public record Resolved(Map<String, String> values, Map<String, String> sources, String profile) {
+
+        /**
+         * Render the effective configuration with secrets masked
+         *
+         * @return One "key = value  [source]" line per property, sorted by key
+         */
+        public List<String> dump() {
+            List<String> lines = new ArrayList<>();
+            new TreeMap<>(values).forEach((key, value) ->
+                    lines.add(key + " = " + mask(key, value) + "  [" + sources.get(key) + "]"));
+            return lines;
+        }
+    }
+
+    /**
+     * Create a loader reading the current JVM system properties and environment
+     *
+     * @param configDir Directory holding config.properties and profile files
+     */
+    public ConfigLoader(Path configDir) {
+        this(configDir, toMap(System.getProperties()), System.getenv());
+    }
+
+    /**
+     * Create a loader with explicit override layers
+     *
+     * @param configDir Directory holding config.properties and profile files
+     * @param systemProperties System property layer
+     * @param environment Environment variable layer
+     */
+    public ConfigLoader(Path configDir, Map<String, String> systemProperties, Map<String, String> environment) {
+        this.configDir = configDir;
+        this.systemProperties = systemProperties;
+        this.environment = environment;
+    }
+
+    /**
+     * Resolve all layers
+     *
+     * @return Resolved configuration
+     */
+    public Resolved load() {
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, String> sources = new HashMap<>();
+
+        Properties base = read("config.properties");
+        if (base == null) {
+            throw new RuntimeException("config.properties not found in " + configDir + " or on the classpath");
+        }
+        merge(base, "config.properties", values, sources);
+
+        // The profile may itself be chosen by an override
+        String profile = firstNonBlank(override(PROFILE_KEY), values.get(PROFILE_KEY),
+                override("environment"), values.get("environment"));
+        String profileFile = "config-" + profile + ".properties";
+        Properties profileProperties = profile == null ? null : read(profileFile);
+        if (profileProperties != null) {
+            merge(profileProperties, profileFile, values, sources);
+        } else {
+            profile = null;
+        }
+
+        // Only keys the files define can be overridden, so unrelated JVM and OS variables stay out
+        for (String key : new ArrayList<>(values.keySet())) {
+            applyOverride(key, values, sources);
+        }
+
+        values.replaceAll((key, value) -> interpolate(value, values, 0));
+        return new Resolved(Collections.unmodifiableMap(new TreeMap<>(values)),
+                Collections.unmodifiableMap(sources), profile);
+    }
+
+    /**
+     * Environment variable name for a configuration key
+     *
+     * @param key Property key, e.g. thread.count
+     * @return Variable name, e.g. MERCURY_THREAD_COUNT
+     */
+    public static String envName(String key) {
+        return ENV_PREFIX + key.toUpperCase().replace('.', '_').replace('-', '_');
+    }
+
+    /**
+     * Mask the value of secret-looking keys
+     *
+     * @param key Property key
+     * @param value Property value
+     * @return Value, or "****" for passwords, tokens and keys; credentials in URL queries are masked too
+     */
+    public static String mask(String key, String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        if (SECRET_KEY.matcher(key).matches()) {
+            return "****";
+        }
+        return SECRET_PARAM.matcher(value).replaceAll("$1****");
+    }
+
+    private Properties read(String fileName) {
+        Path file = configDir.resolve(fileName);
+        Properties properties = new Properties();
+        if (Files.isRegularFile(file)) {
+            try (InputStream input = Files.newInputStream(file)) {
+                properties.load(input);
+                logger.info("Configuration loaded from: {}", file);
+                return properties;
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to load configuration file: " + file, e);
+            }
+        }
+        try (InputStream input = getClass().getClassLoader().getResourceAsStream(fileName)) {
+            if (input == null) {
+                logger.debug("No configuration file {}", fileName);
+                return null;
+            }
+            properties.load(input);
+            logger.info("Configuration loaded from classpath: {}", fileName);
+            return properties;
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to load configuration file: " + fileName, e);
+        }
+    }
+
+    private static void merge(Properties properties, String source,
+                              Map<String, String> values, Map<String, String> sources) {
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
+            sources.put(key, source);
+        }
+    }
+
+    private String override(String key) {
+        String value = systemProperties.get(key);
+        return value != null ? value : environment.get(envName(key));
+    }
+
+    private static String firstNonBlank(String... candidates) {
+        for (String candidate : candidates) {
+            if (candidate != null && !candidate.isBlank()) {
+                return candidate.trim();
+            }
+        }
+        return null;
+    }
+
+    private void applyOverride(String key, Map<String, String> values, Map<String, String> sources) {
+        if (systemProperties.containsKey(key)) {
+            values.put(key, systemProperties.get(key));
+            sources.put(key, "-D" + key);
+        } else if (environment.containsKey(envName(key))) {
+            values.put(key, environment.get(envName(key)));
+            sources.put(key, "env " + envName(key));
+        }
+    }
+
+    private String interpolate(String value, Map<String, String> values, int depth) {
+        if (value == null || !value.contains("${") || depth > MAX_INTERPOLATION_DEPTH) {
+            return value;
+        }
+        Matcher matcher = REFERENCE.matcher(value);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            String replacement = values.containsKey(name) ? interpolate(values.get(name), values, depth + 1)
+                    : systemProperties.containsKey(name) ? systemProperties.get(name)
+                    : environment.get(name);
+            matcher.appendReplacement(result, Matcher.quoteReplacement(
+                    replacement != null ? replacement : matcher.group()));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private static Map<String, String> toMap(Properties properties) {
+        Map<String, String> map = new HashMap<>();
+        properties.stringPropertyNames().forEach(key -> map.put(key, properties.getProperty(key)));
+        return map;
+    }
+}
@@ -3,14 +3,23 @@ package com.enterprise.mercury.core.config;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.Properties;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 /**
  * Configuration Manager to read properties from config.properties file
  * Implements Singleton pattern for global configuration access
+ * Values are layered by ConfigLoader (-D, MERCURY_ env vars, profile file, base file).
+ * Properties are loaded and validated once into an immutable ConfigSnapshot;
+ * getters read its fields without locking or re-parsing.
+ * With config.hot.reload=true the config directory is watched and edits are swapped in
+ * as a new snapshot; edits that fail validation are rejected and the running snapshot stays.
+ * Getters read through the ConfigScope open on the calling thread, if any.
  * 
  * @author Enterprise Automation Team
  * @version 1.0
@@ -18,52 +27,184 @@ import java.util.Properties;
 public class ConfigManager {
     
     private static final Logger logger = LogManager.getLogger(ConfigManager.class);
-    private static ConfigManager instance;
-    private Properties properties;
+    private static final String CONFIG_DIR = System.getProperty("config.dir", "resources");
     
-    private static final String CONFIG_FILE_PATH = "resources/config.properties";
+    // Snapshot and its resolved sources, swapped together on reload
+    private record State(ConfigSnapshot snapshot, ConfigLoader.Resolved resolved) { }
+    
+    private final Path configDir;
+    private final Supplier<ConfigLoader> loaders;
+    private volatile State state;
+    private final List<ConfigChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private ConfigWatcher watcher;
+    
+    // Initialized on first getInstance() call, thread-safe by class loading.
+    // A failed load is kept, so every call rethrows it instead of NoClassDefFoundError.
+    private static final class Holder {
+        private static final ConfigManager INSTANCE;
+        private static final RuntimeException FAILURE;
+        
+        static {
+            ConfigManager instance = null;
+            RuntimeException failure = null;
+            try {
+                Path configDir = Path.of(CONFIG_DIR);
+                // A fresh loader per load, so reloads see current -D and environment values
+                instance = new ConfigManager(configDir, () -> new ConfigLoader(configDir));
+            } catch (RuntimeException e) {
+                logger.error("Configuration could not be loaded: {}", e.getMessage());
+                failure = e;
+            }
+            INSTANCE = instance;
+            FAILURE = failure;
+        }
+    }
     
     // Private constructor for Singleton
-    private ConfigManager() {
-        loadProperties();
+    private ConfigManager(Path configDir, Supplier<ConfigLoader> loaders) {
+        this.configDir = configDir;
+        this.loaders = loaders;
+        state = load();
+        printAllProperties();
+        if (state.snapshot().hotReload()) {
+            startWatching();
+        }
+    }
+    
+    /**
+     * Create a manager independent of the singleton, over its own config directory and layers
+     * Its reloads and listeners do not affect the global configuration, so tools and tests
+     * can exercise reloading without touching the shared instance.
+     * 
+     * @param configDir Directory holding config.properties and profile files
+     * @param systemProperties System property layer
+     * @param environment Environment variable layer
+     * @return New manager
+     * @throws ConfigValidationException if the configuration is invalid
+     */
+    public static ConfigManager create(Path configDir, Map<String, String> systemProperties,
+                                       Map<String, String> environment) {
+        return new ConfigManager(configDir, () -> new ConfigLoader(configDir, systemProperties, environment));
+    }
+    
+    private State load() {
+        ConfigLoader.Resolved resolved = loaders.get().load();
+        ConfigSnapshot snapshot = ConfigSnapshot.parse(resolved.values());
+        logger.info("Configuration resolved (profile: {})", resolved.profile() != null ? resolved.profile() : "none");
+        return new State(snapshot, resolved);
     }
     
     /**
      * Get singleton instance of ConfigManager
      * 
      * @return ConfigManager instance
+     * @throws ConfigValidationException on every call if the configuration is invalid
      */
-    public static synchronized ConfigManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigManager();
+    public static ConfigManager getInstance() {
+        if (Holder.FAILURE != null) {
+            throw Holder.FAILURE;
         }
-        return instance;
+        return Holder.INSTANCE;
     }
     
     /**
-     * Load properties from config file
+     * Get the configuration snapshot in effect on the current thread
+     * 
+     * @return Snapshot of the open ConfigScope, or the global snapshot
      */
-    private void loadProperties() {
-        properties = new Properties();
-        
-        try (InputStream input = new FileInputStream(CONFIG_FILE_PATH)) {
-            properties.load(input);
-            logger.info("Configuration loaded successfully from: {}", CONFIG_FILE_PATH);
-        } catch (IOException e) {
-            logger.error("Failed to load configuration file: {}", CONFIG_FILE_PATH, e);
-            
-            // Try loading from classpath as fallback
-            try (InputStream input = getClass().getClassLoader().getResourceAsStream("config.properties")) {
-                if (input != null) {
-                    properties.load(input);
-                    logger.info("Configuration loaded from classpath");
-                } else {
-                    throw new RuntimeException("config.properties not found in classpath");
-                }
-            } catch (IOException ex) {
-                throw new RuntimeException("Unable to load configuration file", ex);
+    public ConfigSnapshot getSnapshot() {
+        ConfigSnapshot scoped = ConfigScope.activeSnapshot();
+        return scoped != null ? scoped : state.snapshot();
+    }
+    
+    /**
+     * Get the global configuration snapshot, ignoring any ConfigScope
+     * 
+     * @return Immutable snapshot
+     */
+    public ConfigSnapshot getGlobalSnapshot() {
+        return state.snapshot();
+    }
+    
+    /**
+     * Re-resolve and validate all configuration layers and publish the result
+     * Invalid configuration is rejected and the current snapshot stays in place.
+     * Listeners are notified only when a value changed.
+     * 
+     * @return true if a new snapshot was published
+     */
+    public synchronized boolean reload() {
+        State previous = state;
+        State next;
+        try {
+            next = load();
+        } catch (RuntimeException e) {
+            logger.error("Configuration reload rejected, keeping current configuration: {}", e.getMessage());
+            return false;
+        }
+        if (next.snapshot().equals(previous.snapshot())) {
+            logger.debug("Configuration reloaded without changes");
+            return false;
+        }
+        state = next;
+        logger.info("Configuration reloaded");
+        printAllProperties();
+        for (ConfigChangeListener listener : listeners) {
+            try {
+                listener.onConfigChange(previous.snapshot(), next.snapshot());
+            } catch (RuntimeException e) {
+                logger.error("Configuration listener failed: {}", listener, e);
             }
         }
+        return true;
+    }
+    
+    /**
+     * Register a listener notified after each published reload
+     * 
+     * @param listener Listener to add
+     */
+    public void addListener(ConfigChangeListener listener) {
+        listeners.add(listener);
+    }
+    
+    /**
+     * Remove a listener
+     * 
+     * @param listener Listener to remove
+     */
+    public void removeListener(ConfigChangeListener listener) {
+        listeners.remove(listener);
+    }
+    
+    /**
+     * Watch the config directory and reload on edits
+     * Only files on disk can be watched; the classpath fallback is not.
+     */
+    public synchronized void startWatching() {
+        Path directory = configDir;
+        if (watcher != null) {
+            return;
+        }
+        if (!Files.isDirectory(directory)) {
+            logger.warn("Config hot reload disabled: {} is not a directory (set -Dconfig.dir)", directory.toAbsolutePath());
+            return;
+        }
+        try {
+            watcher = new ConfigWatcher(directory, this::reload);
+        } catch (IOException e) {
+            logger.warn("Config hot reload disabled: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Stop watching the config directory
+     */
+    public synchronized void stopWatching() {
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
     }
     
     /**
@@ -73,7 +214,7 @@ public class ConfigManager {
      * @return Property value
      */
     public String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = getSnapshot().property(key);
         if (value == null) {
             logger.warn("Property '{}' not found in configuration", key);
         }
@@ -88,71 +229,79 @@ public class ConfigManager {
      * @return Property value or default
      */
     public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return getSnapshot().properties().getOrDefault(key, defaultValue);
     }
     
     // Convenience methods for common configurations
     
     public String getBrowser() {
-        return getProperty("browser", "chrome");
+        return getSnapshot().browser();
     }
     
     public boolean isHeadless() {
-        return Boolean.parseBoolean(getProperty("headless", "false"));
+        return getSnapshot().headless();
     }
     
     public String getEnvironment() {
-        return getProperty("environment", "qa");
+        return getSnapshot().environment();
     }
     
     public String getBaseUrl() {
-        String env = getEnvironment();
-        return getProperty("base.url." + env);
+        return getSnapshot().baseUrl();
     }
     
     public String getApiBaseUrl() {
-        String env = getEnvironment();
-        return getProperty("api.base.url." + env);
+        return getSnapshot().apiBaseUrl();
     }
     
     public int getImplicitWait() {
-        return Integer.parseInt(getProperty("implicit.wait", "10"));
+        return getSnapshot().implicitWait();
     }
     
     public int getExplicitWait() {
-        return Integer.parseInt(getProperty("explicit.wait", "20"));
+        return getSnapshot().explicitWait();
     }
     
     public int getPageLoadTimeout() {
-        return Integer.parseInt(getProperty("page.load.timeout", "30"));
+        return getSnapshot().pageLoadTimeout();
     }
     
     public String getUsername() {
-        return getProperty("username");
+        return getSnapshot().username();
     }
     
     public String getPassword() {
-        return getProperty("password");
+        return getSnapshot().password();
     }
     
     public boolean isParallelExecution() {
-        return Boolean.parseBoolean(getProperty("parallel.execution", "false"));
+        return getSnapshot().parallelExecution();
     }
     
     public int getThreadCount() {
-        return Integer.parseInt(getProperty("thread.count", "3"));
+        return getSnapshot().threadCount();
     }
     
     public boolean isTakeScreenshotOnFailure() {
-        return Boolean.parseBoolean(getProperty("screenshot.on.failure", "true"));
+        return getSnapshot().screenshotOnFailure();
+    }
+    
+    /**
+     * Get the effective configuration with secrets masked and the source of each value
+     * 
+     * @return One "key = value  [source]" line per property
+     */
+    public List<String> getEffectiveConfig() {
+        return state.resolved().dump();
     }
     
     /**
      * Print all configuration properties (for debugging)
+     * Secrets are masked and each value shows the layer it came from
      */
     public void printAllProperties() {
         logger.info("=== Configuration Properties ===");
-        properties.forEach((key, value) -> logger.info("{} = {}", key, value));
+        state.resolved().dump().forEach(logger::info);
         logger.info("================================");
     }
 }
@@ -0,0 +1,111 @@
+package com.enterprise.mercury.core.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-thread configuration overrides
+ * While a scope is open, ConfigManager getters on that thread see the overridden keys
+ * (e.g. environment, browser) on top of the global configuration, so QA and UAT tests
+ * can run in parallel in one JVM. Only the overrides are stored; the scoped snapshot
+ * is rebuilt if the global configuration is reloaded. Scopes nest and must be closed
+ * on the thread that opened them, in reverse order.
+ *
+ * <pre>
+ * try (ConfigScope scope = ConfigScope.open(Map.of("environment", "uat"))) {
+ *     String url = ConfigManager.getInstance().getBaseUrl();
+ * }
+ * </pre>
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public final class ConfigScope implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ConfigScope.class);
+
+    private static final ThreadLocal<ConfigScope> active = new ThreadLocal<>();
+
+    private final ConfigScope parent;
+    private final Map<String, String> overrides;
+    private ConfigSnapshot base;
+    private ConfigSnapshot snapshot;
+
+    private ConfigScope(ConfigScope parent, Map<String, String> overrides) {
+        this.parent = parent;
+        this.overrides = overrides;
+        refresh(ConfigManager.getInstance().getGlobalSnapshot());
+    }
+
+    /**
+     * Open a scope on the current thread
+     * Overrides of an enclosing scope stay in effect unless overridden again.
+     *
+     * @param overrides Keys to override
+     * @return Open scope; close it to restore the enclosing configuration
+     * @throws ConfigValidationException if the overridden configuration is invalid
+     */
+    public static ConfigScope open(Map<String, String> overrides) {
+        ConfigScope parent = active.get();
+        Map<String, String> merged = new HashMap<>();
+        if (parent != null) {
+            merged.putAll(parent.overrides);
+        }
+        merged.putAll(overrides);
+        ConfigScope scope = new ConfigScope(parent, Map.copyOf(merged));
+        active.set(scope);
+        logger.debug("Opened config scope {}", scope.overrides);
+        return scope;
+    }
+
+    /**
+     * Get the snapshot of the scope open on the current thread
+     *
+     * @return Scoped snapshot, or null when no scope is open
+     */
+    public static ConfigSnapshot activeSnapshot() {
+        ConfigScope scope = active.get();
+        return scope == null ? null : scope.snapshot();
+    }
+
+    /**
+     * Get the overrides of this scope, including those of enclosing scopes
+     *
+     * @return Overridden keys and values
+     */
+    public Map<String, String> getOverrides() {
+        return overrides;
+    }
+
+    private ConfigSnapshot snapshot() {
+        ConfigSnapshot global = ConfigManager.getInstance().getGlobalSnapshot();
+        if (global != base) {
+            refresh(global);
+        }
+        return snapshot;
+    }
+
+    private void refresh(ConfigSnapshot global) {
+        snapshot = global.withOverrides(overrides);
+        base = global;
+    }
+
+    /**
+     * Close the scope and restore the enclosing one
+     */
+    @Override
+    public void close() {
+        if (active.get() != this) {
+            throw new IllegalStateException("Config scope closed out of order or on another thread: " + overrides);
+        }
+        if (parent != null) {
+            active.set(parent);
+        } else {
+            active.remove();
+        }
+        logger.debug("Closed config scope {}", overrides);
+    }
+}
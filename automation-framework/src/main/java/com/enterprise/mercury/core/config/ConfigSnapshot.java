@@ -0,0 +1,191 @@
+package com.enterprise.mercury.core.config;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable, validated configuration
+ * Typed values are parsed once when the snapshot is built; reading them is a plain field load.
+ * Untyped keys stay available through property().
+ *
+ * @param properties All raw properties (unmodifiable, sorted by key)
+ * @param browser Browser to launch (chrome, firefox, edge)
+ * @param headless Run browsers headless
+ * @param environment Selected environment (qa, uat, prod)
+ * @param baseUrl UI base URL of the environment, or null
+ * @param apiBaseUrl API base URL of the environment, or null
+ * @param implicitWait Implicit wait in seconds
+ * @param explicitWait Explicit wait in seconds
+ * @param pageLoadTimeout Page load timeout in seconds
+ * @param username Test user
+ * @param password Test user password
+ * @param parallelExecution Parallel execution enabled
+ * @param threadCount Parallel thread count
+ * @param screenshotOnFailure Capture a screenshot on test failure
+ * @param hotReload Watch the config files and reload on edits
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public record ConfigSnapshot(Map<String, String> properties,
+                             String browser,
+                             boolean headless,
+                             String environment,
+                             String baseUrl,
+                             String apiBaseUrl,
+                             int implicitWait,
+                             int explicitWait,
+                             int pageLoadTimeout,
+                             String username,
+                             String password,
+                             boolean parallelExecution,
+                             int threadCount,
+                             boolean screenshotOnFailure,
+                             boolean hotReload) {
+
+    private static final Set<String> BROWSERS = Set.of("chrome", "firefox", "edge");
+
+    /**
+     * Parse and validate raw properties
+     *
+     * @param raw Raw key/value pairs
+     * @return Validated snapshot
+     * @throws ConfigValidationException listing every invalid value
+     */
+    public static ConfigSnapshot parse(Map<String, String> raw) {
+        return of(Collections.unmodifiableMap(new TreeMap<>(raw)));
+    }
+
+    /**
+     * Derive a snapshot with some keys overridden
+     * The overrides are layered over this snapshot's properties as a view, not a copy.
+     *
+     * @param overrides Keys to override
+     * @return Validated snapshot
+     * @throws ConfigValidationException listing every invalid value
+     */
+    public ConfigSnapshot withOverrides(Map<String, String> overrides) {
+        return overrides.isEmpty() ? this : of(new OverlayMap(Map.copyOf(overrides), properties));
+    }
+
+    private static ConfigSnapshot of(Map<String, String> properties) {
+        Parser p = new Parser(properties);
+
+        String browser = p.string("browser", "chrome").toLowerCase();
+        if (!BROWSERS.contains(browser)) {
+            p.errors.add("browser: '" + browser + "' is not one of chrome, firefox, edge");
+        }
+        String environment = p.string("environment", "qa");
+        if (environment.isBlank()) {
+            p.errors.add("environment: must not be blank");
+        }
+
+        ConfigSnapshot snapshot = new ConfigSnapshot(properties,
+                browser,
+                p.bool("headless", false),
+                environment,
+                properties.get("base.url." + environment),
+                properties.get("api.base.url." + environment),
+                p.integer("implicit.wait", 10, 0),
+                p.integer("explicit.wait", 20, 1),
+                p.integer("page.load.timeout", 30, 1),
+                properties.get("username"),
+                properties.get("password"),
+                p.bool("parallel.execution", false),
+                p.integer("thread.count", 3, 1),
+                p.bool("screenshot.on.failure", true),
+                p.bool("config.hot.reload", false));
+
+        // Retry limits are read as plain properties elsewhere, but still fail fast here
+        properties.keySet().stream()
+                .filter(key -> key.startsWith("click.retry.") || key.equals("flow.step.retries"))
+                .forEach(key -> p.integer(key, 0, 0));
+
+        if (!p.errors.isEmpty()) {
+            throw new ConfigValidationException(p.errors);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Get a raw property
+     *
+     * @param key Property key
+     * @return Value, or null when not set
+     */
+    public String property(String key) {
+        return properties.get(key);
+    }
+
+    // Read-only view of overrides on top of base properties
+    private static final class OverlayMap extends AbstractMap<String, String> {
+        private final Map<String, String> overrides;
+        private final Map<String, String> base;
+
+        private OverlayMap(Map<String, String> overrides, Map<String, String> base) {
+            this.overrides = overrides;
+            this.base = base;
+        }
+
+        @Override
+        public String get(Object key) {
+            String value = overrides.get(key);
+            return value != null ? value : base.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return overrides.containsKey(key) || base.containsKey(key);
+        }
+
+        // Only used for dumps and iteration, so it is fine to merge here
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            Map<String, String> merged = new TreeMap<>(base);
+            merged.putAll(overrides);
+            return Collections.unmodifiableMap(merged).entrySet();
+        }
+    }
+
+    // Collects all errors instead of stopping at the first one
+    private static final class Parser {
+        private final Map<String, String> properties;
+        private final List<String> errors = new ArrayList<>();
+
+        private Parser(Map<String, String> properties) {
+            this.properties = properties;
+        }
+
+        private String string(String key, String defaultValue) {
+            return properties.getOrDefault(key, defaultValue).trim();
+        }
+
+        private boolean bool(String key, boolean defaultValue) {
+            String value = string(key, String.valueOf(defaultValue));
+            if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+                errors.add(key + ": '" + value + "' is not true or false");
+                return defaultValue;
+            }
+            return Boolean.parseBoolean(value);
+        }
+
+        private int integer(String key, int defaultValue, int min) {
+            String value = string(key, String.valueOf(defaultValue));
+            try {
+                int parsed = Integer.parseInt(value);
+                if (parsed < min) {
+                    errors.add(key + ": " + parsed + " is below the minimum of " + min);
+                }
+                return parsed;
+            } catch (NumberFormatException e) {
+                errors.add(key + ": '" + value + "' is not a whole number");
+                return defaultValue;
+            }
+        }
+    }
+}
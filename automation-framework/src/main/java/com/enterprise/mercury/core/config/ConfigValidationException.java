@@ -0,0 +1,26 @@
+package com.enterprise.mercury.core.config;
+
+import java.util.List;
+
+/**
+ * Thrown when configuration values fail validation
+ * Carries every problem found, so a misconfigured run reports them all at once
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class ConfigValidationException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> errors;
+
+    public ConfigValidationException(List<String> errors) {
+        super("Invalid configuration (" + errors.size() + " error(s)):\n - " + String.join("\n - ", errors));
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+}
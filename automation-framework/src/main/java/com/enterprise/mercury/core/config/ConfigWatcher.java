@@ -0,0 +1,105 @@
+package com.enterprise.mercury.core.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the config directory for changes to config*.properties and runs a callback
+ * Editors often write a file in several steps, so events are debounced and one
+ * callback is made per burst of changes. Runs on a daemon thread until closed.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class ConfigWatcher implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ConfigWatcher.class);
+    private static final long DEBOUNCE_MILLIS = 300;
+
+    private final Path directory;
+    private final Runnable onChange;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /**
+     * Start watching a directory
+     *
+     * @param directory Directory holding the config files
+     * @param onChange Callback run after config files changed
+     * @throws IOException if the directory cannot be watched
+     */
+    public ConfigWatcher(Path directory, Runnable onChange) throws IOException {
+        this.directory = directory;
+        this.onChange = onChange;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this::watch, "config-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+        logger.info("Watching configuration files in: {}", directory.toAbsolutePath());
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = drain(key);
+                // Collect the rest of the burst before reloading once
+                WatchKey more;
+                while ((more = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(more);
+                }
+                if (changed) {
+                    try {
+                        onChange.run();
+                    } catch (RuntimeException e) {
+                        logger.error("Configuration change handler failed", e);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.debug("Stopped watching configuration files in: {}", directory);
+        }
+    }
+
+    private static boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            if (context instanceof Path file && isConfigFile(file)) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private static boolean isConfigFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith("config") && name.endsWith(".properties");
+    }
+
+    /**
+     * Stop watching
+     */
+    @Override
+    public void close() {
+        thread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close configuration watcher: {}", e.getMessage());
+        }
+    }
+}
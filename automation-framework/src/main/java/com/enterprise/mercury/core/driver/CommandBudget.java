@@ -0,0 +1,28 @@
+package com.enterprise.mercury.core.driver;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the maximum number of WebDriver commands a page object method may issue
+ * Enforced by CommandBudgets in the command budget regression suite; each wait counts once,
+ * the polls it repeats until its condition holds are not counted
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CommandBudget {
+
+    /**
+     * Maximum WebDriver commands for one invocation of the method
+     *
+     * @return Command budget
+     */
+    int value();
+}
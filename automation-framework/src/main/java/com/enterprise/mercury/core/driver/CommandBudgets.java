@@ -0,0 +1,102 @@
+package com.enterprise.mercury.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Enforces WebDriver command budgets on page object methods
+ * Counts the commands recorded by the CommandRecorder for the current thread
+ * while the method runs and fails when the declared budget is exceeded. A RecordedWait counts
+ * its first poll; the polls it repeats are not counted, their number depends on how fast
+ * the page responds.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class CommandBudgets {
+
+    private static final Logger logger = LogManager.getLogger(CommandBudgets.class);
+
+    // Private constructor
+    private CommandBudgets() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Run a page object method and verify it stays within its @CommandBudget
+     *
+     * @param page Page object the method belongs to
+     * @param methodName Name of the annotated method
+     * @param invocation Call of the method with its arguments
+     * @return Number of WebDriver commands issued
+     * @throws AssertionError when the budget is exceeded
+     */
+    public static int verify(Object page, String methodName, Runnable invocation) {
+        CommandBudget budget = findBudget(page.getClass(), methodName);
+        return verify(page.getClass().getSimpleName() + "." + methodName, budget.value(), invocation);
+    }
+
+    /**
+     * Run an invocation and verify it issues at most maxCommands WebDriver commands
+     *
+     * @param label Label used in messages
+     * @param maxCommands Command budget
+     * @param invocation Code to measure
+     * @return Number of WebDriver commands counted against the budget
+     * @throws AssertionError when the budget is exceeded
+     */
+    public static int verify(String label, int maxCommands, Runnable invocation) {
+        int before = CommandRecorder.getCommandCount();
+        invocation.run();
+        List<CommandRecord> records = CommandRecorder.snapshot();
+        List<CommandRecord> issued = records.subList(before, records.size());
+
+        if (issued.isEmpty()) {
+            throw new IllegalStateException("No WebDriver commands recorded for " + label
+                    + " - is command.instrumentation.enabled set to true?");
+        }
+
+        List<CommandRecord> counted = issued.stream().filter(record -> !record.polling()).toList();
+        int polling = issued.size() - counted.size();
+        logger.info("{} issued {} WebDriver commands (budget {}) plus {} polling reads",
+                label, counted.size(), maxCommands, polling);
+        if (counted.size() > maxCommands) {
+            throw new AssertionError(label + " issued " + counted.size() + " WebDriver commands, budget is "
+                    + maxCommands + " (" + polling + " polling reads not counted)\n" + breakdown(counted));
+        }
+        return counted.size();
+    }
+
+    /**
+     * Find the @CommandBudget of a method in a class or its superclasses
+     *
+     * @param type Page object class
+     * @param methodName Method name
+     * @return Budget annotation
+     * @throws IllegalArgumentException if no method with that name declares a budget
+     */
+    public static CommandBudget findBudget(Class<?> type, String methodName) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                CommandBudget budget = method.getAnnotation(CommandBudget.class);
+                if (budget != null && method.getName().equals(methodName)) {
+                    return budget;
+                }
+            }
+        }
+        throw new IllegalArgumentException("No @CommandBudget on " + type.getSimpleName() + "." + methodName);
+    }
+
+    private static String breakdown(List<CommandRecord> issued) {
+        Map<String, Integer> counts = new TreeMap<>();
+        issued.forEach(record -> counts.merge(record.name(), 1, Integer::sum));
+        StringBuilder text = new StringBuilder("Commands by name:\n");
+        counts.forEach((name, count) -> text.append(String.format("  %-40s %d%n", name, count)));
+        return text.toString();
+    }
+}
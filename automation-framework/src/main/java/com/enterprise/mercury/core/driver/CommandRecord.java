@@ -0,0 +1,27 @@
+package com.enterprise.mercury.core.driver;
+
+/**
+ * Single WebDriver command captured by the CommandRecorder
+ *
+ * @param name Command name (e.g. "WebElement.click")
+ * @param locator Locator argument, or null when the command has none
+ * @param durationNanos Wall-clock latency of the command
+ * @param success true if the command returned normally
+ * @param error Simple name of the exception thrown, or null on success
+ * @param polling true if issued by a wait repeating its condition after the first poll
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public record CommandRecord(String name, String locator, long durationNanos, boolean success, String error,
+                            boolean polling) {
+
+    /**
+     * Latency in milliseconds
+     *
+     * @return Duration in milliseconds
+     */
+    public double durationMillis() {
+        return durationNanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,156 @@
+package com.enterprise.mercury.core.driver;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * WebDriverListener that records every WebDriver command issued by the current thread
+ * Each thread writes only to its own buffer, so recording needs no locks.
+ * Attached to sessions by DriverFactory through an EventFiringDecorator.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class CommandRecorder implements WebDriverListener {
+
+    private static final CommandRecorder INSTANCE = new CommandRecorder();
+
+    // Methods answered locally by the client without an HTTP round trip
+    private static final Set<String> LOCAL_METHODS = Set.of(
+            "manage", "navigate", "switchTo", "timeouts", "window", "logs",
+            "getWrappedDriver", "getWrappedElement", "getCapabilities",
+            "toString", "hashCode", "equals");
+
+    private static final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+
+    /**
+     * Per-thread command buffer; only ever touched by its owning thread
+     */
+    private static final class Buffer {
+        private final List<CommandRecord> records = new ArrayList<>();
+        private final ArrayDeque<Long> startTimes = new ArrayDeque<>();
+        private boolean repeatPoll;
+    }
+
+    // Private constructor - use getInstance()
+    private CommandRecorder() {
+    }
+
+    /**
+     * Get the shared recorder instance
+     *
+     * @return CommandRecorder
+     */
+    public static CommandRecorder getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isRemote(method)) {
+            buffers.get().startTimes.push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        if (isRemote(method)) {
+            record(method, args, true, null);
+        }
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        if (isRemote(method)) {
+            Throwable cause = e.getTargetException() != null ? e.getTargetException() : e;
+            record(method, args, false, cause.getClass().getSimpleName());
+        }
+    }
+
+    private void record(Method method, Object[] args, boolean success, String error) {
+        Buffer buffer = buffers.get();
+        Long start = buffer.startTimes.poll();
+        long duration = start == null ? 0 : System.nanoTime() - start;
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        buffer.records.add(new CommandRecord(name, extractLocator(args), duration, success, error, buffer.repeatPoll));
+    }
+
+    /**
+     * Evaluate one poll of a RecordedWait condition
+     * Commands of a repeated poll are flagged as polling: how often a wait repeats depends on
+     * page timing. The first poll, and anything nested in it, is recorded as a normal command.
+     *
+     * @param repeat true for every poll after the first
+     * @param condition Condition evaluation
+     * @param <V> Condition result type
+     * @return Result of the condition
+     */
+    static <V> V poll(boolean repeat, Supplier<V> condition) {
+        Buffer buffer = buffers.get();
+        boolean outer = buffer.repeatPoll;
+        buffer.repeatPoll = outer || repeat;
+        try {
+            return condition.get();
+        } finally {
+            buffer.repeatPoll = outer;
+        }
+    }
+
+    private static boolean isRemote(Method method) {
+        return !LOCAL_METHODS.contains(method.getName());
+    }
+
+    private static String extractLocator(Object[] args) {
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg instanceof By) {
+                    return arg.toString();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Discard everything recorded by the current thread
+     */
+    public static void reset() {
+        Buffer buffer = buffers.get();
+        buffer.records.clear();
+        buffer.startTimes.clear();
+    }
+
+    /**
+     * Number of commands recorded by the current thread since the last reset
+     *
+     * @return Command count
+     */
+    public static int getCommandCount() {
+        return buffers.get().records.size();
+    }
+
+    /**
+     * Copy of the commands recorded by the current thread since the last reset
+     *
+     * @return Unmodifiable list of command records
+     */
+    public static List<CommandRecord> snapshot() {
+        return Collections.unmodifiableList(new ArrayList<>(buffers.get().records));
+    }
+
+    /**
+     * Release the current thread's buffer
+     */
+    public static void clear() {
+        buffers.remove();
+    }
+}
@@ -1,9 +1,11 @@
 package com.enterprise.mercury.core.driver;
 
+import com.enterprise.mercury.core.config.ConfigManager;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
@@ -11,6 +13,8 @@ import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 
 import java.time.Duration;
 
@@ -28,6 +32,29 @@ public class DriverFactory {
     // ThreadLocal to store WebDriver instance per thread
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
     
+    // Driver timeouts from configuration, replaced on config reload
+    private record Timeouts(int implicitWait, int pageLoadTimeout) { }
+    
+    // Global values: a ConfigScope open on the thread that loads this class must not leak to all threads
+    private static volatile Timeouts timeouts = new Timeouts(
+            ConfigManager.getInstance().getGlobalSnapshot().implicitWait(),
+            ConfigManager.getInstance().getGlobalSnapshot().pageLoadTimeout());
+    
+    // Timeouts last applied to the current thread's driver
+    private static final ThreadLocal<Timeouts> appliedTimeouts = new ThreadLocal<>();
+    
+    static {
+        // Drivers are not thread-safe, so each thread applies new timeouts to its own driver on next use
+        ConfigManager.getInstance().addListener((previous, current) -> {
+            Timeouts updated = new Timeouts(current.implicitWait(), current.pageLoadTimeout());
+            if (!updated.equals(timeouts)) {
+                logger.info("Driver timeouts changed to implicit={}s, pageLoad={}s",
+                        updated.implicitWait(), updated.pageLoadTimeout());
+                timeouts = updated;
+            }
+        });
+    }
+    
     // Private constructor to prevent instantiation
     private DriverFactory() {
         throw new IllegalStateException("Utility class - cannot be instantiated");
@@ -66,15 +93,20 @@ public class DriverFactory {
         
         // Configure driver settings
         driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
+        applyTimeouts(driver, timeouts);
         driver.manage().deleteAllCookies();
         
+        // Record every WebDriver command issued through this session
+        if (isCommandInstrumentationEnabled()) {
+            driver = new EventFiringDecorator<>(CommandRecorder.getInstance()).decorate(driver);
+            logger.debug("WebDriver command instrumentation enabled");
+        }
+        
         // Store driver in ThreadLocal
         driverThreadLocal.set(driver);
+        SessionCache.clear();
         
-        logger.info("WebDriver initialized successfully. Session ID: {}", 
-                    ((RemoteWebDriver) driver).getSessionId());
+        logger.info("WebDriver initialized successfully. Session ID: {}", getSessionId(driver));
         
         return driver;
     }
@@ -171,9 +203,20 @@ public class DriverFactory {
             throw new IllegalStateException("WebDriver not initialized. Call initializeDriver() first.");
         }
         
+        Timeouts current = timeouts;
+        if (appliedTimeouts.get() != current) {
+            applyTimeouts(driver, current);
+        }
+        
         return driver;
     }
     
+    private static void applyTimeouts(WebDriver driver, Timeouts current) {
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(current.implicitWait()));
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(current.pageLoadTimeout()));
+        appliedTimeouts.set(current);
+    }
+    
     /**
      * Quit the WebDriver and remove from ThreadLocal
      */
@@ -182,18 +225,38 @@ public class DriverFactory {
         
         if (driver != null) {
             try {
-                logger.info("Quitting WebDriver. Session ID: {}", 
-                           ((RemoteWebDriver) driver).getSessionId());
+                logger.info("Quitting WebDriver. Session ID: {}", getSessionId(driver));
                 driver.quit();
             } catch (Exception e) {
                 logger.error("Error while quitting WebDriver: {}", e.getMessage());
             } finally {
                 driverThreadLocal.remove();
+                appliedTimeouts.remove();
+                SessionCache.clear();
                 logger.debug("WebDriver removed from ThreadLocal");
             }
         }
     }
     
+    /**
+     * Get the session ID of a driver, unwrapping decorated drivers
+     * 
+     * @param driver WebDriver instance (plain or decorated)
+     * @return Session ID, or null if not a remote session
+     */
+    public static SessionId getSessionId(WebDriver driver) {
+        WebDriver current = driver;
+        while (current instanceof WrapsDriver) {
+            current = ((WrapsDriver) current).getWrappedDriver();
+        }
+        return current instanceof RemoteWebDriver ? ((RemoteWebDriver) current).getSessionId() : null;
+    }
+    
+    private static boolean isCommandInstrumentationEnabled() {
+        return Boolean.parseBoolean(
+                ConfigManager.getInstance().getProperty("command.instrumentation.enabled", "true"));
+    }
+    
     /**
      * Check if WebDriver is initialized for current thread
      * 
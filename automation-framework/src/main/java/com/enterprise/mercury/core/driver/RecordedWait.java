@@ -0,0 +1,60 @@
+package com.enterprise.mercury.core.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * WebDriverWait that tells the CommandRecorder which poll of its condition is running
+ * The first poll counts against command budgets like any other command; the polls
+ * repeated until the condition holds are recorded as polling and left out.
+ * Use it for every wait in the framework: a plain WebDriverWait is counted on each poll.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class RecordedWait extends WebDriverWait {
+
+    /**
+     * Wait with the default polling interval
+     *
+     * @param driver WebDriver instance
+     * @param timeout Wait timeout
+     */
+    public RecordedWait(WebDriver driver, Duration timeout) {
+        super(driver, timeout);
+    }
+
+    /**
+     * Wait with a custom polling interval
+     *
+     * @param driver WebDriver instance
+     * @param timeout Wait timeout
+     * @param sleep Polling interval
+     */
+    public RecordedWait(WebDriver driver, Duration timeout, Duration sleep) {
+        super(driver, timeout, sleep);
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        return super.until(new Function<WebDriver, V>() {
+            private boolean polled;
+
+            @Override
+            public V apply(WebDriver driver) {
+                boolean repeat = polled;
+                polled = true;
+                return CommandRecorder.poll(repeat, () -> isTrue.apply(driver));
+            }
+
+            // Timeout messages describe the wrapped condition
+            @Override
+            public String toString() {
+                return isTrue.toString();
+            }
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.enterprise.mercury.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Per-thread cache of objects bound to the current WebDriver session
+ * (Actions, page objects). Entries are created lazily on first use and dropped
+ * when the session is quit or a different driver becomes current on the thread.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class SessionCache {
+
+    private static final Logger logger = LogManager.getLogger(SessionCache.class);
+
+    private static final ThreadLocal<Session> sessions = new ThreadLocal<>();
+
+    // Cached objects of one driver session
+    private static final class Session {
+        private final WebDriver driver;
+        private final Map<Class<?>, Object> entries = new HashMap<>();
+
+        private Session(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+
+    // Private constructor
+    private SessionCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Get the cached object for the current session, creating it on first use
+     *
+     * @param type Cache key and object type
+     * @param factory Creates the object for the current driver
+     * @param <T> Object type
+     * @return Cached object
+     */
+    public static <T> T get(Class<T> type, Function<WebDriver, ? extends T> factory) {
+        WebDriver driver = DriverFactory.getDriver();
+        Session session = sessions.get();
+        if (session == null || session.driver != driver) {
+            session = new Session(driver);
+            sessions.set(session);
+        }
+        Object cached = session.entries.get(type);
+        if (cached == null) {
+            cached = factory.apply(driver);
+            session.entries.put(type, cached);
+            logger.debug("Created session-scoped {}", type.getSimpleName());
+        }
+        return type.cast(cached);
+    }
+
+    /**
+     * Drop all cached objects of the current thread's session
+     */
+    public static void clear() {
+        sessions.remove();
+    }
+}
@@ -0,0 +1,167 @@
+package com.enterprise.mercury.core.guidewire;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Recorded action script that moves a Guidewire wizard from screen to screen
+ * Segments are ordered; each one lists the minimal widget actions that leave its
+ * "from" screen and land on its "to" screen. Values may reference test data as ${key}.
+ * Scripts are loaded from the classpath once and cached.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public final class ActionScript {
+
+    private static final Logger logger = LogManager.getLogger(ActionScript.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)}");
+    private static final Map<String, ActionScript> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Widget action
+     *
+     * @param op click, type, set (script value + change event) or await (next widget or messages)
+     * @param widget Locator registry key
+     * @param value Text for type/set, may contain ${key} placeholders; empty otherwise
+     */
+    public record Action(String op, String widget, String value) {
+
+        /**
+         * Substitute ${key} placeholders from test data
+         *
+         * @param data Test data values
+         * @return Action with a literal value
+         * @throws IllegalArgumentException if a referenced key is missing
+         */
+        public Action resolve(Map<String, String> data) {
+            Matcher m = PLACEHOLDER.matcher(value);
+            StringBuilder sb = new StringBuilder();
+            while (m.find()) {
+                String replacement = data.get(m.group(1));
+                if (replacement == null) {
+                    throw new IllegalArgumentException("No test data value for ${" + m.group(1) + "} in " + op + " " + widget);
+                }
+                m.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+            }
+            m.appendTail(sb);
+            return new Action(op, widget, sb.toString());
+        }
+
+        @Override
+        public String toString() {
+            return op + " " + widget + (value.isEmpty() ? "" : " '" + value + "'");
+        }
+    }
+
+    /**
+     * Transition between two screens
+     *
+     * @param from Screen the actions start on
+     * @param to Screen the actions land on
+     * @param actions Actions in replay order
+     */
+    public record Segment(String from, String to, List<Action> actions) {
+    }
+
+    private final String name;
+    private final List<Segment> segments;
+
+    private ActionScript(String name, List<Segment> segments) {
+        this.name = name;
+        this.segments = List.copyOf(segments);
+    }
+
+    /**
+     * Load a script from the classpath (cached after the first load)
+     *
+     * @param resource Classpath resource, e.g. flows/fnol-fast-forward.json
+     * @return Parsed script
+     */
+    public static ActionScript load(String resource) {
+        return CACHE.computeIfAbsent(resource, r -> {
+            try (InputStream in = ActionScript.class.getClassLoader().getResourceAsStream(r)) {
+                if (in == null) {
+                    throw new IllegalStateException("Action script not found on classpath: " + r);
+                }
+                ActionScript script = parse(r, MAPPER.readTree(in));
+                logger.info("Loaded action script {} with {} segment(s)", r, script.segments.size());
+                return script;
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to read action script: " + r, e);
+            }
+        });
+    }
+
+    /**
+     * Parse a script document
+     *
+     * @param name Script name for messages
+     * @param root {"segments": [{"from", "to", "actions": [{"op", "widget", "value"}]}]}
+     * @return Parsed script
+     */
+    public static ActionScript parse(String name, JsonNode root) {
+        List<Segment> segments = new ArrayList<>();
+        for (JsonNode s : root.path("segments")) {
+            List<Action> actions = new ArrayList<>();
+            for (JsonNode a : s.path("actions")) {
+                actions.add(new Action(a.path("op").asText(), a.path("widget").asText(), a.path("value").asText("")));
+            }
+            segments.add(new Segment(s.path("from").asText(), s.path("to").asText(), List.copyOf(actions)));
+        }
+        if (segments.isEmpty()) {
+            throw new IllegalStateException("Action script has no segments: " + name);
+        }
+        return new ActionScript(name, segments);
+    }
+
+    /**
+     * Plan the segments that lead from the current screen to the target
+     * When the current screen is not a segment start (unknown screen, desktop variant),
+     * the plan starts at the first segment, whose actions must work from any screen.
+     *
+     * @param current Current screen name
+     * @param target Target screen name
+     * @return Segments in replay order; empty when already on the target
+     * @throws IllegalArgumentException if the target cannot be reached
+     */
+    public List<Segment> plan(String current, String target) {
+        if (current.equals(target)) {
+            return List.of();
+        }
+        String from = segments.stream().anyMatch(s -> s.from().equals(current)) ? current : segments.get(0).from();
+        List<Segment> plan = new ArrayList<>();
+        while (!from.equals(target)) {
+            String step = from;
+            Segment next = segments.stream().filter(s -> s.from().equals(step)).findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Action script " + name + " cannot reach " + target + " from " + current));
+            if (plan.contains(next)) {
+                throw new IllegalArgumentException("Action script " + name + " loops at " + next.from());
+            }
+            plan.add(next);
+            from = next.to();
+        }
+        return plan;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Segment> getSegments() {
+        return segments;
+    }
+}
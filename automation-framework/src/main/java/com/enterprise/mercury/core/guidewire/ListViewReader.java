@@ -0,0 +1,102 @@
+package com.enterprise.mercury.core.guidewire;
+
+import com.enterprise.mercury.core.driver.RecordedWait;
+import com.enterprise.mercury.core.locators.LocatorStrategy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+
+/**
+ * Reads a whole Guidewire ListView in one executeScript call
+ * The script locates the ListView, its table, header row and data rows, and returns
+ * cell text plus row action IDs as one JSON string. Nested tables are skipped.
+ * Row header (TH) cells are read like data cells, and a cell spanning several columns
+ * is followed by empty cells so values stay under their headers.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class ListViewReader {
+
+    private static final Logger logger = LogManager.getLogger(ListViewReader.class);
+
+    private static final String LIST_VIEW_SCRIPT =
+            "var type = arguments[0], value = arguments[1], root = null;" +
+            "try {" +
+            "  if (type === 'id') { root = document.getElementById(value); }" +
+            "  else if (type === 'name') { root = document.getElementsByName(value)[0] || null; }" +
+            "  else if (type === 'aria') { root = document.querySelector('[aria-label=\"' + CSS.escape(value) + '\"]'); }" +
+            "  else if (type === 'css') { root = document.querySelector(value); }" +
+            "  else { root = document.evaluate(value, document, null," +
+            "      XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue; }" +
+            "} catch (e) { root = null; }" +
+            "if (!root) { return null; }" +
+            "var table = root.tagName === 'TABLE' ? root : root.querySelector('table');" +
+            "if (!table) { return null; }" +
+            "function text(el) { return (el.innerText || el.textContent || '').replace(/\\s+/g, ' ').trim(); }" +
+            "function own(tr) { return tr.closest('table') === table; }" +
+            "function expand(tr) {" +
+            "  var values = [];" +
+            "  Array.prototype.forEach.call(tr.children, function (c) {" +
+            "    if (c.tagName !== 'TD' && c.tagName !== 'TH') { return; }" +
+            "    values.push(text(c));" +
+            "    for (var span = (parseInt(c.getAttribute('colspan'), 10) || 1) - 1; span > 0; span--) { values.push(''); }" +
+            "  });" +
+            "  return values;" +
+            "}" +
+            "var headerRow = null, all = table.querySelectorAll('tr');" +
+            "for (var i = 0; i < all.length && !headerRow; i++) {" +
+            "  var cls = all[i].getAttribute('class') || '';" +
+            "  if (own(all[i]) && (all[i].closest('thead') || /gw-header/.test(cls) || (all[i].querySelector('th') && !all[i].querySelector('td')))) {" +
+            "    headerRow = all[i];" +
+            "  }" +
+            "}" +
+            "var headers = headerRow ? expand(headerRow) : [];" +
+            "var rows = [];" +
+            "for (var r = 0; r < all.length; r++) {" +
+            "  var tr = all[r];" +
+            "  if (tr === headerRow || !own(tr) || tr.closest('thead')) { continue; }" +
+            "  var cells = expand(tr);" +
+            "  if (!cells.length) { continue; }" +
+            "  var actions = Array.prototype.filter.call(tr.querySelectorAll('[id]'), function (e) {" +
+            "    return /gw-action/.test(e.getAttribute('class') || '') || e.tagName === 'A' || e.tagName === 'BUTTON';" +
+            "  }).map(function (e) { return e.id; });" +
+            "  rows.push([cells, actions]);" +
+            "}" +
+            "if (!headerRow && !rows.length) { return null; }" +
+            "return JSON.stringify({id: root.id || '', headers: headers, rows: rows});";
+
+    // Private constructor
+    private ListViewReader() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Read a ListView, waiting until its table has rendered a header or data row
+     *
+     * @param driver WebDriver instance
+     * @param listView Locator of the ListView container or its table
+     * @param timeoutInSeconds Maximum wait for the table to be present
+     * @return Immutable table snapshot
+     * @throws RuntimeException if no table is found within the timeout
+     */
+    public static ListViewTable read(WebDriver driver, By listView, int timeoutInSeconds) {
+        LocatorStrategy strategy = LocatorStrategy.from(listView);
+        String json;
+        try {
+            json = new RecordedWait(driver, Duration.ofSeconds(timeoutInSeconds))
+                    .until(d -> (String) ((JavascriptExecutor) d).executeScript(
+                            LIST_VIEW_SCRIPT, strategy.type().getPrefix(), strategy.value()));
+        } catch (TimeoutException e) {
+            throw new RuntimeException("ListView not found: " + listView, e);
+        }
+        ListViewTable table = ListViewTable.fromJson(json);
+        logger.info("Read ListView {} with {} columns and {} rows", listView, table.getHeaders().size(), table.size());
+        return table;
+    }
+}
@@ -0,0 +1,257 @@
+package com.enterprise.mercury.core.guidewire;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Immutable snapshot of a Guidewire ListView
+ * Holds headers, cell text and row action IDs as read by ListViewReader in one
+ * script call. Column lookup is by header text (case and whitespace insensitive).
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public final class ListViewTable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String id;
+    private final List<String> headers;
+    private final Map<String, Integer> columns;
+    private final List<Row> rows;
+
+    /**
+     * One ListView row
+     */
+    public static final class Row {
+        private final int index;
+        private final List<String> cells;
+        private final List<String> actionIds;
+        private final Map<String, Integer> columns;
+
+        private Row(int index, List<String> cells, List<String> actionIds, Map<String, Integer> columns) {
+            this.index = index;
+            this.cells = cells;
+            this.actionIds = actionIds;
+            this.columns = columns;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public List<String> getCells() {
+            return cells;
+        }
+
+        /**
+         * IDs of actionable elements in the row (select links, buttons), in document order
+         *
+         * @return Action element IDs
+         */
+        public List<String> getActionIds() {
+            return actionIds;
+        }
+
+        /**
+         * Cell text by column index
+         *
+         * @param column Zero-based column index
+         * @return Cell text, or empty string when the row has fewer cells
+         */
+        public String get(int column) {
+            return column < cells.size() ? cells.get(column) : "";
+        }
+
+        /**
+         * Cell text by column header
+         *
+         * @param header Column header
+         * @return Cell text
+         * @throws IllegalArgumentException if the column does not exist
+         */
+        public String get(String header) {
+            return get(columnIndex(columns, header));
+        }
+
+        /**
+         * First action ID ending with a suffix (e.g. "-Select")
+         *
+         * @param suffix ID suffix
+         * @return Action ID, if present
+         */
+        public Optional<String> action(String suffix) {
+            return actionIds.stream().filter(id -> id.endsWith(suffix)).findFirst();
+        }
+
+        @Override
+        public String toString() {
+            return "Row[" + index + "]" + cells;
+        }
+    }
+
+    private ListViewTable(String id, List<String> headers, List<List<String>> cells, List<List<String>> actions) {
+        this.id = id;
+        this.headers = List.copyOf(headers);
+        Map<String, Integer> lookup = new LinkedHashMap<>();
+        for (int i = 0; i < headers.size(); i++) {
+            lookup.putIfAbsent(normalize(headers.get(i)), i);
+        }
+        this.columns = Collections.unmodifiableMap(lookup);
+        List<Row> list = new ArrayList<>();
+        for (int i = 0; i < cells.size(); i++) {
+            list.add(new Row(i, List.copyOf(cells.get(i)), List.copyOf(actions.get(i)), columns));
+        }
+        this.rows = List.copyOf(list);
+    }
+
+    /**
+     * Build a table from the JSON produced by the ListView script
+     *
+     * @param json {"id": ..., "headers": [...], "rows": [[[cells...], [actionIds...]], ...]}
+     * @return Table
+     */
+    public static ListViewTable fromJson(String json) {
+        try {
+            JsonNode root = MAPPER.readTree(json);
+            List<String> headers = new ArrayList<>();
+            root.path("headers").forEach(h -> headers.add(h.asText()));
+            List<List<String>> cells = new ArrayList<>();
+            List<List<String>> actions = new ArrayList<>();
+            for (JsonNode row : root.path("rows")) {
+                List<String> rowCells = new ArrayList<>();
+                row.path(0).forEach(c -> rowCells.add(c.asText()));
+                List<String> rowActions = new ArrayList<>();
+                row.path(1).forEach(a -> rowActions.add(a.asText()));
+                cells.add(rowCells);
+                actions.add(rowActions);
+            }
+            return new ListViewTable(root.path("id").asText(""), headers, cells, actions);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unable to parse ListView JSON", e);
+        }
+    }
+
+    private static String normalize(String header) {
+        return header.replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int columnIndex(Map<String, Integer> columns, String header) {
+        Integer index = columns.get(normalize(header));
+        if (index == null) {
+            throw new IllegalArgumentException("No column '" + header + "' in ListView, columns: " + columns.keySet());
+        }
+        return index;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    /**
+     * Check whether a column exists
+     *
+     * @param header Column header
+     * @return true if present
+     */
+    public boolean hasColumn(String header) {
+        return columns.containsKey(normalize(header));
+    }
+
+    /**
+     * Zero-based index of a column
+     *
+     * @param header Column header
+     * @return Column index
+     * @throws IllegalArgumentException if the column does not exist
+     */
+    public int columnIndex(String header) {
+        return columnIndex(columns, header);
+    }
+
+    /**
+     * All cell values of a column, in row order
+     *
+     * @param header Column header
+     * @return Column values
+     */
+    public List<String> column(String header) {
+        int index = columnIndex(header);
+        List<String> values = new ArrayList<>();
+        for (Row row : rows) {
+            values.add(row.get(index));
+        }
+        return values;
+    }
+
+    /**
+     * First row whose column has exactly the given text
+     *
+     * @param header Column header
+     * @param value Expected cell text
+     * @return Row, if present
+     */
+    public Optional<Row> findRow(String header, String value) {
+        int index = columnIndex(header);
+        return rows.stream().filter(row -> value.equals(row.get(index))).findFirst();
+    }
+
+    /**
+     * Rows whose column matches a condition
+     *
+     * @param header Column header
+     * @param condition Condition on cell text
+     * @return Matching rows in order
+     */
+    public List<Row> rowsWhere(String header, Predicate<String> condition) {
+        int index = columnIndex(header);
+        List<Row> result = new ArrayList<>();
+        for (Row row : rows) {
+            if (condition.test(row.get(index))) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Plain text rendering for logs and report attachments
+     *
+     * @return Pipe separated table
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("ListView ").append(id).append(" (").append(rows.size()).append(" rows)\n");
+        text.append(String.join(" | ", headers)).append('\n');
+        for (Row row : rows) {
+            text.append(String.join(" | ", row.getCells())).append('\n');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.enterprise.mercury.core.guidewire;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Guidewire screen markers of the current page, read in one executeScript call
+ * Guidewire element IDs are PCF paths (FNOLWizard-FNOLWizard_FindPolicyScreen-...),
+ * so the distinct "...Screen" segments identify the rendered screen(s).
+ *
+ * @param screenIds Distinct PCF screen IDs in document order
+ * @param title Screen title bar text, or empty
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public record ScreenFingerprint(List<String> screenIds, String title) {
+
+    private static final Logger logger = LogManager.getLogger(ScreenFingerprint.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Screen IDs collected per page; a wizard renders well under this many */
+    private static final int MAX_SCREENS = 20;
+
+    private static final String FINGERPRINT_SCRIPT =
+            "var screens = [], seen = {}, nodes = document.querySelectorAll('[id*=\"Screen\"]');" +
+            "for (var i = 0; i < nodes.length && screens.length < " + MAX_SCREENS + "; i++) {" +
+            "  var parts = nodes[i].id.split('-');" +
+            "  for (var j = 0; j < parts.length; j++) {" +
+            "    if (/Screen$/.test(parts[j]) && !seen[parts[j]]) { seen[parts[j]] = true; screens.push(parts[j]); }" +
+            "  }" +
+            "}" +
+            "var title = document.querySelector('.gw-TitleBar--title, [id$=\"-ttlBar\"]');" +
+            "return JSON.stringify({screens: screens, truncated: i < nodes.length," +
+            "    title: title ? (title.innerText || title.textContent || '').replace(/\\s+/g, ' ').trim() : ''});";
+
+    /**
+     * Read the fingerprint of the current page
+     *
+     * @param driver WebDriver instance
+     * @return Screen fingerprint
+     */
+    public static ScreenFingerprint read(WebDriver driver) {
+        return fromJson((String) ((JavascriptExecutor) driver).executeScript(FINGERPRINT_SCRIPT));
+    }
+
+    /**
+     * Parse the JSON produced by the fingerprint script
+     *
+     * @param json {"screens": [...], "title": "..."}
+     * @return Screen fingerprint
+     */
+    public static ScreenFingerprint fromJson(String json) {
+        try {
+            JsonNode root = MAPPER.readTree(json);
+            List<String> screens = new ArrayList<>();
+            root.path("screens").forEach(s -> screens.add(s.asText()));
+            if (root.path("truncated").asBoolean()) {
+                logger.warn("Screen fingerprint stopped at {} screen IDs; later screens are not identified: {}",
+                        MAX_SCREENS, screens);
+            }
+            return new ScreenFingerprint(List.copyOf(screens), root.path("title").asText(""));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unable to parse screen fingerprint", e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.enterprise.mercury.core.guidewire;
+
+import java.util.List;
+
+/**
+ * Outcome of a server round trip on a wizard screen: either validation
+ * messages were shown or the expected next screen (or widget) appeared
+ *
+ * @param kind Which condition resolved the wait
+ * @param messages Messages on the screen when the wait resolved
+ * @param elapsedMillis Time until the outcome was known
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public record ScreenOutcome(Kind kind, List<ValidationMessage> messages, long elapsedMillis) {
+
+    /**
+     * Condition that resolved the wait
+     */
+    public enum Kind {
+        MESSAGES,
+        NEXT_SCREEN
+    }
+
+    public boolean hasMessages() {
+        return kind == Kind.MESSAGES;
+    }
+
+    public boolean reachedNextScreen() {
+        return kind == Kind.NEXT_SCREEN;
+    }
+
+    /**
+     * Messages of one severity
+     *
+     * @param severity Severity
+     * @return Matching messages in screen order
+     */
+    public List<ValidationMessage> messages(ValidationMessage.Severity severity) {
+        return messages.stream().filter(m -> m.severity() == severity).toList();
+    }
+}
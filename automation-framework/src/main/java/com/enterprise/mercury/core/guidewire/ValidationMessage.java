@@ -0,0 +1,38 @@
+package com.enterprise.mercury.core.guidewire;
+
+/**
+ * Guidewire validation or error message shown on a screen
+ *
+ * @param severity Message severity
+ * @param text Message text (without the field label prefix)
+ * @param field Field label the message refers to, or empty for screen-level messages
+ * @param fieldId Id (or name) of the invalid input, or empty when not known
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public record ValidationMessage(Severity severity, String text, String field, String fieldId) {
+
+    /**
+     * Message severity, derived from the Guidewire message CSS class
+     */
+    public enum Severity {
+        ERROR,
+        WARNING,
+        INFO
+    }
+
+    /**
+     * Check whether the message is associated with a field
+     *
+     * @return true if a field label or input id is known
+     */
+    public boolean hasField() {
+        return !field.isEmpty() || !fieldId.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return severity + (field.isEmpty() ? "" : " [" + field + "]") + ": " + text;
+    }
+}
@@ -0,0 +1,190 @@
+package com.enterprise.mercury.core.guidewire;
+
+import com.enterprise.mercury.core.driver.RecordedWait;
+import com.enterprise.mercury.core.locators.HealingLocator;
+import com.enterprise.mercury.core.locators.LocatorRegistry;
+import com.enterprise.mercury.core.locators.LocatorStrategy;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects Guidewire validation and error messages in one executeScript call
+ * Screen-level messages (messages widget, alerts) are split into field label and text
+ * ("Policy # : Missing required field"); field-level messages come from invalid inputs
+ * and their described-by / widget message elements. An invalid input that shows no
+ * message text is reported with an empty text and its field id.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class ValidationMessageReader {
+
+    private static final Logger logger = LogManager.getLogger(ValidationMessageReader.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+
+    // Guidewire click overlay strategies, built once for every poll
+    private static final List<List<String>> BUSY_MARKERS = markers(LocatorRegistry.healing("gw.clickOverlay"));
+
+    // Arguments: busy-marker strategies, next-screen strategies; both [[type, value], ...]
+    private static final String MESSAGE_SCRIPT =
+            "var busyMarkers = arguments[0], nextMarkers = arguments[1];" +
+            "function find(type, value) {" +
+            "  try {" +
+            "    if (type === 'id') { return document.getElementById(value); }" +
+            "    if (type === 'name') { return document.getElementsByName(value)[0] || null; }" +
+            "    if (type === 'aria') { return document.querySelector('[aria-label=\"' + CSS.escape(value) + '\"]'); }" +
+            "    if (type === 'css') { return document.querySelector(value); }" +
+            "    return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "  } catch (e) { return null; }" +
+            "}" +
+            "function visible(el) { return !!(el && (el.offsetWidth || el.offsetHeight || el.getClientRects().length)); }" +
+            "function anyVisible(markers) {" +
+            "  for (var i = 0; i < markers.length; i++) { if (visible(find(markers[i][0], markers[i][1]))) { return true; } }" +
+            "  return false;" +
+            "}" +
+            "function text(el) { return (el.innerText || el.textContent || '').replace(/\\s+/g, ' ').trim(); }" +
+            "function severity(el) {" +
+            "  var holder = el.closest('[class*=\"message\"]') || el, cls = (holder.getAttribute('class') || '') + ' ' + (el.getAttribute('class') || '');" +
+            "  return /warn/i.test(cls) ? 'WARNING' : /info/i.test(cls) ? 'INFO' : 'ERROR';" +
+            "}" +
+            "var labels = {};" +
+            "document.querySelectorAll('label[for]').forEach(function (l) { labels[text(l)] = l.getAttribute('for'); });" +
+            "var messages = [], seen = {};" +
+            "function add(sev, msg, field, fieldId) {" +
+            "  if (!msg && !field && !fieldId) { return; }" +
+            "  var key = sev + '|' + field + '|' + msg;" +
+            "  if (seen[key]) { return; }" +
+            "  seen[key] = true; messages.push([sev, msg, field, fieldId]);" +
+            "}" +
+            "var screenSelector = '.gw-MessagesWidget [class~=\"gw-message\"], .gw-WebMessage, [role=\"alert\"]';" +
+            "document.querySelectorAll(screenSelector).forEach(function (el) {" +
+            "  if (!visible(el) || el.querySelector(screenSelector)) { return; }" +
+            "  var t = text(el), m = /^(.{1,80}?)\\s+:\\s+(.+)$/.exec(t);" +
+            "  var field = m ? m[1] : '';" +
+            "  add(severity(el), m ? m[2] : t, field, labels[field] || '');" +
+            "});" +
+            "document.querySelectorAll('[aria-invalid=\"true\"], .gw-invalid input, .gw-invalid select, .gw-invalid textarea').forEach(function (input) {" +
+            "  var widget = input.closest('.gw-invalid, [class*=\"InputWidget\"], [class*=\"ValueWidget\"]'), msg = '';" +
+            "  (input.getAttribute('aria-describedby') || '').split(/\\s+/).forEach(function (id) {" +
+            "    var d = id && document.getElementById(id); if (d) { msg = (msg + ' ' + text(d)).trim(); }" +
+            "  });" +
+            "  if (!msg && widget) { var w = widget.querySelector('[class*=\"message\"], [class*=\"tooltip\"]'); if (w) { msg = text(w); } }" +
+            "  if (!msg) { msg = input.getAttribute('title') || ''; }" +
+            "  var label = input.labels && input.labels.length ? text(input.labels[0]) : '';" +
+            "  if (!label && widget) { var l = widget.querySelector('label, [class*=\"label\"]'); if (l) { label = text(l); } }" +
+            "  if (!label) { label = input.getAttribute('aria-label') || ''; }" +
+            "  add(severity(widget || input), msg, label, input.id || input.getAttribute('name') || '');" +
+            "});" +
+            "return JSON.stringify({busy: anyVisible(busyMarkers), next: anyVisible(nextMarkers), messages: messages});";
+
+    // Private constructor
+    private ValidationMessageReader() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Read all validation and error messages currently on the screen
+     *
+     * @param driver WebDriver instance
+     * @return Messages in screen order (screen-level first, then field-level)
+     */
+    public static List<ValidationMessage> read(WebDriver driver) {
+        List<ValidationMessage> messages = parse(run(driver, List.of())).messages();
+        logger.info("Read {} validation message(s)", messages.size());
+        return messages;
+    }
+
+    /**
+     * Wait until the server responded with validation messages or the next screen appeared
+     * Each poll is one script call; the wait resolves as soon as the Guidewire click overlay
+     * is gone and either condition holds.
+     *
+     * @param driver WebDriver instance
+     * @param nextScreen Widget that marks the next screen (any strategy may match)
+     * @param timeoutInSeconds Maximum wait
+     * @return Outcome with the messages present when the wait resolved
+     * @throws RuntimeException if neither condition holds within the timeout
+     */
+    public static ScreenOutcome awaitMessagesOrScreen(WebDriver driver, HealingLocator nextScreen, int timeoutInSeconds) {
+        List<List<String>> nextMarkers = markers(nextScreen);
+        long start = System.nanoTime();
+        Snapshot snapshot;
+        try {
+            snapshot = new RecordedWait(driver, Duration.ofSeconds(timeoutInSeconds))
+                    .pollingEvery(POLL_INTERVAL)
+                    .until(d -> {
+                        Snapshot s = parse(run(d, nextMarkers));
+                        return !s.busy() && (s.next() || !s.messages().isEmpty()) ? s : null;
+                    });
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Neither validation messages nor " + nextScreen.getName()
+                    + " appeared within " + timeoutInSeconds + "s", e);
+        }
+        long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        // Messages win: a screen that shows errors has not been left, even if the marker is also present
+        ScreenOutcome outcome = new ScreenOutcome(
+                snapshot.messages().isEmpty() ? ScreenOutcome.Kind.NEXT_SCREEN : ScreenOutcome.Kind.MESSAGES,
+                snapshot.messages(), elapsed);
+        logger.info("Screen outcome {} after {}ms: {}", outcome.kind(), elapsed, outcome.messages());
+        return outcome;
+    }
+
+    private static List<List<String>> markers(HealingLocator locator) {
+        List<List<String>> markers = new ArrayList<>();
+        for (LocatorStrategy strategy : locator.getStrategies()) {
+            markers.add(List.of(strategy.type().getPrefix(), strategy.value()));
+        }
+        return List.copyOf(markers);
+    }
+
+    private static String run(WebDriver driver, List<List<String>> nextMarkers) {
+        return (String) ((JavascriptExecutor) driver).executeScript(MESSAGE_SCRIPT, BUSY_MARKERS, nextMarkers);
+    }
+
+    /**
+     * Script result: busy overlay, next-screen marker and messages
+     */
+    record Snapshot(boolean busy, boolean next, List<ValidationMessage> messages) {
+    }
+
+    /**
+     * Parse the JSON produced by the message script
+     *
+     * @param json {"busy": bool, "next": bool, "messages": [[severity, text, field, fieldId], ...]}
+     * @return Parsed snapshot
+     */
+    static Snapshot parse(String json) {
+        try {
+            JsonNode root = MAPPER.readTree(json);
+            List<ValidationMessage> messages = new ArrayList<>();
+            for (JsonNode m : root.path("messages")) {
+                messages.add(new ValidationMessage(ValidationMessage.Severity.valueOf(m.path(0).asText("ERROR")),
+                        m.path(1).asText(), m.path(2).asText(), m.path(3).asText()));
+            }
+            return new Snapshot(root.path("busy").asBoolean(), root.path("next").asBoolean(), List.copyOf(messages));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unable to parse validation messages", e);
+        }
+    }
+
+    /**
+     * Parse messages from the JSON produced by the message script
+     *
+     * @param json Script result
+     * @return Messages in screen order
+     */
+    public static List<ValidationMessage> parseMessages(String json) {
+        return parse(json).messages();
+    }
+}
@@ -1,29 +1,87 @@
 package com.enterprise.mercury.core.listeners;
 
+import com.enterprise.mercury.core.config.ConfigManager;
+import com.enterprise.mercury.core.config.ConfigScope;
 import com.enterprise.mercury.core.driver.DriverFactory;
+import com.enterprise.mercury.core.locators.LocatorHealer;
+import com.enterprise.mercury.core.locators.LocatorRegistry;
+import com.enterprise.mercury.core.reporting.CommandMetricsReporter;
+import com.enterprise.mercury.core.retry.RetryMetrics;
+import com.enterprise.mercury.core.utils.DataLeasePool;
 import io.qameta.allure.Attachment;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * TestNG Listener for test execution events
  * Handles logging, screenshots, and Allure reporting
+ * Parameters of a {@code <test>} that name config keys (e.g. environment, browser) are
+ * applied as a ConfigScope around every test and configuration method of that test.
+ * Test-data leases a thread still holds when its test method ends are released.
  * 
  * @author Enterprise Automation Team
  * @version 1.0
  */
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, IInvokedMethodListener {
     
     private static final Logger logger = LogManager.getLogger(TestListener.class);
+    private static final String CONFIG_SCOPE_ATTRIBUTE = "mercury.configScope";
+    
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        // The listener may be registered both in the suite and via @Listeners; open one scope only
+        if (testResult.getAttribute(CONFIG_SCOPE_ATTRIBUTE) != null) {
+            return;
+        }
+        Map<String, String> overrides = getConfigOverrides(testResult.getTestContext());
+        if (!overrides.isEmpty()) {
+            testResult.setAttribute(CONFIG_SCOPE_ATTRIBUTE, ConfigScope.open(overrides));
+        }
+    }
+    
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            int released = DataLeasePool.releaseHeld();
+            if (released > 0) {
+                logger.debug("Released {} test-data lease(s) of {}", released, getTestMethodName(testResult));
+            }
+        }
+        Object scope = testResult.removeAttribute(CONFIG_SCOPE_ATTRIBUTE);
+        if (scope != null) {
+            ((ConfigScope) scope).close();
+        }
+    }
+    
+    /**
+     * Get the {@code <test>} parameters that override configuration keys
+     * 
+     * @param context Test context
+     * @return Overrides, empty when the test sets none
+     */
+    private Map<String, String> getConfigOverrides(ITestContext context) {
+        Map<String, String> overrides = new HashMap<>();
+        Map<String, String> configProperties = ConfigManager.getInstance().getGlobalSnapshot().properties();
+        context.getCurrentXmlTest().getLocalParameters().forEach((key, value) -> {
+            if (configProperties.containsKey(key)) {
+                overrides.put(key, value);
+            }
+        });
+        return overrides;
+    }
     
     @Override
     public void onStart(ITestContext context) {
@@ -41,6 +99,11 @@ public class TestListener implements ITestListener {
         logger.info("Failed: {}", context.getFailedTests().size());
         logger.info("Skipped: {}", context.getSkippedTests().size());
         logger.info("========================================");
+        RetryMetrics.logSummary();
+        DataLeasePool.logSummary();
+        CommandMetricsReporter.writeSummary();
+        LocatorHealer.logHealedLocators();
+        LocatorRegistry.logStatistics();
     }
     
     @Override
@@ -0,0 +1,245 @@
+package com.enterprise.mercury.core.locators;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DOM inventory for locator authoring
+ * Collects id, name, class, role, aria label, text and visibility of every interactive
+ * element in a single executeScript call. The browser returns one compact JSON string,
+ * so the cost is one round trip per page regardless of the number of elements.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class DomInventory {
+
+    private static final Logger logger = LogManager.getLogger(DomInventory.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int MAX_TEXT_LENGTH = 80;
+
+    // Returns {url, title, elements: [[tag, type, id, name, class, role, aria, text, value, visible, categories]]}
+    private static final String INVENTORY_SCRIPT =
+            "var maxText = arguments[0], rows = [];" +
+            "var selector = 'a,button,input,select,textarea,[role],[onclick],[tabindex],[aria-label],' +" +
+            "    '.gw-action,.gw-actionable,[class*=menu],[class*=tab],[class*=nav]';" +
+            "var seen = new Set(Array.prototype.slice.call(document.querySelectorAll(selector)));" +
+            "var walker = document.createTreeWalker(document.body || document.documentElement, NodeFilter.SHOW_TEXT);" +
+            "while (walker.nextNode()) {" +
+            "  if (/claim/i.test(walker.currentNode.nodeValue) && walker.currentNode.parentElement) {" +
+            "    seen.add(walker.currentNode.parentElement);" +
+            "  }" +
+            "}" +
+            "function clip(s) { s = (s || '').replace(/\\s+/g, ' ').trim(); return s.length > maxText ? s.substring(0, maxText) : s; }" +
+            "function categories(el, tag, type, cls, text) {" +
+            "  var c = [];" +
+            "  if (tag === 'a') { c.push('link'); }" +
+            "  if (tag === 'button' || el.getAttribute('role') === 'button' || /gw-action/.test(cls)) { c.push('button'); }" +
+            "  if (tag === 'input' && (type === 'button' || type === 'submit')) { c.push('input-button'); }" +
+            "  else if (tag === 'input' || tag === 'textarea') { c.push('input'); }" +
+            "  if (tag === 'select') { c.push('select'); }" +
+            "  if (/menu|tab|nav/.test(cls)) { c.push('navigation'); }" +
+            "  if (/claim/i.test(text)) { c.push('claim'); }" +
+            "  return c.join(' ');" +
+            "}" +
+            "document.querySelectorAll('*').forEach(function (el) {" +
+            "  if (!seen.has(el)) { return; }" +
+            "  var tag = el.tagName.toLowerCase(), type = el.getAttribute('type') || '';" +
+            "  var cls = typeof el.className === 'string' ? el.className : (el.getAttribute('class') || '');" +
+            "  var text = clip(tag === 'input' || tag === 'select' || tag === 'textarea' ? '' : el.innerText || el.textContent);" +
+            "  var style = window.getComputedStyle(el);" +
+            "  var visible = !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)" +
+            "      && style.visibility !== 'hidden' && style.display !== 'none';" +
+            "  rows.push([tag, type, el.id || '', el.getAttribute('name') || '', clip(cls), el.getAttribute('role') || ''," +
+            "      el.getAttribute('aria-label') || '', text," +
+            "      clip(el.value === undefined || type.toLowerCase() === 'password' ? '' : String(el.value))," +
+            "      visible ? 1 : 0, categories(el, tag, type, cls, text)]);" +
+            "});" +
+            "return JSON.stringify({url: location.href, title: document.title, elements: rows});";
+
+    private final WebDriver driver;
+
+    /**
+     * One interactive element
+     *
+     * @param tag Lower-case tag name
+     * @param type Type attribute
+     * @param id Id attribute
+     * @param name Name attribute
+     * @param className Class attribute (clipped)
+     * @param role ARIA role
+     * @param ariaLabel ARIA label
+     * @param text Visible text (clipped, whitespace collapsed)
+     * @param value Current value of form fields, empty for password fields
+     * @param visible True if the element is rendered and not hidden
+     * @param categories Categories (link, button, input-button, input, select, navigation, claim)
+     */
+    public record Element(String tag, String type, String id, String name, String className, String role,
+                          String ariaLabel, String text, String value, boolean visible, List<String> categories) {
+
+        /**
+         * Cheapest stable locator for this element, preferring id, name, then aria label
+         *
+         * @return Suggested strategy, or null when the element has no stable attribute
+         */
+        public LocatorStrategy suggestedLocator() {
+            if (!id.isEmpty()) {
+                return LocatorStrategy.id(id);
+            }
+            if (!name.isEmpty()) {
+                return LocatorStrategy.name(name);
+            }
+            if (!ariaLabel.isEmpty()) {
+                return LocatorStrategy.ariaLabel(ariaLabel);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Inventory of one page
+     *
+     * @param url Page URL
+     * @param title Page title
+     * @param elements Interactive elements in document order
+     */
+    public record Snapshot(String url, String title, List<Element> elements) {
+
+        /**
+         * Elements of one category
+         *
+         * @param category Category name
+         * @return Matching elements in document order
+         */
+        public List<Element> byCategory(String category) {
+            List<Element> result = new ArrayList<>();
+            for (Element element : elements) {
+                if (element.categories().contains(category)) {
+                    result.add(element);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Element count per category
+         *
+         * @return Map of category to count
+         */
+        public Map<String, Integer> categoryCounts() {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (String category : List.of("link", "button", "input-button", "input", "select", "navigation", "claim")) {
+                counts.put(category, byCategory(category).size());
+            }
+            return counts;
+        }
+    }
+
+    public DomInventory(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Capture the inventory of the current page in one executeScript call
+     *
+     * @return Page inventory
+     */
+    public Snapshot capture() {
+        String json = (String) ((JavascriptExecutor) driver).executeScript(INVENTORY_SCRIPT, MAX_TEXT_LENGTH);
+        return parse(json);
+    }
+
+    /**
+     * Parse the compact JSON produced by the inventory script
+     *
+     * @param json Inventory JSON
+     * @return Page inventory
+     */
+    @SuppressWarnings("unchecked")
+    public static Snapshot parse(String json) {
+        try {
+            Map<String, Object> raw = MAPPER.readValue(json, Map.class);
+            List<Element> elements = new ArrayList<>();
+            for (List<Object> row : (List<List<Object>>) raw.get("elements")) {
+                String categories = (String) row.get(10);
+                elements.add(new Element((String) row.get(0), (String) row.get(1), (String) row.get(2),
+                        (String) row.get(3), (String) row.get(4), (String) row.get(5), (String) row.get(6),
+                        (String) row.get(7), (String) row.get(8), ((Number) row.get(9)).intValue() == 1,
+                        categories.isEmpty() ? List.of() : List.copyOf(Arrays.asList(categories.split(" ")))));
+            }
+            return new Snapshot((String) raw.get("url"), (String) raw.get("title"), List.copyOf(elements));
+        } catch (JsonProcessingException | ClassCastException | IndexOutOfBoundsException e) {
+            throw new RuntimeException("Unable to parse DOM inventory", e);
+        }
+    }
+
+    /**
+     * Write a searchable index file: one JSON object per line, one line per element
+     * Each line carries the suggested locator so `grep` on the file yields a usable strategy.
+     *
+     * @param directory Output directory
+     * @param pageName Page name used as file name
+     * @param snapshot Page inventory
+     * @return Path of the written index file
+     */
+    public static Path writeIndex(Path directory, String pageName, Snapshot snapshot) {
+        Path file = directory.resolve(pageName.replaceAll("[^A-Za-z0-9._-]", "_") + ".jsonl");
+        try {
+            Files.createDirectories(directory);
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                Map<String, Object> header = new LinkedHashMap<>();
+                header.put("url", snapshot.url());
+                header.put("title", snapshot.title());
+                header.put("elements", snapshot.elements().size());
+                writer.write(MAPPER.writeValueAsString(header));
+                writer.newLine();
+                for (Element element : snapshot.elements()) {
+                    Map<String, Object> line = new LinkedHashMap<>();
+                    LocatorStrategy suggestion = element.suggestedLocator();
+                    line.put("locator", suggestion == null ? null : suggestion.toString());
+                    line.put("tag", element.tag());
+                    putIfPresent(line, "type", element.type());
+                    putIfPresent(line, "id", element.id());
+                    putIfPresent(line, "name", element.name());
+                    putIfPresent(line, "class", element.className());
+                    putIfPresent(line, "role", element.role());
+                    putIfPresent(line, "aria", element.ariaLabel());
+                    putIfPresent(line, "text", element.text());
+                    // Never write a password to disk, even from a snapshot captured elsewhere
+                    if (!"password".equalsIgnoreCase(element.type())) {
+                        putIfPresent(line, "value", element.value());
+                    }
+                    line.put("visible", element.visible());
+                    line.put("categories", element.categories());
+                    writer.write(MAPPER.writeValueAsString(line));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write DOM inventory: " + file, e);
+        }
+        logger.info("DOM inventory with {} elements written to: {}", snapshot.elements().size(), file);
+        return file;
+    }
+
+    private static void putIfPresent(Map<String, Object> line, String key, String value) {
+        if (value != null && !value.isEmpty()) {
+            line.put(key, value);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.enterprise.mercury.core.locators;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Element locator with ranked alternative strategies
+ * The first strategy is the primary one; the others are fallbacks tried by the
+ * LocatorHealer when the DOM has shifted.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public final class HealingLocator {
+
+    private final String name;
+    private final List<LocatorStrategy> strategies;
+
+    private HealingLocator(String name, List<LocatorStrategy> strategies) {
+        if (strategies.isEmpty()) {
+            throw new IllegalArgumentException("Locator '" + name + "' needs at least one strategy");
+        }
+        this.name = name;
+        this.strategies = Collections.unmodifiableList(strategies);
+    }
+
+    /**
+     * Create a locator from strategies in rank order
+     *
+     * @param name Unique element name (used as key in the healed locator cache)
+     * @param strategies Strategies, primary first
+     * @return HealingLocator
+     */
+    public static HealingLocator of(String name, LocatorStrategy... strategies) {
+        return new HealingLocator(name, Arrays.asList(strategies.clone()));
+    }
+
+    /**
+     * Create a locator from strategies in rank order
+     *
+     * @param name Unique element name
+     * @param strategies Strategies, primary first
+     * @return HealingLocator
+     */
+    public static HealingLocator of(String name, List<LocatorStrategy> strategies) {
+        return new HealingLocator(name, List.copyOf(strategies));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<LocatorStrategy> getStrategies() {
+        return strategies;
+    }
+
+    public LocatorStrategy getPrimary() {
+        return strategies.get(0);
+    }
+
+    @Override
+    public String toString() {
+        return "HealingLocator[" + name + "]";
+    }
+}
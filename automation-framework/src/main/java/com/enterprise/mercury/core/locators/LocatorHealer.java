@@ -0,0 +1,208 @@
+package com.enterprise.mercury.core.locators;
+
+import com.enterprise.mercury.core.config.ConfigManager;
+import com.enterprise.mercury.core.driver.RecordedWait;
+import com.enterprise.mercury.core.reporting.AllureConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Self-healing locator engine
+ * Tries all strategies of a HealingLocator in a single JavaScript probe and returns
+ * the first one that matches. The winning strategy is persisted per environment so
+ * the next run probes it first; winners other than the primary strategy are reported
+ * as healed locators.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class LocatorHealer {
+
+    private static final Logger logger = LogManager.getLogger(LocatorHealer.class);
+
+    private static final String PROBE_SCRIPT =
+            "var strategies = arguments[0];" +
+            "for (var i = 0; i < strategies.length; i++) {" +
+            "  var type = strategies[i][0], value = strategies[i][1], el = null;" +
+            "  try {" +
+            "    if (type === 'id') { el = document.getElementById(value); }" +
+            "    else if (type === 'name') { el = document.getElementsByName(value)[0] || null; }" +
+            "    else if (type === 'aria') { el = document.querySelector('[aria-label=\"' + CSS.escape(value) + '\"]'); }" +
+            "    else if (type === 'css') { el = document.querySelector(value); }" +
+            "    else if (type === 'xpath') { el = document.evaluate(value, document, null," +
+            "        XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue; }" +
+            "  } catch (e) { el = null; }" +
+            "  if (el) { return i; }" +
+            "}" +
+            "return -1;";
+
+    // Winning strategy per locator name, loaded once per environment
+    private static final Map<String, Map<String, String>> winnersByEnvironment = new ConcurrentHashMap<>();
+
+    // Locators resolved by a non-primary strategy during this run
+    private static final Map<String, String> healed = new ConcurrentHashMap<>();
+
+    // Private constructor
+    private LocatorHealer() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Resolve a healing locator with the configured explicit wait
+     *
+     * @param driver WebDriver instance
+     * @param locator Healing locator
+     * @return Selenium locator of the winning strategy
+     */
+    public static By resolve(WebDriver driver, HealingLocator locator) {
+        return resolve(driver, locator, ConfigManager.getInstance().getExplicitWait());
+    }
+
+    /**
+     * Resolve a healing locator, polling until one strategy matches
+     *
+     * @param driver WebDriver instance
+     * @param locator Healing locator
+     * @param timeoutInSeconds Maximum wait for any strategy to match
+     * @return Selenium locator of the winning strategy
+     * @throws RuntimeException if no strategy matches within the timeout
+     */
+    public static By resolve(WebDriver driver, HealingLocator locator, int timeoutInSeconds) {
+        String environment = ConfigManager.getInstance().getEnvironment();
+        List<LocatorStrategy> probeOrder = probeOrder(environment, locator);
+        List<List<String>> probeArgument = new ArrayList<>();
+        for (LocatorStrategy strategy : probeOrder) {
+            probeArgument.add(List.of(strategy.type().getPrefix(), strategy.value()));
+        }
+
+        int index;
+        try {
+            index = new RecordedWait(driver, Duration.ofSeconds(timeoutInSeconds))
+                    .until(d -> {
+                        Object result = ((JavascriptExecutor) d).executeScript(PROBE_SCRIPT, probeArgument);
+                        int found = result == null ? -1 : ((Number) result).intValue();
+                        return found >= 0 ? found : null;
+                    });
+        } catch (TimeoutException e) {
+            logger.error("No strategy matched for {} within {}s: {}", locator, timeoutInSeconds, probeOrder);
+            LocatorRegistry.recordFailure(locator.getName());
+            throw new RuntimeException("Unable to locate element: " + locator.getName(), e);
+        }
+
+        LocatorStrategy winner = probeOrder.get(index);
+        recordWinner(environment, locator, winner);
+        LocatorRegistry.recordResolution(locator.getName(), !winner.equals(locator.getPrimary()));
+        return winner.toBy();
+    }
+
+    private static List<LocatorStrategy> probeOrder(String environment, HealingLocator locator) {
+        String cached = winners(environment).get(locator.getName());
+        if (cached == null) {
+            return locator.getStrategies();
+        }
+        List<LocatorStrategy> order = new ArrayList<>(locator.getStrategies());
+        for (LocatorStrategy strategy : locator.getStrategies()) {
+            if (strategy.toString().equals(cached)) {
+                order.remove(strategy);
+                order.add(0, strategy);
+                break;
+            }
+        }
+        return order;
+    }
+
+    private static void recordWinner(String environment, HealingLocator locator, LocatorStrategy winner) {
+        Map<String, String> winners = winners(environment);
+        String previous = winners.put(locator.getName(), winner.toString());
+
+        if (!winner.equals(locator.getPrimary())) {
+            String message = locator.getName() + ": " + locator.getPrimary() + " -> " + winner;
+            if (healed.put(locator.getName(), winner.toString()) == null) {
+                logger.warn("Healed locator {}", message);
+                AllureConfig.addAttachment("Healed Locator", message);
+            }
+        }
+
+        if (!winner.toString().equals(previous)) {
+            saveWinners(environment, winners);
+        }
+    }
+
+    private static Map<String, String> winners(String environment) {
+        return winnersByEnvironment.computeIfAbsent(environment, LocatorHealer::loadWinners);
+    }
+
+    private static Path cacheFile(String environment) {
+        String dir = ConfigManager.getInstance().getProperty("locator.cache.dir", ".locator-cache");
+        return Paths.get(dir, "healed-locators-" + environment + ".properties");
+    }
+
+    private static Map<String, String> loadWinners(String environment) {
+        Map<String, String> winners = new ConcurrentHashMap<>();
+        Path file = cacheFile(environment);
+        if (Files.exists(file)) {
+            Properties properties = new Properties();
+            try (InputStream input = Files.newInputStream(file)) {
+                properties.load(input);
+                properties.forEach((key, value) -> winners.put(key.toString(), value.toString()));
+                logger.info("Loaded {} cached locator winners from: {}", winners.size(), file);
+            } catch (IOException e) {
+                logger.warn("Failed to load locator cache: {}", file, e);
+            }
+        }
+        return winners;
+    }
+
+    private static synchronized void saveWinners(String environment, Map<String, String> winners) {
+        Path file = cacheFile(environment);
+        Properties properties = new Properties();
+        properties.putAll(winners);
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream output = Files.newOutputStream(file)) {
+                properties.store(output, "Winning locator strategies for environment: " + environment);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to save locator cache: {}", file, e);
+        }
+    }
+
+    /**
+     * Locators resolved by a fallback strategy during this run
+     *
+     * @return Sorted map of locator name to winning strategy
+     */
+    public static Map<String, String> getHealedLocators() {
+        return Collections.unmodifiableMap(new TreeMap<>(healed));
+    }
+
+    /**
+     * Log all healed locators
+     */
+    public static void logHealedLocators() {
+        if (healed.isEmpty()) {
+            return;
+        }
+        logger.warn("=== Healed Locators ({}) - update the primary strategies ===", healed.size());
+        getHealedLocators().forEach((name, winner) -> logger.warn("{} -> {}", name, winner));
+    }
+}
@@ -0,0 +1,301 @@
+package com.enterprise.mercury.core.locators;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures the in-browser evaluation cost of page object locators
+ * All locators of a page are timed inside one JavaScript call, so the numbers
+ * reflect DOM evaluation cost only and not WebDriver round trip latency.
+ * Each XPath/CSS locator also gets a cheaper suggestion from SelectorSuggester,
+ * which is only reported when it matches exactly the same elements.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class LocatorProfiler {
+
+    private static final Logger logger = LogManager.getLogger(LocatorProfiler.class);
+
+    private static final String PROFILE_SCRIPT =
+            "var entries = arguments[0], iterations = arguments[1], results = [];" +
+            "function find(type, value) {" +
+            "  if (type === 'id') { var e = document.getElementById(value); return e ? [e] : []; }" +
+            "  if (type === 'name') { return Array.prototype.slice.call(document.getElementsByName(value)); }" +
+            "  if (type === 'aria') { return Array.prototype.slice.call(" +
+            "      document.querySelectorAll('[aria-label=\"' + CSS.escape(value) + '\"]')); }" +
+            "  if (type === 'css') { return Array.prototype.slice.call(document.querySelectorAll(value)); }" +
+            "  var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "  var nodes = []; for (var i = 0; i < snapshot.snapshotLength; i++) { nodes.push(snapshot.snapshotItem(i)); }" +
+            "  return nodes;" +
+            "}" +
+            "function time(type, value) {" +
+            "  var start = performance.now();" +
+            "  for (var i = 0; i < iterations; i++) { find(type, value); }" +
+            "  return (performance.now() - start) * 1000 / iterations;" +
+            "}" +
+            "function same(a, b) {" +
+            "  if (a.length !== b.length) { return false; }" +
+            "  for (var i = 0; i < a.length; i++) { if (a[i] !== b[i]) { return false; } }" +
+            "  return true;" +
+            "}" +
+            "for (var i = 0; i < entries.length; i++) {" +
+            "  var e = entries[i], r = {matches: -1, micros: -1, suggestionMicros: -1, equivalent: false, error: null};" +
+            "  try {" +
+            "    var nodes = find(e[0], e[1]);" +
+            "    r.matches = nodes.length; r.micros = time(e[0], e[1]);" +
+            "    if (e[2]) {" +
+            "      r.equivalent = same(nodes, find(e[2], e[3]));" +
+            "      r.suggestionMicros = time(e[2], e[3]);" +
+            "    }" +
+            "  } catch (err) { r.error = String(err); }" +
+            "  results.push(r);" +
+            "}" +
+            "return results;";
+
+    private final WebDriver driver;
+    private final int iterations;
+
+    /**
+     * Result for one locator on one page
+     *
+     * @param name Locator name (Page.field)
+     * @param strategy Profiled strategy
+     * @param matches Number of matching elements, -1 on error
+     * @param micros Average evaluation time in microseconds
+     * @param suggestion Equivalent cheaper strategy, if one was found
+     * @param suggestionMicros Average evaluation time of the suggestion
+     * @param error Evaluation error, or null
+     */
+    public record Result(String name, LocatorStrategy strategy, long matches, double micros,
+                         LocatorStrategy suggestion, double suggestionMicros, String error) {
+
+        public boolean hasSuggestion() {
+            return suggestion != null;
+        }
+    }
+
+    /**
+     * Create a profiler
+     *
+     * @param driver WebDriver showing the page to profile
+     * @param iterations Evaluations per locator (higher = more stable timings)
+     */
+    public LocatorProfiler(WebDriver driver, int iterations) {
+        this.driver = driver;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Collect every widget locator of the LocatorRegistry
+     * Each widget contributes all of its strategies.
+     *
+     * @return Map of "widgetId#rank" to strategy, in registry order
+     */
+    public static Map<String, LocatorStrategy> collectRegistryLocators() {
+        Map<String, LocatorStrategy> locators = new LinkedHashMap<>();
+        for (String key : LocatorRegistry.keys()) {
+            List<LocatorStrategy> strategies = LocatorRegistry.healing(key).getStrategies();
+            for (int i = 0; i < strategies.size(); i++) {
+                locators.put(key + "#" + (i + 1), strategies.get(i));
+            }
+        }
+        return locators;
+    }
+
+    /**
+     * Collect every By and HealingLocator field declared by page object instances
+     * Healing locators contribute all of their strategies. Locators owned by the
+     * LocatorRegistry are skipped; use collectRegistryLocators() for those.
+     *
+     * @param pages Page object instances
+     * @return Map of "Page.field" to strategy, in declaration order
+     */
+    public static Map<String, LocatorStrategy> collectLocators(Object... pages) {
+        Map<String, LocatorStrategy> locators = new LinkedHashMap<>();
+        for (Object page : pages) {
+            collect(page.getClass(), page, locators);
+        }
+        return locators;
+    }
+
+    /**
+     * Collect the static By and HealingLocator fields of a page object class
+     * Works without a page instance (and so without a browser); instance fields are not read.
+     * Locators owned by the LocatorRegistry are skipped.
+     *
+     * @param pageClass Page object class
+     * @return Map of "Page.field" to strategy, in declaration order
+     */
+    public static Map<String, LocatorStrategy> collectStaticLocators(Class<?> pageClass) {
+        Map<String, LocatorStrategy> locators = new LinkedHashMap<>();
+        collect(pageClass, null, locators);
+        return locators;
+    }
+
+    private static void collect(Class<?> pageClass, Object page, Map<String, LocatorStrategy> locators) {
+        for (Field field : pageClass.getDeclaredFields()) {
+            if (page == null && !Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            Object value = readField(field, page);
+            String name = pageClass.getSimpleName() + "." + field.getName();
+            if (isRegistered(value)) {
+                continue;
+            }
+            if (value instanceof By) {
+                try {
+                    locators.put(name, LocatorStrategy.from((By) value));
+                } catch (IllegalArgumentException e) {
+                    logger.debug("Skipping unsupported locator {}: {}", name, value);
+                }
+            } else if (value instanceof HealingLocator) {
+                List<LocatorStrategy> strategies = ((HealingLocator) value).getStrategies();
+                for (int i = 0; i < strategies.size(); i++) {
+                    locators.put(name + "#" + (i + 1), strategies.get(i));
+                }
+            }
+        }
+    }
+
+    private static boolean isRegistered(Object value) {
+        if (value instanceof By) {
+            return LocatorRegistry.keyOf((By) value).isPresent();
+        }
+        if (value instanceof HealingLocator) {
+            String name = ((HealingLocator) value).getName();
+            return LocatorRegistry.contains(name) && LocatorRegistry.healing(name) == value;
+        }
+        return false;
+    }
+
+    private static Object readField(Field field, Object target) {
+        if (!By.class.isAssignableFrom(field.getType()) && !HealingLocator.class.isAssignableFrom(field.getType())) {
+            return null;
+        }
+        try {
+            field.setAccessible(true);
+            return Modifier.isStatic(field.getModifiers()) ? field.get(null) : field.get(target);
+        } catch (IllegalAccessException | RuntimeException e) {
+            logger.debug("Cannot read field {}: {}", field.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Profile locators against the page currently loaded in the driver
+     *
+     * @param locators Map of locator name to strategy
+     * @return Results sorted by evaluation cost, most expensive first
+     */
+    @SuppressWarnings("unchecked")
+    public List<Result> profile(Map<String, LocatorStrategy> locators) {
+        List<String> names = new ArrayList<>(locators.keySet());
+        List<Optional<LocatorStrategy>> suggestions = new ArrayList<>();
+        List<List<String>> entries = new ArrayList<>();
+
+        for (String name : names) {
+            LocatorStrategy strategy = locators.get(name);
+            Optional<LocatorStrategy> suggestion = SelectorSuggester.suggest(strategy);
+            suggestions.add(suggestion);
+            List<String> entry = new ArrayList<>(List.of(strategy.type().getPrefix(), strategy.value()));
+            suggestion.ifPresent(s -> entry.addAll(List.of(s.type().getPrefix(), s.value())));
+            entries.add(entry);
+        }
+
+        List<Map<String, Object>> raw = (List<Map<String, Object>>)
+                ((JavascriptExecutor) driver).executeScript(PROFILE_SCRIPT, entries, iterations);
+
+        List<Result> results = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            Map<String, Object> r = raw.get(i);
+            double micros = ((Number) r.get("micros")).doubleValue();
+            double suggestionMicros = ((Number) r.get("suggestionMicros")).doubleValue();
+            boolean cheaperEquivalent = Boolean.TRUE.equals(r.get("equivalent"))
+                    && ((Number) r.get("matches")).longValue() > 0
+                    && suggestionMicros >= 0 && suggestionMicros <= micros;
+            results.add(new Result(names.get(i), locators.get(names.get(i)),
+                    ((Number) r.get("matches")).longValue(), micros,
+                    cheaperEquivalent ? suggestions.get(i).get() : null,
+                    cheaperEquivalent ? suggestionMicros : -1,
+                    (String) r.get("error")));
+            recordRegistryCost(names.get(i), micros, (String) r.get("error"));
+        }
+        results.sort(Comparator.comparingDouble(Result::micros).reversed());
+        return results;
+    }
+
+    private static void recordRegistryCost(String name, double micros, String error) {
+        // Only the primary strategy ("widgetId#1") is the one page objects actually use
+        if (error == null && name.endsWith("#1")) {
+            String key = name.substring(0, name.length() - 2);
+            if (LocatorRegistry.contains(key)) {
+                LocatorRegistry.recordCost(key, micros);
+            }
+        }
+    }
+
+    /**
+     * Profile locators against every captured page source (*.html) in a directory
+     * Each snapshot is loaded into the browser from the local file system.
+     *
+     * @param snapshotDir Directory containing captured page sources
+     * @param locators Map of locator name to strategy
+     * @return Results per snapshot file name
+     */
+    public Map<String, List<Result>> profileSnapshots(Path snapshotDir, Map<String, LocatorStrategy> locators) {
+        Map<String, List<Result>> resultsBySnapshot = new LinkedHashMap<>();
+        List<Path> snapshots;
+        try (Stream<Path> files = Files.list(snapshotDir)) {
+            snapshots = files.filter(p -> p.toString().endsWith(".html")).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to list page snapshots: " + snapshotDir, e);
+        }
+        for (Path snapshot : snapshots) {
+            logger.info("Profiling locators against snapshot: {}", snapshot.getFileName());
+            driver.get(snapshot.toAbsolutePath().toUri().toString());
+            resultsBySnapshot.put(snapshot.getFileName().toString(), profile(locators));
+        }
+        return resultsBySnapshot;
+    }
+
+    /**
+     * Format results as a Markdown table
+     *
+     * @param title Report title (page or snapshot name)
+     * @param results Profiling results
+     * @return Markdown report
+     */
+    public static String formatReport(String title, List<Result> results) {
+        StringBuilder report = new StringBuilder("## ").append(title).append("\n\n");
+        report.append("| Rank | Locator | Strategy | Matches | Cost (us) | Suggestion | Suggestion cost (us) |\n");
+        report.append("|---|---|---|---|---|---|---|\n");
+        int rank = 1;
+        for (Result r : results) {
+            report.append(String.format("| %d | %s | `%s` | %s | %.1f | %s | %s |%n",
+                    rank++, r.name(), r.strategy(),
+                    r.error() != null ? "error" : String.valueOf(r.matches()),
+                    r.micros(),
+                    r.hasSuggestion() ? "`" + r.suggestion() + "`" : "",
+                    r.hasSuggestion() ? String.format("%.1f", r.suggestionMicros()) : ""));
+        }
+        return report.append('\n').toString();
+    }
+}
@@ -0,0 +1,322 @@
+package com.enterprise.mercury.core.locators;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Central registry of Guidewire widget locators
+ * Locators are loaded once from locators/guidewire-widgets.json on the classpath and
+ * keyed by widget ID. Every page object shares the same compiled By / HealingLocator
+ * instances, so healer winners, profiling costs and failure counts are aggregated
+ * per widget instead of per page copy.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public final class LocatorRegistry {
+
+    private static final Logger logger = LogManager.getLogger(LocatorRegistry.class);
+    private static final String RESOURCE = "locators/guidewire-widgets.json";
+
+    /** Screen wildcard for widgets present on every screen (e.g. the tab bar) */
+    public static final String ALL_SCREENS = "*";
+
+    private final Map<String, Definition> definitions;
+    private final Map<By, String> keysByLocator;
+    private final Map<String, Counters> counters;
+
+    /**
+     * Compiled widget definition
+     *
+     * @param key Widget ID
+     * @param screens Screens the widget appears on ("*" for every screen)
+     * @param optional True when the widget may legitimately be absent from its screens
+     * @param locator Healing locator with all strategies, primary first
+     * @param by Selenium locator of the primary strategy
+     */
+    public record Definition(String key, List<String> screens, boolean optional, HealingLocator locator, By by) {
+    }
+
+    /**
+     * Aggregated statistics for one widget
+     *
+     * @param key Widget ID
+     * @param resolutions Successful lookups/interactions
+     * @param heals Resolutions by a non-primary strategy
+     * @param failures Failed lookups/interactions
+     * @param lastCostMicros Last profiled evaluation cost of the primary strategy, -1 if never profiled
+     */
+    public record Statistics(String key, long resolutions, long heals, long failures, double lastCostMicros) {
+    }
+
+    private static final class Counters {
+        private final LongAdder resolutions = new LongAdder();
+        private final LongAdder heals = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private volatile double lastCostMicros = -1;
+    }
+
+    // Lazy holder - the resource is parsed on first use only
+    private static final class Holder {
+        private static final LocatorRegistry INSTANCE = load(RESOURCE);
+    }
+
+    private LocatorRegistry(Map<String, Definition> definitions) {
+        this.definitions = Collections.unmodifiableMap(definitions);
+        Map<By, String> byLocator = new HashMap<>();
+        Map<String, Counters> stats = new LinkedHashMap<>();
+        for (Definition definition : definitions.values()) {
+            byLocator.putIfAbsent(definition.by(), definition.key());
+            stats.put(definition.key(), new Counters());
+        }
+        this.keysByLocator = Collections.unmodifiableMap(byLocator);
+        this.counters = Collections.unmodifiableMap(stats);
+    }
+
+    private static LocatorRegistry load(String resource) {
+        try (InputStream input = LocatorRegistry.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IllegalStateException(resource + " not found in classpath");
+            }
+            JsonNode root = new ObjectMapper().readTree(input);
+            Map<String, Definition> definitions = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                definitions.put(field.getKey(), compile(field.getKey(), field.getValue()));
+            }
+            logger.info("Loaded {} widget locators from: {}", definitions.size(), resource);
+            return new LocatorRegistry(definitions);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to load locator registry: " + resource, e);
+        }
+    }
+
+    private static Definition compile(String key, JsonNode node) {
+        List<LocatorStrategy> strategies = new ArrayList<>();
+        for (JsonNode strategy : node.path("strategies")) {
+            strategies.add(LocatorStrategy.parse(strategy.asText()));
+        }
+        List<String> screens = new ArrayList<>();
+        for (JsonNode screen : node.path("screens")) {
+            screens.add(screen.asText());
+        }
+        HealingLocator locator = HealingLocator.of(key, strategies);
+        return new Definition(key, List.copyOf(screens), node.path("optional").asBoolean(false),
+                locator, locator.getPrimary().toBy());
+    }
+
+    private static LocatorRegistry registry() {
+        return Holder.INSTANCE;
+    }
+
+    // ========================================
+    // Lookup
+    // ========================================
+
+    /**
+     * Widget definition by ID
+     *
+     * @param key Widget ID
+     * @return Definition
+     * @throws IllegalArgumentException if the widget is not registered
+     */
+    public static Definition definition(String key) {
+        Definition definition = registry().definitions.get(key);
+        if (definition == null) {
+            throw new IllegalArgumentException("Unknown widget locator: " + key);
+        }
+        return definition;
+    }
+
+    /**
+     * Shared Selenium locator of the primary strategy
+     *
+     * @param key Widget ID
+     * @return By instance shared by all page objects
+     */
+    public static By by(String key) {
+        return definition(key).by();
+    }
+
+    /**
+     * Shared healing locator with all strategies
+     *
+     * @param key Widget ID
+     * @return HealingLocator instance shared by all page objects
+     */
+    public static HealingLocator healing(String key) {
+        return definition(key).locator();
+    }
+
+    /**
+     * All registered widget IDs in resource order
+     *
+     * @return Widget IDs
+     */
+    public static Set<String> keys() {
+        return registry().definitions.keySet();
+    }
+
+    /**
+     * Widgets registered for a screen, including widgets present on all screens
+     *
+     * @param screen Screen name (e.g. FNOL_POLICY_SEARCH)
+     * @return Definitions in resource order
+     */
+    public static List<Definition> forScreen(String screen) {
+        List<Definition> result = new ArrayList<>();
+        for (Definition definition : registry().definitions.values()) {
+            if (definition.screens().contains(screen) || definition.screens().contains(ALL_SCREENS)) {
+                result.add(definition);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Widget ID owning a primary Selenium locator
+     *
+     * @param locator Selenium locator
+     * @return Widget ID, or empty for page-local locators
+     */
+    public static Optional<String> keyOf(By locator) {
+        return Optional.ofNullable(registry().keysByLocator.get(locator));
+    }
+
+    /**
+     * Check whether a widget ID is registered
+     *
+     * @param key Widget ID
+     * @return true if registered
+     */
+    public static boolean contains(String key) {
+        return registry().definitions.containsKey(key);
+    }
+
+    // ========================================
+    // Statistics
+    // ========================================
+
+    /**
+     * Record a successful resolution; unknown locators are ignored
+     *
+     * @param locator Selenium locator
+     */
+    public static void recordResolution(By locator) {
+        keyOf(locator).ifPresent(key -> recordResolution(key, false));
+    }
+
+    /**
+     * Record a successful resolution
+     *
+     * @param key Widget ID
+     * @param healed True if a non-primary strategy won
+     */
+    public static void recordResolution(String key, boolean healed) {
+        Counters stats = registry().counters.get(key);
+        if (stats != null) {
+            stats.resolutions.increment();
+            if (healed) {
+                stats.heals.increment();
+            }
+        }
+    }
+
+    /**
+     * Record a failed resolution; unknown locators are ignored
+     *
+     * @param locator Selenium locator
+     */
+    public static void recordFailure(By locator) {
+        keyOf(locator).ifPresent(LocatorRegistry::recordFailure);
+    }
+
+    /**
+     * Record a failed resolution
+     *
+     * @param key Widget ID
+     */
+    public static void recordFailure(String key) {
+        Counters stats = registry().counters.get(key);
+        if (stats != null) {
+            stats.failures.increment();
+        }
+    }
+
+    /**
+     * Record the profiled evaluation cost of a widget's primary strategy
+     *
+     * @param key Widget ID
+     * @param micros Average evaluation time in microseconds
+     */
+    public static void recordCost(String key, double micros) {
+        Counters stats = registry().counters.get(key);
+        if (stats != null) {
+            stats.lastCostMicros = micros;
+        }
+    }
+
+    /**
+     * Statistics for one widget
+     *
+     * @param key Widget ID
+     * @return Statistics snapshot
+     */
+    public static Statistics statistics(String key) {
+        definition(key);
+        Counters stats = registry().counters.get(key);
+        return new Statistics(key, stats.resolutions.sum(), stats.heals.sum(),
+                stats.failures.sum(), stats.lastCostMicros);
+    }
+
+    /**
+     * Statistics for all widgets
+     *
+     * @return Statistics snapshots in resource order
+     */
+    public static List<Statistics> statistics() {
+        List<Statistics> result = new ArrayList<>();
+        for (String key : keys()) {
+            result.add(statistics(key));
+        }
+        return result;
+    }
+
+    /**
+     * Log statistics of every widget that was used during this run
+     */
+    public static void logStatistics() {
+        List<Statistics> used = new ArrayList<>();
+        for (Statistics stats : statistics()) {
+            if (stats.resolutions() + stats.failures() > 0 || stats.lastCostMicros() >= 0) {
+                used.add(stats);
+            }
+        }
+        if (used.isEmpty()) {
+            return;
+        }
+        logger.info("=== Widget Locator Statistics ===");
+        for (Statistics stats : used) {
+            logger.info("{}: resolutions={}, heals={}, failures={}, cost={}",
+                    stats.key(), stats.resolutions(), stats.heals(), stats.failures(),
+                    stats.lastCostMicros() >= 0 ? String.format("%.1fus", stats.lastCostMicros()) : "n/a");
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.enterprise.mercury.core.locators;
+
+import org.openqa.selenium.By;
+
+/**
+ * One way of locating an element: a strategy type plus its value
+ * String form is "type:value" (e.g. "id:TabBar-ClaimTab", "xpath://div[@id='x']")
+ *
+ * @param type Strategy type
+ * @param value Selector value for that type
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public record LocatorStrategy(Type type, String value) {
+
+    /**
+     * Supported strategy types, in the order they are usually cheapest to evaluate
+     */
+    public enum Type {
+        ID("id"),
+        NAME("name"),
+        ARIA_LABEL("aria"),
+        CSS("css"),
+        XPATH("xpath");
+
+        private final String prefix;
+
+        Type(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public String getPrefix() {
+            return prefix;
+        }
+
+        static Type fromPrefix(String prefix) {
+            for (Type type : values()) {
+                if (type.prefix.equalsIgnoreCase(prefix)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown locator strategy type: " + prefix);
+        }
+    }
+
+    public static LocatorStrategy id(String id) {
+        return new LocatorStrategy(Type.ID, id);
+    }
+
+    public static LocatorStrategy name(String name) {
+        return new LocatorStrategy(Type.NAME, name);
+    }
+
+    public static LocatorStrategy ariaLabel(String label) {
+        return new LocatorStrategy(Type.ARIA_LABEL, label);
+    }
+
+    public static LocatorStrategy css(String selector) {
+        return new LocatorStrategy(Type.CSS, selector);
+    }
+
+    public static LocatorStrategy xpath(String expression) {
+        return new LocatorStrategy(Type.XPATH, expression);
+    }
+
+    /**
+     * Parse the "type:value" string form
+     *
+     * @param text Strategy text
+     * @return LocatorStrategy
+     */
+    public static LocatorStrategy parse(String text) {
+        int separator = text.indexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Locator strategy must look like 'type:value': " + text);
+        }
+        return new LocatorStrategy(Type.fromPrefix(text.substring(0, separator).trim()),
+                                   text.substring(separator + 1).trim());
+    }
+
+    /**
+     * Convert a Selenium By into a strategy
+     * Supports By.id, By.name, By.cssSelector, By.xpath, By.className and By.tagName
+     *
+     * @param by Selenium locator
+     * @return LocatorStrategy
+     */
+    public static LocatorStrategy from(By by) {
+        String text = by.toString();
+        int separator = text.indexOf(": ");
+        if (separator < 0) {
+            throw new IllegalArgumentException("Unsupported locator: " + text);
+        }
+        String kind = text.substring(0, separator);
+        String value = text.substring(separator + 2);
+        switch (kind) {
+            case "By.id":
+                return id(value);
+            case "By.name":
+                return name(value);
+            case "By.cssSelector":
+                return css(value);
+            case "By.xpath":
+                return xpath(value);
+            case "By.className":
+                return css("." + value);
+            case "By.tagName":
+                return css(value);
+            default:
+                throw new IllegalArgumentException("Unsupported locator: " + text);
+        }
+    }
+
+    /**
+     * Convert to a Selenium By
+     *
+     * @return Selenium locator
+     */
+    public By toBy() {
+        switch (type) {
+            case ID:
+                return By.id(value);
+            case NAME:
+                return By.name(value);
+            case ARIA_LABEL:
+                return By.cssSelector("[aria-label=\"" + cssEscape(value) + "\"]");
+            case CSS:
+                return By.cssSelector(value);
+            case XPATH:
+            default:
+                return By.xpath(value);
+        }
+    }
+
+    /**
+     * Escape a value the way the browser's CSS.escape() does, so selectors built here
+     * match the ones the healing and message scripts build in the page
+     *
+     * @param value Raw value
+     * @return Escaped value, safe inside a quoted CSS attribute selector
+     */
+    public static String cssEscape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == 0) {
+                escaped.append('\uFFFD');
+            } else if (c <= 0x1F || c == 0x7F
+                    || (i == 0 && c >= '0' && c <= '9')
+                    || (i == 1 && c >= '0' && c <= '9' && value.charAt(0) == '-')) {
+                escaped.append('\\').append(Integer.toHexString(c)).append(' ');
+            } else if (i == 0 && c == '-' && value.length() == 1) {
+                escaped.append("\\-");
+            } else if (c >= 0x80 || c == '-' || c == '_'
+                    || (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                escaped.append(c);
+            } else {
+                escaped.append('\\').append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    @Override
+    public String toString() {
+        return type.getPrefix() + ":" + value;
+    }
+}
@@ -0,0 +1,227 @@
+package com.enterprise.mercury.core.locators;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates widget locators against captured page snapshots without a browser
+ * Every strategy of every registry widget, and every locator a page object declares
+ * itself, is evaluated with jsoup (CSS and XPath 1.0) against the snapshots of the
+ * screens it belongs to. Missing, ambiguous and healed (primary broken, fallback
+ * matches) locators are reported in seconds.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class OfflineLocatorValidator {
+
+    private static final Logger logger = LogManager.getLogger(OfflineLocatorValidator.class);
+
+    private final PageSnapshotStore store;
+
+    /**
+     * Validation outcome of one widget on one screen
+     */
+    public enum Status {
+        OK,
+        HEALED,
+        AMBIGUOUS,
+        MISSING,
+        OPTIONAL_ABSENT,
+        ERROR;
+
+        public boolean isProblem() {
+            return this == HEALED || this == AMBIGUOUS || this == MISSING || this == ERROR;
+        }
+    }
+
+    /**
+     * Result for one widget on one screen snapshot
+     *
+     * @param widget Widget ID
+     * @param screen Screen name
+     * @param status Outcome
+     * @param matches Match count per strategy, in rank order (-1 on evaluation error)
+     * @param message Detail for problems, or empty
+     */
+    public record Finding(String widget, String screen, Status status, List<Integer> matches, String message) {
+    }
+
+    public OfflineLocatorValidator(PageSnapshotStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Validate every registry widget against the snapshots of its screens
+     *
+     * @return Findings grouped in registry order
+     */
+    public List<Finding> validateRegistry() {
+        List<LocatorRegistry.Definition> definitions = new ArrayList<>();
+        for (String key : LocatorRegistry.keys()) {
+            definitions.add(LocatorRegistry.definition(key));
+        }
+        return validate(definitions);
+    }
+
+    /**
+     * Validate the locators page object classes declare outside the registry
+     * Static By and HealingLocator fields are read without a browser. Each field is checked
+     * on every screen its page is listed for; a locator that only shows on some of them, or
+     * only on error, belongs in the registry with its own screens or as optional.
+     *
+     * @param pagesByScreen Page object classes per screen name
+     * @return Findings, with the widget named "Page.field"
+     */
+    public List<Finding> validatePages(Map<String, ? extends Collection<? extends Class<?>>> pagesByScreen) {
+        Map<Class<?>, Set<String>> screensByPage = new LinkedHashMap<>();
+        pagesByScreen.forEach((screen, pages) -> pages.forEach(page ->
+                screensByPage.computeIfAbsent(page, p -> new LinkedHashSet<>()).add(screen)));
+
+        List<LocatorRegistry.Definition> definitions = new ArrayList<>();
+        screensByPage.forEach((page, screens) -> {
+            // Healing locator fields come back as "Page.field#rank"; regroup them per field
+            Map<String, List<LocatorStrategy>> fields = new LinkedHashMap<>();
+            LocatorProfiler.collectStaticLocators(page).forEach((name, strategy) ->
+                    fields.computeIfAbsent(name.replaceFirst("#\\d+$", ""), n -> new ArrayList<>()).add(strategy));
+            fields.forEach((name, strategies) -> {
+                HealingLocator locator = HealingLocator.of(name, strategies);
+                definitions.add(new LocatorRegistry.Definition(name, List.copyOf(screens), false,
+                        locator, locator.getPrimary().toBy()));
+            });
+        });
+        return validate(definitions);
+    }
+
+    /**
+     * Validate widget definitions against the snapshots of their screens
+     * Widgets without a captured snapshot for any of their screens are not reported.
+     *
+     * @param definitions Widget definitions
+     * @return Findings
+     */
+    public List<Finding> validate(Collection<LocatorRegistry.Definition> definitions) {
+        Map<String, Document> documents = new LinkedHashMap<>();
+        for (String screen : store.screens()) {
+            documents.put(screen, Jsoup.parse(store.load(screen)));
+        }
+        logger.info("Validating {} widgets against {} page snapshots in {}",
+                definitions.size(), documents.size(), store.getDirectory());
+
+        List<Finding> findings = new ArrayList<>();
+        for (LocatorRegistry.Definition definition : definitions) {
+            for (Map.Entry<String, Document> snapshot : documents.entrySet()) {
+                if (definition.screens().contains(snapshot.getKey())
+                        || definition.screens().contains(LocatorRegistry.ALL_SCREENS)) {
+                    findings.add(validate(definition, snapshot.getKey(), snapshot.getValue()));
+                }
+            }
+        }
+        return findings;
+    }
+
+    private static Finding validate(LocatorRegistry.Definition definition, String screen, Document document) {
+        List<LocatorStrategy> strategies = definition.locator().getStrategies();
+        List<Integer> matches = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (LocatorStrategy strategy : strategies) {
+            try {
+                matches.add(evaluate(document, strategy).size());
+            } catch (RuntimeException e) {
+                matches.add(-1);
+                errors.add(strategy + ": " + e.getMessage());
+            }
+        }
+
+        int primary = matches.get(0);
+        Status status;
+        String message = "";
+        if (primary == 1) {
+            status = Status.OK;
+        } else if (primary > 1) {
+            status = Status.AMBIGUOUS;
+            message = primary + " elements match " + strategies.get(0);
+        } else if (primary < 0) {
+            status = Status.ERROR;
+            message = errors.get(0);
+        } else {
+            int fallback = -1;
+            for (int i = 1; i < matches.size() && fallback < 0; i++) {
+                if (matches.get(i) > 0) {
+                    fallback = i;
+                }
+            }
+            if (fallback > 0) {
+                status = Status.HEALED;
+                message = "primary " + strategies.get(0) + " missing, fallback " + strategies.get(fallback) + " matches";
+            } else {
+                status = definition.optional() ? Status.OPTIONAL_ABSENT : Status.MISSING;
+                message = definition.optional() ? "" : "no strategy matches";
+            }
+        }
+        return new Finding(definition.key(), screen, status, List.copyOf(matches), message);
+    }
+
+    /**
+     * Evaluate one strategy against a parsed snapshot
+     *
+     * @param document Parsed page source
+     * @param strategy Locator strategy
+     * @return Matching elements in document order
+     */
+    static List<Element> evaluate(Document document, LocatorStrategy strategy) {
+        switch (strategy.type()) {
+            case ID:
+                return withAttribute(document, "id", strategy.value());
+            case NAME:
+                return withAttribute(document, "name", strategy.value());
+            case ARIA_LABEL:
+                return withAttribute(document, "aria-label", strategy.value());
+            case CSS:
+                return document.select(strategy.value());
+            default:
+                return document.selectXpath(strategy.value());
+        }
+    }
+
+    // jsoup attribute selectors ignore case; browsers compare id/name exactly
+    private static List<Element> withAttribute(Document document, String attribute, String value) {
+        List<Element> result = new ArrayList<>();
+        for (Element element : document.getElementsByAttribute(attribute)) {
+            if (value.equals(element.attr(attribute))) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Format findings as a Markdown table
+     *
+     * @param findings Validation findings
+     * @return Markdown report
+     */
+    public static String formatReport(List<Finding> findings) {
+        long problems = findings.stream().filter(f -> f.status().isProblem()).count();
+        StringBuilder report = new StringBuilder("## Offline Locator Validation\n\n");
+        report.append(findings.size()).append(" checks, ").append(problems).append(" problem(s)\n\n");
+        report.append("| Widget | Screen | Status | Matches per strategy | Detail |\n");
+        report.append("|---|---|---|---|---|\n");
+        for (Finding finding : findings) {
+            report.append(String.format("| %s | %s | %s | %s | %s |%n", finding.widget(), finding.screen(),
+                    finding.status(), finding.matches(), finding.message()));
+        }
+        return report.append('\n').toString();
+    }
+}
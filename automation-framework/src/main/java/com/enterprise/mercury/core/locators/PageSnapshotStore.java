@@ -0,0 +1,129 @@
+package com.enterprise.mercury.core.locators;
+
+import com.enterprise.mercury.core.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Store of captured page sources, one file per screen (SCREEN.html)
+ * Snapshots are captured once against a live environment and then used for
+ * offline locator validation and profiling without a browser.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class PageSnapshotStore {
+
+    private static final Logger logger = LogManager.getLogger(PageSnapshotStore.class);
+    private static final String EXTENSION = ".html";
+
+    private final Path directory;
+
+    /**
+     * Create a store on the configured page.snapshot.dir
+     */
+    public PageSnapshotStore() {
+        this(Paths.get(ConfigManager.getInstance().getProperty("page.snapshot.dir", "../test-assets/page-snapshots")));
+    }
+
+    /**
+     * Create a store on a directory
+     *
+     * @param directory Snapshot directory
+     */
+    public PageSnapshotStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Capture the current page source of the driver as a screen snapshot
+     *
+     * @param driver WebDriver showing the screen
+     * @param screen Screen name (e.g. FNOL_POLICY_SEARCH)
+     * @return Path of the written snapshot
+     */
+    public Path capture(WebDriver driver, String screen) {
+        return save(screen, driver.getPageSource());
+    }
+
+    /**
+     * Save a page source as a screen snapshot, replacing any previous one
+     *
+     * @param screen Screen name
+     * @param html Page source
+     * @return Path of the written snapshot
+     */
+    public Path save(String screen, String html) {
+        Path file = path(screen);
+        try {
+            Files.createDirectories(directory);
+            Files.write(file, html.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to save page snapshot: " + file, e);
+        }
+        logger.info("Captured page snapshot for {}: {}", screen, file);
+        return file;
+    }
+
+    /**
+     * Load the snapshot of a screen
+     *
+     * @param screen Screen name
+     * @return Page source
+     */
+    public String load(String screen) {
+        Path file = path(screen);
+        try {
+            return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read page snapshot: " + file, e);
+        }
+    }
+
+    /**
+     * Screens with a captured snapshot
+     *
+     * @return Sorted screen names, empty if the directory does not exist
+     */
+    public List<String> screens() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.endsWith(EXTENSION))
+                    .map(name -> name.substring(0, name.length() - EXTENSION.length()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to list page snapshots: " + directory, e);
+        }
+    }
+
+    /**
+     * Snapshot file of a screen
+     *
+     * @param screen Screen name
+     * @return Snapshot path (may not exist)
+     */
+    public Path path(String screen) {
+        if (!screen.matches("[A-Za-z0-9_-]+")) {
+            throw new IllegalArgumentException("Invalid screen name: " + screen);
+        }
+        return directory.resolve(screen + EXTENSION);
+    }
+}
@@ -0,0 +1,369 @@
+package com.enterprise.mercury.core.locators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Suggests cheaper equivalents for XPath locators
+ * Translates the XPath subset used by our page objects (tag steps, positional
+ * indexes, @attr='v', contains(), starts-with(), and/or) into CSS selectors, or
+ * into id/name lookups when the XPath only pins one of those attributes.
+ * Expressions outside the subset (text(), axes, functions) get no suggestion.
+ * Suggestions must still be checked against a real DOM before being adopted.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class SelectorSuggester {
+
+    private static final Pattern CSS_IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_-]*");
+    private static final Pattern TAG = Pattern.compile("\\*|[A-Za-z][A-Za-z0-9-]*");
+
+    // Private constructor
+    private SelectorSuggester() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Suggest a cheaper strategy for a locator
+     *
+     * @param strategy Current strategy
+     * @return Suggested strategy, or empty when none is known
+     */
+    public static Optional<LocatorStrategy> suggest(LocatorStrategy strategy) {
+        try {
+            switch (strategy.type()) {
+                case XPATH:
+                    return Optional.of(fromXpath(strategy.value()));
+                case CSS:
+                    return fromCss(strategy.value());
+                default:
+                    return Optional.empty();
+            }
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<LocatorStrategy> fromCss(String css) {
+        String value = css.trim();
+        if (value.startsWith("#") && CSS_IDENTIFIER.matcher(value.substring(1)).matches()) {
+            return Optional.of(LocatorStrategy.id(value.substring(1)));
+        }
+        return Optional.empty();
+    }
+
+    private static LocatorStrategy fromXpath(String xpath) {
+        List<String> steps = splitSteps(xpath.trim());
+
+        // Single step pinning only an id or name attribute -> direct lookup
+        if (steps.size() == 2 && steps.get(0).equals("//")) {
+            Step step = Step.parse(steps.get(1));
+            if (step.tag.equals("*") && step.index == null && step.alternatives.size() == 1
+                    && step.alternatives.get(0).size() == 1) {
+                String term = step.alternatives.get(0).get(0);
+                if (term.startsWith("#")) {
+                    return LocatorStrategy.id(term.substring(1));
+                }
+                if (term.startsWith("[id=")) {
+                    return LocatorStrategy.id(unquote(term.substring(4, term.length() - 1)));
+                }
+                if (term.startsWith("[name=")) {
+                    return LocatorStrategy.name(unquote(term.substring(6, term.length() - 1)));
+                }
+            }
+        }
+
+        // Build the selector step by step; only the last step may contain "or"
+        List<String> prefixes = List.of("");
+        for (int i = 0; i < steps.size(); i += 2) {
+            String axis = steps.get(i);
+            Step step = Step.parse(steps.get(i + 1));
+            if (step.alternatives.size() > 1 && i + 2 < steps.size()) {
+                throw new IllegalArgumentException("'or' is only supported in the last step");
+            }
+            String combinator = i == 0 ? "" : axis.equals("//") ? " " : " > ";
+            List<String> next = new ArrayList<>();
+            for (String prefix : prefixes) {
+                for (String selector : step.toCss()) {
+                    next.add(prefix + combinator + selector);
+                }
+            }
+            prefixes = next;
+        }
+        return LocatorStrategy.css(String.join(", ", prefixes));
+    }
+
+    /**
+     * Split an absolute XPath into [axis, step, axis, step, ...] outside brackets and quotes
+     */
+    private static List<String> splitSteps(String xpath) {
+        if (!xpath.startsWith("/")) {
+            throw new IllegalArgumentException("Only absolute XPath is supported: " + xpath);
+        }
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        StringBuilder current = new StringBuilder();
+        int i = 0;
+        while (i < xpath.length()) {
+            char c = xpath.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+                current.append(c);
+                i++;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+                current.append(c);
+                i++;
+            } else if (c == '[' || c == '(') {
+                depth++;
+                current.append(c);
+                i++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+                current.append(c);
+                i++;
+            } else if (c == '/' && depth == 0) {
+                if (current.length() > 0) {
+                    parts.add(current.toString());
+                    current.setLength(0);
+                }
+                boolean descendant = i + 1 < xpath.length() && xpath.charAt(i + 1) == '/';
+                parts.add(descendant ? "//" : "/");
+                i += descendant ? 2 : 1;
+            } else {
+                current.append(c);
+                i++;
+            }
+        }
+        if (current.length() == 0) {
+            throw new IllegalArgumentException("XPath ends with an axis: " + xpath);
+        }
+        parts.add(current.toString());
+        if (parts.size() % 2 != 0) {
+            throw new IllegalArgumentException("Unsupported XPath: " + xpath);
+        }
+        return parts;
+    }
+
+    private static String unquote(String literal) {
+        return literal.substring(1, literal.length() - 1);
+    }
+
+    private static String cssLiteral(String value) {
+        if (value.indexOf('\'') < 0) {
+            return "'" + value + "'";
+        }
+        return "\"" + value.replace("\"", "\\\"") + "\"";
+    }
+
+    /**
+     * One location step: tag, predicate in disjunctive normal form, optional position
+     */
+    private static final class Step {
+        private String tag;
+        private Integer index;
+        private List<List<String>> alternatives = List.of(List.of());
+
+        static Step parse(String text) {
+            Step step = new Step();
+            int bracket = text.indexOf('[');
+            step.tag = bracket < 0 ? text : text.substring(0, bracket);
+            if (!TAG.matcher(step.tag).matches()) {
+                throw new IllegalArgumentException("Unsupported step: " + text);
+            }
+            int position = bracket;
+            while (position >= 0 && position < text.length()) {
+                int end = matchingBracket(text, position);
+                String predicate = text.substring(position + 1, end).trim();
+                if (predicate.matches("\\d+")) {
+                    if (step.tag.equals("*") || step.index != null) {
+                        throw new IllegalArgumentException("Unsupported position predicate: " + text);
+                    }
+                    step.index = Integer.valueOf(predicate);
+                } else {
+                    if (step.index != null) {
+                        throw new IllegalArgumentException("Predicate after position is not supported: " + text);
+                    }
+                    step.alternatives = and(step.alternatives, new PredicateParser(predicate).parse());
+                }
+                position = end + 1 < text.length() ? end + 1 : -1;
+                if (position > 0 && text.charAt(position) != '[') {
+                    throw new IllegalArgumentException("Unsupported step: " + text);
+                }
+            }
+            return step;
+        }
+
+        List<String> toCss() {
+            String base = tag.equals("*") ? "" : tag;
+            String position = index == null ? "" : ":nth-of-type(" + index + ")";
+            List<String> selectors = new ArrayList<>();
+            for (List<String> conjunction : alternatives) {
+                String selector = base + String.join("", conjunction) + position;
+                selectors.add(selector.isEmpty() ? "*" : selector);
+            }
+            return selectors;
+        }
+
+        private static int matchingBracket(String text, int open) {
+            int depth = 0;
+            char quote = 0;
+            for (int i = open; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '\'' || c == '"') {
+                    quote = c;
+                } else if (c == '[') {
+                    depth++;
+                } else if (c == ']' && --depth == 0) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("Unbalanced predicate: " + text);
+        }
+    }
+
+    private static List<List<String>> and(List<List<String>> left, List<List<String>> right) {
+        List<List<String>> result = new ArrayList<>();
+        for (List<String> l : left) {
+            for (List<String> r : right) {
+                List<String> combined = new ArrayList<>(l);
+                combined.addAll(r);
+                result.add(combined);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Recursive descent parser for predicate expressions, producing DNF
+     */
+    private static final class PredicateParser {
+        private final String text;
+        private int pos;
+
+        PredicateParser(String text) {
+            this.text = text;
+        }
+
+        List<List<String>> parse() {
+            List<List<String>> result = orExpression();
+            skipSpaces();
+            if (pos != text.length()) {
+                throw new IllegalArgumentException("Unsupported predicate: " + text);
+            }
+            return result;
+        }
+
+        private List<List<String>> orExpression() {
+            List<List<String>> result = new ArrayList<>(andExpression());
+            while (keyword("or")) {
+                result.addAll(andExpression());
+            }
+            return result;
+        }
+
+        private List<List<String>> andExpression() {
+            List<List<String>> result = primary();
+            while (keyword("and")) {
+                result = and(result, primary());
+            }
+            return result;
+        }
+
+        private List<List<String>> primary() {
+            skipSpaces();
+            if (text.startsWith("(", pos)) {
+                pos++;
+                List<List<String>> inner = orExpression();
+                expect(")");
+                return inner;
+            }
+            return List.of(List.of(term()));
+        }
+
+        private String term() {
+            skipSpaces();
+            if (text.startsWith("contains(", pos) || text.startsWith("starts-with(", pos)) {
+                boolean contains = text.startsWith("contains(", pos);
+                pos += contains ? "contains(".length() : "starts-with(".length();
+                String attribute = attribute();
+                expect(",");
+                String value = literal();
+                expect(")");
+                return "[" + attribute + (contains ? "*=" : "^=") + cssLiteral(value) + "]";
+            }
+            String attribute = attribute();
+            expect("=");
+            String value = literal();
+            if (attribute.equals("id") && CSS_IDENTIFIER.matcher(value).matches()) {
+                return "#" + value;
+            }
+            return "[" + attribute + "=" + cssLiteral(value) + "]";
+        }
+
+        private String attribute() {
+            skipSpaces();
+            if (!text.startsWith("@", pos)) {
+                throw new IllegalArgumentException("Only attribute tests are supported: " + text);
+            }
+            int start = ++pos;
+            while (pos < text.length() && (Character.isLetterOrDigit(text.charAt(pos))
+                    || text.charAt(pos) == '-' || text.charAt(pos) == '_')) {
+                pos++;
+            }
+            if (start == pos) {
+                throw new IllegalArgumentException("Missing attribute name: " + text);
+            }
+            return text.substring(start, pos);
+        }
+
+        private String literal() {
+            skipSpaces();
+            char quote = pos < text.length() ? text.charAt(pos) : 0;
+            if (quote != '\'' && quote != '"') {
+                throw new IllegalArgumentException("Expected string literal: " + text);
+            }
+            int end = text.indexOf(quote, pos + 1);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unterminated literal: " + text);
+            }
+            String value = text.substring(pos + 1, end);
+            pos = end + 1;
+            return value;
+        }
+
+        private boolean keyword(String word) {
+            skipSpaces();
+            if (text.startsWith(word, pos) && pos + word.length() < text.length()
+                    && !Character.isLetterOrDigit(text.charAt(pos + word.length()))) {
+                pos += word.length();
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String token) {
+            skipSpaces();
+            if (!text.startsWith(token, pos)) {
+                throw new IllegalArgumentException("Expected '" + token + "' in: " + text);
+            }
+            pos += token.length();
+        }
+
+        private void skipSpaces() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+    }
+}
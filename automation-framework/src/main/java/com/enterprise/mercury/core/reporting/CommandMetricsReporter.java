@@ -0,0 +1,114 @@
+package com.enterprise.mercury.core.reporting;
+
+import com.enterprise.mercury.core.config.ConfigManager;
+import com.enterprise.mercury.core.driver.CommandRecord;
+import com.enterprise.mercury.core.driver.CommandRecorder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Publishes WebDriver command metrics captured by the CommandRecorder
+ * Per-test totals and the slowest commands go to Allure; one line per test
+ * is collected for the suite summary file.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class CommandMetricsReporter {
+
+    private static final Logger logger = LogManager.getLogger(CommandMetricsReporter.class);
+    private static final String SUMMARY_FILE = "command-summary.csv";
+
+    private static final Queue<String> summaryLines = new ConcurrentLinkedQueue<>();
+
+    // Private constructor
+    private CommandMetricsReporter() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Publish the current thread's command metrics for a finished test and reset the buffer
+     *
+     * @param testName Test name used in the report and summary file
+     */
+    public static void publishTestMetrics(String testName) {
+        List<CommandRecord> records = CommandRecorder.snapshot();
+        CommandRecorder.reset();
+        if (records.isEmpty()) {
+            return;
+        }
+
+        long totalNanos = records.stream().mapToLong(CommandRecord::durationNanos).sum();
+        long failures = records.stream().filter(r -> !r.success()).count();
+
+        String report = formatReport(testName, records, totalNanos, failures);
+        AllureConfig.addAttachment("WebDriver Commands", report);
+        logger.info("{}: {} WebDriver commands, {} ms total, {} failed",
+                    testName, records.size(), totalNanos / 1_000_000, failures);
+
+        summaryLines.add(String.format("%s,%d,%d,%d", testName, records.size(), totalNanos / 1_000_000, failures));
+    }
+
+    /**
+     * Write all collected per-test totals to the summary file
+     */
+    public static void writeSummary() {
+        if (summaryLines.isEmpty()) {
+            return;
+        }
+        Path dir = Paths.get(ConfigManager.getInstance().getProperty("command.metrics.dir", "target/command-metrics"));
+        Path file = dir.resolve(SUMMARY_FILE);
+        try {
+            Files.createDirectories(dir);
+            StringBuilder content = new StringBuilder("test,commands,total_ms,failed\n");
+            summaryLines.forEach(line -> content.append(line).append('\n'));
+            Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+            logger.info("WebDriver command summary written to: {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to write command summary: {}", file, e);
+        }
+    }
+
+    private static String formatReport(String testName, List<CommandRecord> records, long totalNanos, long failures) {
+        int topN = Integer.parseInt(ConfigManager.getInstance().getProperty("command.metrics.top.n", "10"));
+        StringBuilder report = new StringBuilder();
+        report.append("Test: ").append(testName).append('\n');
+        report.append("Commands: ").append(records.size())
+              .append(", total: ").append(totalNanos / 1_000_000).append(" ms")
+              .append(", failed: ").append(failures)
+              .append(", polling: ").append(records.stream().filter(CommandRecord::polling).count()).append("\n\n");
+
+        // Totals per command name
+        Map<String, long[]> perCommand = new TreeMap<>();
+        for (CommandRecord record : records) {
+            long[] totals = perCommand.computeIfAbsent(record.name(), k -> new long[2]);
+            totals[0]++;
+            totals[1] += record.durationNanos();
+        }
+        report.append("Per command (count, total ms):\n");
+        perCommand.forEach((name, totals) ->
+                report.append(String.format("  %-40s %6d %10.1f%n", name, totals[0], totals[1] / 1_000_000.0)));
+
+        report.append("\nTop ").append(topN).append(" slowest commands:\n");
+        records.stream()
+               .sorted(Comparator.comparingLong(CommandRecord::durationNanos).reversed())
+               .limit(topN)
+               .forEach(r -> report.append(String.format("  %10.1f ms  %-30s %s%s%n",
+                       r.durationMillis(), r.name(),
+                       r.locator() == null ? "" : r.locator(),
+                       r.success() ? "" : "  [" + r.error() + "]")));
+        return report.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package com.enterprise.mercury.core.retry;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.interactions.MoveTargetOutOfBoundsException;
+
+/**
+ * Classification of WebDriver interaction failures
+ * Each category is retried with its own limit and backoff by a RetryPolicy
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public enum FailureCategory {
+
+    STALE_ELEMENT("stale"),
+    CLICK_INTERCEPTED("intercepted"),
+    NOT_INTERACTABLE("not.interactable"),
+    TIMEOUT("timeout"),
+    NON_RETRYABLE("non.retryable");
+
+    private final String configKey;
+
+    FailureCategory(String configKey) {
+        this.configKey = configKey;
+    }
+
+    /**
+     * Key suffix used for this category in config.properties (e.g. click.retry.stale)
+     *
+     * @return Config key suffix
+     */
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    /**
+     * Classify a failure by walking its cause chain
+     * The most specific Selenium exception found wins
+     *
+     * @param failure Exception thrown by the interaction
+     * @return Failure category
+     */
+    public static FailureCategory classify(Throwable failure) {
+        Throwable current = failure;
+        while (current != null) {
+            // Intercepted extends NotInteractable, so it must be checked first
+            if (current instanceof StaleElementReferenceException) {
+                return STALE_ELEMENT;
+            }
+            if (current instanceof ElementClickInterceptedException) {
+                return CLICK_INTERCEPTED;
+            }
+            if (current instanceof ElementNotInteractableException
+                    || current instanceof MoveTargetOutOfBoundsException) {
+                return NOT_INTERACTABLE;
+            }
+            if (current instanceof TimeoutException) {
+                return TIMEOUT;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+            current = current.getCause();
+        }
+        return NON_RETRYABLE;
+    }
+}
@@ -0,0 +1,94 @@
+package com.enterprise.mercury.core.retry;
+
+import com.enterprise.mercury.core.utils.WaitUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+/**
+ * Action executed between two attempts of a retried interaction
+ * Implementations should wait for a concrete condition instead of sleeping blindly
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface RetryBackoff {
+
+    /**
+     * Prepare the page before the next attempt
+     *
+     * @param driver WebDriver instance
+     * @param locator Locator of the element being interacted with
+     * @param attempt Number of the attempt that just failed (1-based)
+     */
+    void beforeRetry(WebDriver driver, By locator, int attempt);
+
+    /**
+     * Retry immediately - the next attempt re-finds the element
+     *
+     * @return Backoff that does nothing
+     */
+    static RetryBackoff immediate() {
+        return (driver, locator, attempt) -> { };
+    }
+
+    /**
+     * Wait until a blocking overlay is gone from the page
+     * Returns immediately when the overlay is not present
+     *
+     * @param overlay Overlay locator (e.g. Guidewire's gw-click-overlay)
+     * @param timeoutInSeconds Maximum wait for the overlay to disappear
+     * @return Overlay wait backoff
+     */
+    static RetryBackoff waitForOverlay(By overlay, int timeoutInSeconds) {
+        return (driver, locator, attempt) -> {
+            try {
+                WaitUtils.waitForElementInvisible(driver, overlay, timeoutInSeconds);
+            } catch (WebDriverException e) {
+                LogManager.getLogger(RetryBackoff.class)
+                        .warn("Overlay {} still present after {}s", overlay, timeoutInSeconds);
+            }
+        };
+    }
+
+    /**
+     * Scroll the element into the middle of the viewport
+     * Fixes elements hidden behind sticky headers or outside the viewport
+     *
+     * @return Scroll backoff
+     */
+    static RetryBackoff scrollIntoView() {
+        return (driver, locator, attempt) -> {
+            Logger logger = LogManager.getLogger(RetryBackoff.class);
+            try {
+                List<WebElement> elements = driver.findElements(locator);
+                if (!elements.isEmpty()) {
+                    ((JavascriptExecutor) driver).executeScript(
+                            "arguments[0].scrollIntoView({block: 'center', inline: 'nearest'});", elements.get(0));
+                }
+            } catch (WebDriverException e) {
+                logger.debug("Scroll before retry failed for {}: {}", locator, e.getMessage());
+            }
+        };
+    }
+
+    /**
+     * Run this backoff followed by another one
+     *
+     * @param next Backoff to run afterwards
+     * @return Combined backoff
+     */
+    default RetryBackoff andThen(RetryBackoff next) {
+        return (driver, locator, attempt) -> {
+            beforeRetry(driver, locator, attempt);
+            next.beforeRetry(driver, locator, attempt);
+        };
+    }
+}
@@ -0,0 +1,135 @@
+package com.enterprise.mercury.core.retry;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Retry counters per screen and failure category
+ * Shared by all threads; counters are lock-free LongAdders
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class RetryMetrics {
+
+    private static final Logger logger = LogManager.getLogger(RetryMetrics.class);
+
+    // Key format: "<screen>|<category>"
+    private static final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    // Key format: "<flow>|<step>"; values: [retries, retry millis, saved millis]
+    private static final Map<String, LongAdder[]> stepRetries = new ConcurrentHashMap<>();
+
+    // Private constructor
+    private RetryMetrics() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Record one retry
+     *
+     * @param screen Screen (page object) where the retry happened
+     * @param category Failure category that triggered the retry
+     */
+    public static void record(String screen, FailureCategory category) {
+        counters.computeIfAbsent(screen + "|" + category.name(), k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Record a wizard flow step that was retried instead of rerunning the whole test
+     *
+     * @param flow Flow name
+     * @param step Step name
+     * @param retryMillis Time from the first failure until the step succeeded
+     * @param savedMillis Time of completed steps a full-test rerun would have repeated
+     */
+    public static void recordStepRetry(String flow, String step, long retryMillis, long savedMillis) {
+        LongAdder[] values = stepRetries.computeIfAbsent(flow + "|" + step,
+                k -> new LongAdder[] {new LongAdder(), new LongAdder(), new LongAdder()});
+        values[0].increment();
+        values[1].add(retryMillis);
+        values[2].add(savedMillis);
+    }
+
+    /**
+     * Get a sorted snapshot of step retry totals
+     *
+     * @return Map of "flow|step" to [retries, retry millis, saved millis]
+     */
+    public static Map<String, long[]> stepRetrySnapshot() {
+        Map<String, long[]> snapshot = new TreeMap<>();
+        stepRetries.forEach((key, values) -> snapshot.put(key,
+                new long[] {values[0].sum(), values[1].sum(), values[2].sum()}));
+        return snapshot;
+    }
+
+    /**
+     * Get retry count for a screen and category
+     *
+     * @param screen Screen name
+     * @param category Failure category
+     * @return Number of retries recorded
+     */
+    public static long getCount(String screen, FailureCategory category) {
+        LongAdder adder = counters.get(screen + "|" + category.name());
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Get a sorted snapshot of all counters
+     *
+     * @return Map of "screen|category" to retry count
+     */
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((key, adder) -> snapshot.put(key, adder.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Format all counters as a readable table
+     *
+     * @return Summary text, one line per screen and category
+     */
+    public static String summary() {
+        StringBuilder summary = new StringBuilder("Screen | Category | Retries\n");
+        snapshot().forEach((key, count) -> {
+            String[] parts = key.split("\\|", 2);
+            summary.append(parts[0]).append(" | ").append(parts[1]).append(" | ").append(count).append('\n');
+        });
+        Map<String, long[]> steps = stepRetrySnapshot();
+        if (!steps.isEmpty()) {
+            summary.append("Flow | Step | Step Retries | Retry ms | Saved ms\n");
+            steps.forEach((key, values) -> {
+                String[] parts = key.split("\\|", 2);
+                summary.append(parts[0]).append(" | ").append(parts[1]).append(" | ").append(values[0])
+                       .append(" | ").append(values[1]).append(" | ").append(values[2]).append('\n');
+            });
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Log the summary if any retries were recorded
+     */
+    public static void logSummary() {
+        if (counters.isEmpty() && stepRetries.isEmpty()) {
+            logger.info("No interaction retries recorded");
+            return;
+        }
+        logger.info("=== Interaction Retries ===\n{}", summary());
+    }
+
+    /**
+     * Clear all counters
+     */
+    public static void reset() {
+        counters.clear();
+        stepRetries.clear();
+    }
+}
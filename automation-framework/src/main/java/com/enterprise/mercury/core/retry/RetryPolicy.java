@@ -0,0 +1,179 @@
+package com.enterprise.mercury.core.retry;
+
+import com.enterprise.mercury.core.config.ConfigManager;
+import com.enterprise.mercury.core.locators.LocatorRegistry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Retry policy for WebDriver interactions
+ * Failures are classified into a FailureCategory; each category has its own
+ * retry limit and backoff. Policies are immutable and safe to share across threads.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class RetryPolicy {
+
+    private static final Logger logger = LogManager.getLogger(RetryPolicy.class);
+
+    /** Guidewire overlay that swallows clicks while a server round trip is in flight */
+    public static final By GW_CLICK_OVERLAY = LocatorRegistry.by("gw.clickOverlay");
+
+    private static final int OVERLAY_WAIT_SECONDS = 10;
+
+    private final Map<FailureCategory, Rule> rules;
+
+    /**
+     * Retry limit and backoff for a single failure category
+     */
+    public static final class Rule {
+        private final int maxRetries;
+        private final RetryBackoff backoff;
+
+        public Rule(int maxRetries, RetryBackoff backoff) {
+            this.maxRetries = Math.max(0, maxRetries);
+            this.backoff = backoff;
+        }
+
+        public int getMaxRetries() {
+            return maxRetries;
+        }
+
+        public RetryBackoff getBackoff() {
+            return backoff;
+        }
+    }
+
+    /**
+     * Interaction to be retried
+     */
+    @FunctionalInterface
+    public interface Interaction {
+        void run();
+    }
+
+    private RetryPolicy(Map<FailureCategory, Rule> rules) {
+        this.rules = Collections.unmodifiableMap(new EnumMap<>(rules));
+    }
+
+    /**
+     * Policy that never retries
+     *
+     * @return Empty policy
+     */
+    public static RetryPolicy none() {
+        return new RetryPolicy(new EnumMap<>(FailureCategory.class));
+    }
+
+    /**
+     * Default policy for clicks, limits read from config.properties:
+     * click.retry.stale, click.retry.intercepted, click.retry.not.interactable, click.retry.timeout
+     *
+     * @return Click retry policy
+     */
+    public static RetryPolicy clickPolicy() {
+        return ClickPolicyHolder.INSTANCE;
+    }
+
+    // Built once on first use
+    private static final class ClickPolicyHolder {
+        private static final RetryPolicy INSTANCE = none()
+                .withRule(FailureCategory.STALE_ELEMENT, configuredRetries(FailureCategory.STALE_ELEMENT, 3),
+                          RetryBackoff.immediate())
+                .withRule(FailureCategory.CLICK_INTERCEPTED, configuredRetries(FailureCategory.CLICK_INTERCEPTED, 3),
+                          RetryBackoff.waitForOverlay(GW_CLICK_OVERLAY, OVERLAY_WAIT_SECONDS))
+                .withRule(FailureCategory.NOT_INTERACTABLE, configuredRetries(FailureCategory.NOT_INTERACTABLE, 2),
+                          RetryBackoff.waitForOverlay(GW_CLICK_OVERLAY, OVERLAY_WAIT_SECONDS)
+                                  .andThen(RetryBackoff.scrollIntoView()))
+                .withRule(FailureCategory.TIMEOUT, configuredRetries(FailureCategory.TIMEOUT, 0),
+                          RetryBackoff.waitForOverlay(GW_CLICK_OVERLAY, OVERLAY_WAIT_SECONDS));
+    }
+
+    // Read from the global snapshot: the policy is shared by all threads, so a ConfigScope
+    // open on the first clicking thread must not decide it. ConfigSnapshot already rejects
+    // a bad value at load; the fallback keeps this initializer from ever throwing.
+    private static int configuredRetries(FailureCategory category, int defaultValue) {
+        String key = "click.retry." + category.getConfigKey();
+        String value = ConfigManager.getInstance().getGlobalSnapshot().property(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid {} '{}', using {}", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Copy of this policy with the rule for one category replaced
+     *
+     * @param category Failure category
+     * @param maxRetries Maximum retries for the category
+     * @param backoff Backoff to run before each retry
+     * @return New policy
+     */
+    public RetryPolicy withRule(FailureCategory category, int maxRetries, RetryBackoff backoff) {
+        Map<FailureCategory, Rule> copy = new EnumMap<>(FailureCategory.class);
+        copy.putAll(rules);
+        copy.put(category, new Rule(maxRetries, backoff));
+        return new RetryPolicy(copy);
+    }
+
+    /**
+     * Get the rule for a category
+     *
+     * @param category Failure category
+     * @return Rule, or null when the category is never retried
+     */
+    public Rule getRule(FailureCategory category) {
+        return rules.get(category);
+    }
+
+    /**
+     * Run an interaction, retrying classified failures according to this policy
+     *
+     * @param driver WebDriver instance passed to backoffs
+     * @param locator Locator of the target element
+     * @param screen Screen name used for retry metrics
+     * @param action Action name used in log and error messages (e.g. "Click")
+     * @param interaction Interaction to run
+     * @throws RuntimeException when the failure is not retryable or its retries are exhausted
+     */
+    public void execute(WebDriver driver, By locator, String screen, String action, Interaction interaction) {
+        Map<FailureCategory, Integer> retries = new EnumMap<>(FailureCategory.class);
+        int attempt = 0;
+
+        while (true) {
+            attempt++;
+            try {
+                interaction.run();
+                return;
+            } catch (RuntimeException e) {
+                FailureCategory category = FailureCategory.classify(e);
+                Rule rule = rules.get(category);
+                int used = retries.getOrDefault(category, 0);
+
+                if (category == FailureCategory.NON_RETRYABLE || rule == null || used >= rule.getMaxRetries()) {
+                    logger.error("{} failed on {} after {} attempt(s) [{}]: {}",
+                                 action, locator, attempt, category, e.getMessage());
+                    throw new RuntimeException(action + " failed: " + locator, e);
+                }
+
+                retries.put(category, used + 1);
+                RetryMetrics.record(screen, category);
+                logger.warn("{} {} on {} (attempt {}), retry {}/{}",
+                            action, category, locator, attempt, used + 1, rule.getMaxRetries());
+                rule.getBackoff().beforeRetry(driver, locator, attempt);
+            }
+        }
+    }
+}
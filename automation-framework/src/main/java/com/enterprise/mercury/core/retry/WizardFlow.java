@@ -0,0 +1,213 @@
+package com.enterprise.mercury.core.retry;
+
+import com.enterprise.mercury.core.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Composite page flow modeled as a sequence of idempotent steps with checkpoints
+ * A transient step failure retries only that step, after verifying that the checkpoint
+ * (the state the step starts from) still holds; a step whose completion check already
+ * holds is skipped. Retry time and the time a full-test rerun would have repeated
+ * are reported to RetryMetrics.
+ * Step retry limit is read from config.properties: flow.step.retries
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class WizardFlow {
+
+    private static final Logger logger = LogManager.getLogger(WizardFlow.class);
+    private static final BooleanSupplier ALWAYS = () -> true;
+    private static final int OVERLAY_WAIT_SECONDS = 10;
+
+    private final String name;
+    private final WebDriver driver;
+    private final List<FlowStep> steps = new ArrayList<>();
+    private int maxRetries;
+    private RetryBackoff backoff = RetryBackoff.waitForOverlay(RetryPolicy.GW_CLICK_OVERLAY, OVERLAY_WAIT_SECONDS);
+
+    /**
+     * Flow step
+     *
+     * @param name Step name used in logs and metrics
+     * @param checkpoint State the step starts from; verified before a retry
+     * @param action Idempotent step action
+     * @param done Completion check; a step already done is not run (again)
+     */
+    private record FlowStep(String name, BooleanSupplier checkpoint, RetryPolicy.Interaction action, BooleanSupplier done) {
+    }
+
+    /**
+     * Outcome of a flow run
+     *
+     * @param flow Flow name
+     * @param steps Steps run or skipped
+     * @param retries Step retries performed
+     * @param retryMillis Time spent on failed attempts and backoff
+     * @param savedMillis Time of completed steps a full-test rerun would have repeated
+     * @param totalMillis Total flow time
+     */
+    public record Result(String flow, int steps, int retries, long retryMillis, long savedMillis, long totalMillis) {
+    }
+
+    private WizardFlow(String name, WebDriver driver) {
+        this.name = name;
+        this.driver = driver;
+        this.maxRetries = Integer.parseInt(ConfigManager.getInstance().getProperty("flow.step.retries", "1").trim());
+    }
+
+    /**
+     * Start a new flow
+     *
+     * @param name Flow name used in logs and metrics
+     * @param driver WebDriver passed to the retry backoff
+     * @return Empty flow
+     */
+    public static WizardFlow named(String name, WebDriver driver) {
+        return new WizardFlow(name, driver);
+    }
+
+    /**
+     * Add a step that can start from any state and has no completion check
+     *
+     * @param name Step name
+     * @param action Idempotent step action
+     * @return This flow
+     */
+    public WizardFlow step(String name, RetryPolicy.Interaction action) {
+        return step(name, ALWAYS, action, null);
+    }
+
+    /**
+     * Add a step with a checkpoint
+     *
+     * @param name Step name
+     * @param checkpoint State the step starts from
+     * @param action Idempotent step action
+     * @return This flow
+     */
+    public WizardFlow step(String name, BooleanSupplier checkpoint, RetryPolicy.Interaction action) {
+        return step(name, checkpoint, action, null);
+    }
+
+    /**
+     * Add a step with a checkpoint and a completion check
+     * Use the completion check for steps that are not naturally idempotent (e.g. Next),
+     * so a step that succeeded before failing late is not repeated.
+     *
+     * @param name Step name
+     * @param checkpoint State the step starts from
+     * @param action Step action
+     * @param done Completion check, or null
+     * @return This flow
+     */
+    public WizardFlow step(String name, BooleanSupplier checkpoint, RetryPolicy.Interaction action, BooleanSupplier done) {
+        steps.add(new FlowStep(name, checkpoint, action, done));
+        return this;
+    }
+
+    /**
+     * Override the step retry limit
+     *
+     * @param maxRetries Retries per step
+     * @return This flow
+     */
+    public WizardFlow withMaxRetries(int maxRetries) {
+        this.maxRetries = Math.max(0, maxRetries);
+        return this;
+    }
+
+    /**
+     * Override the backoff run before a step retry (default: wait for the Guidewire click overlay)
+     *
+     * @param backoff Backoff
+     * @return This flow
+     */
+    public WizardFlow withBackoff(RetryBackoff backoff) {
+        this.backoff = backoff;
+        return this;
+    }
+
+    /**
+     * Run all steps in order
+     *
+     * @return Flow result
+     * @throws RuntimeException when a step fails non-transiently, its checkpoint no longer holds,
+     *                          or its retries are exhausted
+     */
+    public Result run() {
+        long flowStart = System.nanoTime();
+        long completedMillis = 0;
+        int retries = 0;
+        long retryMillis = 0;
+        long savedMillis = 0;
+
+        for (FlowStep step : steps) {
+            if (isDone(step)) {
+                logger.info("[{}] Step '{}' already done, skipping", name, step.name());
+                continue;
+            }
+            long stepStart = System.nanoTime();
+            long failedAt = 0;
+            int attempt = 0;
+            while (true) {
+                attempt++;
+                try {
+                    step.action().run();
+                    break;
+                } catch (RuntimeException e) {
+                    if (failedAt == 0) {
+                        failedAt = System.nanoTime();
+                    }
+                    if (isDone(step)) {
+                        logger.warn("[{}] Step '{}' failed late but its completion check holds: {}", name, step.name(), e.getMessage());
+                        break;
+                    }
+                    FailureCategory category = FailureCategory.classify(e);
+                    if (category == FailureCategory.NON_RETRYABLE || attempt > maxRetries) {
+                        logger.error("[{}] Step '{}' failed after {} attempt(s) [{}]", name, step.name(), attempt, category);
+                        throw new RuntimeException(name + " failed at step '" + step.name() + "'", e);
+                    }
+                    if (!step.checkpoint().getAsBoolean()) {
+                        logger.error("[{}] Checkpoint of step '{}' no longer holds, not retrying", name, step.name());
+                        throw new RuntimeException(name + " left the checkpoint of step '" + step.name() + "'", e);
+                    }
+                    logger.warn("[{}] Step '{}' {} (attempt {}), retrying step {}/{}",
+                                name, step.name(), category, attempt, attempt, maxRetries);
+                    backoff.beforeRetry(driver, RetryPolicy.GW_CLICK_OVERLAY, attempt);
+                    retries++;
+                }
+            }
+            long stepMillis = millisSince(stepStart);
+            if (failedAt != 0) {
+                long spent = millisSince(failedAt);
+                retryMillis += spent;
+                savedMillis += completedMillis;
+                RetryMetrics.recordStepRetry(name, step.name(), spent, completedMillis);
+                logger.info("[{}] Step '{}' recovered in {}ms; a full rerun would have repeated {}ms of completed steps",
+                            name, step.name(), spent, completedMillis);
+            }
+            completedMillis += stepMillis;
+        }
+
+        Result result = new Result(name, steps.size(), retries, retryMillis, savedMillis, millisSince(flowStart));
+        logger.info("[{}] Completed {} step(s) in {}ms; step retries: {}, retry time: {}ms, saved: {}ms",
+                    name, result.steps(), result.totalMillis(), retries, retryMillis, savedMillis);
+        return result;
+    }
+
+    private static boolean isDone(FlowStep step) {
+        return step.done() != null && step.done().getAsBoolean();
+    }
+
+    private static long millisSince(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+    }
+}
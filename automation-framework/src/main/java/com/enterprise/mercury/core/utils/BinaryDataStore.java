@@ -0,0 +1,285 @@
+package com.enterprise.mercury.core.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled binary test-data file, memory-mapped and decoded record by record
+ * A JSON document is split into records - the fields of a top-level object or the
+ * elements of a top-level array - and each record is Smile-encoded separately behind
+ * an index. Opening a store only reads the index; a record is decoded when asked for.
+ * The mapping is read-only, so JVMs opening the same file share the page cache.
+ * The header records which JSON file was compiled (absolute path and size), so a reader
+ * can tell a compiled copy of a different tree with the same relative name from its own.
+ * <pre>
+ * int magic "MTDB" | int version | short sourceLength | source path UTF-8 | long sourceSize
+ * byte kind | int count
+ * count x (short keyLength | key UTF-8 | int offset | int length)
+ * Smile records
+ * </pre>
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public final class BinaryDataStore {
+
+    public static final String EXTENSION = ".smile";
+
+    private static final int MAGIC = 0x4D544442;
+    private static final int VERSION = 2;
+    private static final byte KIND_OBJECT = 0;
+    private static final byte KIND_ARRAY = 1;
+    private static final byte KIND_VALUE = 2;
+
+    private static final SmileMapper SMILE = new SmileMapper();
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final Path source;
+    private final long sourceSize;
+    private final byte kind;
+    private final List<String> keys;
+    private final Map<String, Integer> positions;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final int dataStart;
+
+    private BinaryDataStore(Path file, MappedByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+        ByteBuffer header = buffer.duplicate();
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IllegalArgumentException("Not a compiled test-data file (or wrong version): " + file);
+        }
+        byte[] sourceName = new byte[header.getShort() & 0xFFFF];
+        header.get(sourceName);
+        source = Path.of(new String(sourceName, StandardCharsets.UTF_8));
+        sourceSize = header.getLong();
+        kind = header.get();
+        int count = header.getInt();
+        List<String> names = new ArrayList<>(count);
+        positions = new HashMap<>(count * 2);
+        offsets = new int[count];
+        lengths = new int[count];
+        for (int i = 0; i < count; i++) {
+            byte[] key = new byte[header.getShort() & 0xFFFF];
+            header.get(key);
+            String name = new String(key, StandardCharsets.UTF_8);
+            names.add(name);
+            if (kind == KIND_OBJECT) {
+                positions.put(name, i);
+            }
+            offsets[i] = header.getInt();
+            lengths[i] = header.getInt();
+        }
+        keys = Collections.unmodifiableList(names);
+        dataStart = header.position();
+    }
+
+    /**
+     * Memory-map a compiled file and read its index
+     *
+     * @param file Compiled .smile file
+     * @return Open store
+     */
+    public static BinaryDataStore open(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new BinaryDataStore(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open compiled test data: " + file, e);
+        }
+    }
+
+    /**
+     * Check whether this file was compiled from a JSON file as it is now
+     * Compares the recorded absolute path and size; the caller checks modification times.
+     *
+     * @param json JSON source
+     * @param size Current size of the JSON source
+     * @return true if the path and size match
+     */
+    public boolean isCompiledFrom(Path json, long size) {
+        return source.equals(json.toAbsolutePath().normalize()) && sourceSize == size;
+    }
+
+    /**
+     * Get the JSON file this was compiled from
+     *
+     * @return Absolute, normalized source path
+     */
+    public Path source() {
+        return source;
+    }
+
+    /**
+     * Get the record keys: field names of an object document, empty for arrays
+     *
+     * @return Keys in document order
+     */
+    public List<String> keys() {
+        return keys;
+    }
+
+    /**
+     * Get the number of records
+     *
+     * @return Record count
+     */
+    public int size() {
+        return offsets.length;
+    }
+
+    /**
+     * Decode one field of an object document
+     *
+     * @param key Top-level field name
+     * @return Decoded value, or null when the field does not exist
+     */
+    public JsonNode record(String key) {
+        Integer position = positions.get(key);
+        return position == null ? null : decode(position);
+    }
+
+    /**
+     * Decode one element of an array document
+     *
+     * @param index Element index
+     * @return Decoded element
+     */
+    public JsonNode record(int index) {
+        if (index < 0 || index >= offsets.length) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + offsets.length + " in " + file);
+        }
+        return decode(index);
+    }
+
+    /**
+     * Decode the whole document
+     *
+     * @return Document equal to the compiled JSON
+     */
+    public JsonNode document() {
+        if (kind == KIND_VALUE) {
+            return decode(0);
+        }
+        if (kind == KIND_ARRAY) {
+            ArrayNode array = JsonNodeFactory.instance.arrayNode(offsets.length);
+            for (int i = 0; i < offsets.length; i++) {
+                array.add(decode(i));
+            }
+            return array;
+        }
+        ObjectNode object = JsonNodeFactory.instance.objectNode();
+        for (int i = 0; i < offsets.length; i++) {
+            object.set(keys.get(i), decode(i));
+        }
+        return object;
+    }
+
+    private JsonNode decode(int position) {
+        // Absolute slice: no shared position, so concurrent reads are safe
+        ByteBuffer record = buffer.slice(dataStart + offsets[position], lengths[position]);
+        try {
+            return SMILE.readTree(new ByteBufferBackedInputStream(record));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt record " + position + " in compiled test data: " + file, e);
+        }
+    }
+
+    /**
+     * Compile a JSON document into the binary format
+     *
+     * @param document Parsed JSON document
+     * @param source JSON file the document was read from, recorded in the header
+     * @param target Output file; parent directories are created
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(JsonNode document, Path source, Path target) throws IOException {
+        byte[] sourceName = source.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8);
+        if (sourceName.length > 0xFFFF) {
+            throw new IOException("Source path too long for compiled test data: " + source);
+        }
+        long sourceSize = Files.size(source);
+        List<String> names = new ArrayList<>();
+        List<JsonNode> records = new ArrayList<>();
+        byte kind;
+        if (document.isObject()) {
+            kind = KIND_OBJECT;
+            Iterator<Map.Entry<String, JsonNode>> fields = document.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                names.add(field.getKey());
+                records.add(field.getValue());
+            }
+        } else if (document.isArray()) {
+            kind = KIND_ARRAY;
+            document.elements().forEachRemaining(element -> {
+                names.add("");
+                records.add(element);
+            });
+        } else {
+            kind = KIND_VALUE;
+            names.add("");
+            records.add(document);
+        }
+
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        int[] offsets = new int[records.size()];
+        int[] lengths = new int[records.size()];
+        for (int i = 0; i < records.size(); i++) {
+            offsets[i] = data.size();
+            data.write(SMILE.writeValueAsBytes(records.get(i)));
+            lengths[i] = data.size() - offsets[i];
+        }
+
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(stream)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeShort(sourceName.length);
+            out.write(sourceName);
+            out.writeLong(sourceSize);
+            out.writeByte(kind);
+            out.writeInt(records.size());
+            for (int i = 0; i < records.size(); i++) {
+                byte[] key = names.get(i).getBytes(StandardCharsets.UTF_8);
+                if (key.length > 0xFFFF) {
+                    throw new IOException("Key too long for compiled test data: " + names.get(i).substring(0, 40));
+                }
+                out.writeShort(key.length);
+                out.write(key);
+                out.writeInt(offsets[i]);
+                out.writeInt(lengths[i]);
+            }
+            data.writeTo(out);
+        }
+        // Readers never see a half-written file
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
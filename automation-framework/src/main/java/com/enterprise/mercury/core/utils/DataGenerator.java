@@ -0,0 +1,334 @@
+package com.enterprise.mercury.core.utils;
+
+import com.enterprise.mercury.core.config.ConfigManager;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded generator of synthetic test-data rows from a JSON schema
+ * Each row is derived from (seed, row index) alone, so the same seed always yields the
+ * same rows, in any order and on any thread, and rows are built only when a data
+ * provider asks for them - memory stays flat however many rows a soak run needs.
+ * Generated values are well-formed, not real: a sequence or pattern does not name an
+ * existing policy or contact. Rows that must match the system under test take those
+ * fields from an {@code enum} listing real values.
+ * Field types:
+ * <ul>
+ *   <li>{@code sequence} - prefix + zero-padded start + row index (distinct per row)</li>
+ *   <li>{@code enum} - one of {@code values}, optionally by {@code weights}</li>
+ *   <li>{@code date} - day between {@code from} and {@code to}, both in {@code format}</li>
+ *   <li>{@code time} - minute between {@code from} and {@code to} (HH:mm), printed in {@code format}</li>
+ *   <li>{@code pattern} - {@code #} becomes a digit, {@code ?} an upper-case letter</li>
+ *   <li>{@code const} - always {@code value}</li>
+ * </ul>
+ * Any field may have {@code "when": {"otherField": "value"}} (earlier fields only) and an
+ * {@code otherwise} value used when the condition does not hold.
+ * <pre>
+ * &#64;DataProvider(name = "fnolClaims")
+ * public Iterator&lt;Object[]&gt; fnolClaims() {
+ *     return DataGenerator.fromSchema("ui/fnolClaimSchema.json").rows();
+ * }
+ * </pre>
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public final class DataGenerator {
+
+    private static final Logger logger = LogManager.getLogger(DataGenerator.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<Field> fields;
+
+    private DataGenerator(List<Field> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Load a schema from the test-data directory
+     *
+     * @param fileName Schema file name (e.g. "ui/fnolClaimSchema.json")
+     * @return Generator
+     * @throws IllegalArgumentException listing every invalid field
+     */
+    public static DataGenerator fromSchema(String fileName) {
+        return of(DataReader.readJsonAsJsonNode(fileName));
+    }
+
+    /**
+     * Build a generator from a parsed schema
+     *
+     * @param schema Schema with a "fields" object
+     * @return Generator
+     * @throws IllegalArgumentException listing every invalid field
+     */
+    public static DataGenerator of(JsonNode schema) {
+        JsonNode fieldNodes = schema.path("fields");
+        if (!fieldNodes.isObject() || fieldNodes.isEmpty()) {
+            throw new IllegalArgumentException("Data generator schema has no fields");
+        }
+        List<Field> fields = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        Map<String, Field> earlier = new LinkedHashMap<>();
+        fieldNodes.fields().forEachRemaining(entry -> {
+            try {
+                Field field = Field.parse(entry.getKey(), entry.getValue(), earlier);
+                fields.add(field);
+                earlier.put(field.name, field);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                errors.add(entry.getKey() + ": " + e.getMessage());
+            }
+        });
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Invalid data generator schema:\n  " + String.join("\n  ", errors));
+        }
+        return new DataGenerator(fields);
+    }
+
+    /**
+     * Build one row
+     *
+     * @param seed Seed of the data set
+     * @param index Row index
+     * @return Row; the same seed and index always give the same row
+     */
+    public ObjectNode row(long seed, long index) {
+        SplittableRandom random = new SplittableRandom(mix(mix(seed) + index));
+        ObjectNode row = MAPPER.createObjectNode();
+        for (Field field : fields) {
+            row.put(field.name, field.applies(row) ? field.generator.next(random, index) : field.otherwise);
+        }
+        return row;
+    }
+
+    // MurmurHash3 fmix64: nearby inputs give unrelated outputs, so per-row seeds of
+    // adjacent (seed, index) pairs never line up on SplittableRandom's fixed gamma
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Stream rows with the configured seed and count
+     * (data.generator.seed, data.generator.rows)
+     *
+     * @return Lazy rows
+     */
+    public DataStream.Rows rows() {
+        ConfigManager config = ConfigManager.getInstance();
+        return rows(Long.parseLong(config.getProperty("data.generator.seed", "1").trim()),
+                Long.parseLong(config.getProperty("data.generator.rows", "1000").trim()));
+    }
+
+    /**
+     * Stream rows as single-argument data provider rows
+     *
+     * @param seed Seed of the data set
+     * @param count Number of rows
+     * @return Lazy rows
+     */
+    public DataStream.Rows rows(long seed, long count) {
+        logger.info("Generating {} synthetic row(s) with seed {}", count, seed);
+        return new DataStream.Rows() {
+            private long index;
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more generated rows");
+                }
+                return new Object[]{row(seed, index++)};
+            }
+
+            @Override
+            public void close() {
+                index = count;
+            }
+        };
+    }
+
+    /**
+     * Write rows as NDJSON, e.g. to share one data set between soak-run agents
+     *
+     * @param file Output file
+     * @param seed Seed of the data set
+     * @param count Number of rows
+     */
+    public void writeNdjson(Path file, long seed, long count) {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+             JsonGenerator generator = MAPPER.getFactory().createGenerator(writer)) {
+            generator.setRootValueSeparator(null);
+            for (long i = 0; i < count; i++) {
+                MAPPER.writeTree(generator, row(seed, i));
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write generated test data: " + file, e);
+        }
+        logger.info("Wrote {} synthetic row(s) with seed {} to {}", count, seed, file);
+    }
+
+    // Produces one value of a field
+    private interface ValueGenerator {
+        String next(SplittableRandom random, long index);
+    }
+
+    private static final class Field {
+        private final String name;
+        private final ValueGenerator generator;
+        private final Map<String, String> when;
+        private final String otherwise;
+
+        private Field(String name, ValueGenerator generator, Map<String, String> when, String otherwise) {
+            this.name = name;
+            this.generator = generator;
+            this.when = when;
+            this.otherwise = otherwise;
+        }
+
+        private boolean applies(ObjectNode row) {
+            for (Map.Entry<String, String> condition : when.entrySet()) {
+                if (!condition.getValue().equals(row.path(condition.getKey()).asText())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Field parse(String name, JsonNode spec, Map<String, Field> earlier) {
+            Map<String, String> when = new LinkedHashMap<>();
+            spec.path("when").fields().forEachRemaining(condition -> {
+                if (!earlier.containsKey(condition.getKey())) {
+                    throw new IllegalArgumentException("condition on unknown or later field '" + condition.getKey() + "'");
+                }
+                when.put(condition.getKey(), condition.getValue().asText());
+            });
+            return new Field(name, generator(spec), when, spec.path("otherwise").asText(""));
+        }
+
+        private static ValueGenerator generator(JsonNode spec) {
+            String type = spec.path("type").asText();
+            switch (type) {
+                case "const": {
+                    String value = required(spec, "value");
+                    return (random, index) -> value;
+                }
+                case "sequence": {
+                    String prefix = spec.path("prefix").asText("");
+                    long start = spec.path("start").asLong(1);
+                    String format = "%0" + Math.max(1, spec.path("width").asInt(1)) + "d";
+                    return (random, index) -> prefix + String.format(format, start + index);
+                }
+                case "enum":
+                    return enumGenerator(spec);
+                case "date": {
+                    DateTimeFormatter format = DateTimeFormatter.ofPattern(spec.path("format").asText("MM/dd/yyyy"));
+                    LocalDate from = LocalDate.parse(required(spec, "from"), format);
+                    LocalDate to = LocalDate.parse(required(spec, "to"), format);
+                    long days = to.toEpochDay() - from.toEpochDay();
+                    if (days < 0) {
+                        throw new IllegalArgumentException("date range ends before it starts");
+                    }
+                    return (random, index) -> from.plusDays(random.nextLong(days + 1)).format(format);
+                }
+                case "time": {
+                    DateTimeFormatter format = DateTimeFormatter.ofPattern(spec.path("format").asText("HH:mm"));
+                    int from = LocalTime.parse(spec.path("from").asText("00:00")).toSecondOfDay() / 60;
+                    int to = LocalTime.parse(spec.path("to").asText("23:59")).toSecondOfDay() / 60;
+                    if (to < from) {
+                        throw new IllegalArgumentException("time range ends before it starts");
+                    }
+                    return (random, index) -> LocalTime.ofSecondOfDay(60L * (from + random.nextInt(to - from + 1))).format(format);
+                }
+                case "pattern": {
+                    String pattern = required(spec, "pattern");
+                    return (random, index) -> {
+                        StringBuilder value = new StringBuilder(pattern.length());
+                        for (char c : pattern.toCharArray()) {
+                            value.append(c == '#' ? (char) ('0' + random.nextInt(10))
+                                    : c == '?' ? (char) ('A' + random.nextInt(26)) : c);
+                        }
+                        return value.toString();
+                    };
+                }
+                default:
+                    throw new IllegalArgumentException("unknown type '" + type + "'");
+            }
+        }
+
+        private static ValueGenerator enumGenerator(JsonNode spec) {
+            List<String> values = new ArrayList<>();
+            spec.path("values").forEach(value -> values.add(value.asText()));
+            if (values.isEmpty()) {
+                throw new IllegalArgumentException("enum has no values");
+            }
+            JsonNode weights = spec.path("weights");
+            if (weights.isMissingNode()) {
+                return (random, index) -> values.get(random.nextInt(values.size()));
+            }
+            if (weights.size() != values.size()) {
+                throw new IllegalArgumentException("enum needs one weight per value");
+            }
+            // Cumulative weights, searched with one random draw
+            int[] cumulative = new int[values.size()];
+            int total = 0;
+            Iterator<JsonNode> weight = weights.elements();
+            for (int i = 0; i < cumulative.length; i++) {
+                int w = weight.next().asInt();
+                if (w < 0) {
+                    throw new IllegalArgumentException("enum weights must not be negative");
+                }
+                total += w;
+                cumulative[i] = total;
+            }
+            if (total == 0) {
+                throw new IllegalArgumentException("enum weights add up to 0");
+            }
+            int sum = total;
+            return (random, index) -> {
+                int draw = random.nextInt(sum);
+                int i = 0;
+                while (cumulative[i] <= draw) {
+                    i++;
+                }
+                return values.get(i);
+            };
+        }
+
+        private static String required(JsonNode spec, String key) {
+            JsonNode value = spec.get(key);
+            if (value == null || value.asText().isEmpty()) {
+                throw new IllegalArgumentException("missing '" + key + "'");
+            }
+            return value.asText();
+        }
+    }
+}
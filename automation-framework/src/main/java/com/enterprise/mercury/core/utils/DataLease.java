@@ -0,0 +1,105 @@
+package com.enterprise.mercury.core.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Exclusive hold on one test-data record, handed out by DataLeasePool
+ * The record is a private copy; no other thread gets the same record until the lease
+ * is released. Leases still held when a test method finishes are released by TestListener.
+ * <pre>
+ * try (DataLease lease = DataLeasePool.acquire("ui/claimCreationData.json", "validPolicySearch")) {
+ *     String policyNumber = lease.get("policyNumber");
+ * }
+ * </pre>
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public final class DataLease implements AutoCloseable {
+
+    private final DataLeasePool pool;
+    private final int index;
+    private final String key;
+    private final JsonNode record;
+    private final long acquiredNanos = System.nanoTime();
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    DataLease(DataLeasePool pool, int index, String key, JsonNode record) {
+        this.pool = pool;
+        this.index = index;
+        this.key = key;
+        this.record = record;
+    }
+
+    /**
+     * Get the leased record
+     *
+     * @return Private copy of the record
+     */
+    public JsonNode record() {
+        return record;
+    }
+
+    /**
+     * Get a text field of the leased record
+     *
+     * @param field Field name
+     * @return Field text, or null when absent
+     */
+    public String get(String field) {
+        JsonNode value = record.get(field);
+        return value == null ? null : value.asText();
+    }
+
+    /**
+     * Get the record's position in its dataset, e.g. "policies[3]"
+     *
+     * @return Record key
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Get the dataset the record belongs to
+     *
+     * @return Dataset name ("file#path")
+     */
+    public String dataset() {
+        return pool.getName();
+    }
+
+    /**
+     * Check whether the lease was released
+     *
+     * @return true once released
+     */
+    public boolean isReleased() {
+        return released.get();
+    }
+
+    /**
+     * Return the record to the pool; later calls do nothing
+     */
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            pool.release(this, (System.nanoTime() - acquiredNanos) / 1_000_000);
+        }
+    }
+
+    @Override
+    public void close() {
+        release();
+    }
+
+    int index() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return dataset() + " -> " + key;
+    }
+}
@@ -0,0 +1,352 @@
+package com.enterprise.mercury.core.utils;
+
+import com.enterprise.mercury.core.config.ConfigManager;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool of exclusive leases over the records of a test-data file
+ * A dataset is a file plus a DataPath selecting its records, e.g. "validPolicySearch" or
+ * "policies[*]". Each record is leased to one thread at a time, so parallel tests never
+ * drive the same policy or claimant. A thread that finds every record taken waits
+ * (fair, first come first served) until one is released, the cooldown ends or the
+ * timeout expires. Reuse rules come from configuration:
+ * <ul>
+ *   <li>data.lease.max.uses - leases per record, 0 for unlimited, 1 for single-use data</li>
+ *   <li>data.lease.cooldown.ms - rest time of a released record before it is leased again</li>
+ *   <li>data.lease.timeout.seconds - longest wait for a free record</li>
+ * </ul>
+ * Wait and timeout counts per dataset show where parallelism is starved for data.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public final class DataLeasePool {
+
+    private static final Logger logger = LogManager.getLogger(DataLeasePool.class);
+
+    // Key format: "<file>#<data path>"
+    private static final Map<String, DataLeasePool> pools = new ConcurrentHashMap<>();
+
+    // Leases taken by the current thread, released when its test method ends
+    private static final ThreadLocal<List<DataLease>> held = ThreadLocal.withInitial(ArrayList::new);
+
+    private final String name;
+    private final Rules rules;
+    private final List<JsonNode> records;
+    private final List<String> keys;
+    private final boolean[] leased;
+    private final int[] uses;
+    private final long[] availableAt;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+
+    // Metrics, guarded by lock
+    private long acquisitions;
+    private long waitedAcquisitions;
+    private long totalWaitMillis;
+    private long maxWaitMillis;
+    private long totalHoldMillis;
+    private long timeouts;
+    private int waiting;
+    private int peakWaiting;
+
+    /**
+     * Reuse rules of a dataset
+     *
+     * @param maxUses Leases per record over the run, 0 for unlimited
+     * @param cooldownMillis Time a released record rests before it can be leased again
+     * @param timeoutMillis Longest wait for a free record
+     */
+    public record Rules(int maxUses, long cooldownMillis, long timeoutMillis) {
+
+        /**
+         * Read the rules from configuration
+         *
+         * @return Configured rules
+         */
+        public static Rules fromConfig() {
+            ConfigManager config = ConfigManager.getInstance();
+            return new Rules(
+                    Integer.parseInt(config.getProperty("data.lease.max.uses", "0").trim()),
+                    Long.parseLong(config.getProperty("data.lease.cooldown.ms", "0").trim()),
+                    TimeUnit.SECONDS.toMillis(Long.parseLong(config.getProperty("data.lease.timeout.seconds", "300").trim())));
+        }
+    }
+
+    /**
+     * Lease counters of one dataset
+     *
+     * @param dataset Dataset name
+     * @param records Number of records
+     * @param acquisitions Leases handed out
+     * @param waitedAcquisitions Leases that had to wait for a free record
+     * @param totalWaitMillis Total wait time
+     * @param maxWaitMillis Longest wait
+     * @param totalHoldMillis Total time records were held
+     * @param timeouts Acquisitions that gave up waiting (starved)
+     * @param peakWaiting Most threads waiting at once
+     */
+    public record Stats(String dataset, int records, long acquisitions, long waitedAcquisitions,
+                        long totalWaitMillis, long maxWaitMillis, long totalHoldMillis,
+                        long timeouts, int peakWaiting) {
+    }
+
+    private DataLeasePool(String name, List<JsonNode> records, List<String> keys, Rules rules) {
+        this.name = name;
+        this.rules = rules;
+        this.records = records;
+        this.keys = keys;
+        this.leased = new boolean[records.size()];
+        this.uses = new int[records.size()];
+        this.availableAt = new long[records.size()];
+    }
+
+    /**
+     * Lease a record of a dataset, waiting for one to become free
+     *
+     * @param fileName File name relative to the test-data directory (e.g. "ui/claimCreationData.json")
+     * @param dataPath DataPath selecting the records
+     * @return Lease on a record no other thread holds
+     * @throws IllegalStateException when the wait times out or every record is used up
+     */
+    public static DataLease acquire(String fileName, String dataPath) {
+        return pool(fileName, dataPath).acquire();
+    }
+
+    /**
+     * Get the pool of a dataset, creating it with the configured rules on first use
+     *
+     * @param fileName File name relative to the test-data directory
+     * @param dataPath DataPath selecting the records
+     * @return Shared pool
+     */
+    public static DataLeasePool pool(String fileName, String dataPath) {
+        DataLeasePool pool = pools.get(fileName + "#" + dataPath);
+        return pool != null ? pool : pool(fileName, dataPath, Rules.fromConfig());
+    }
+
+    /**
+     * Get the pool of a dataset, creating it with the given rules on first use
+     * Rules of an existing pool are not changed.
+     *
+     * @param fileName File name relative to the test-data directory
+     * @param dataPath DataPath selecting the records
+     * @param rules Reuse rules for a new pool
+     * @return Shared pool
+     */
+    public static DataLeasePool pool(String fileName, String dataPath, Rules rules) {
+        return pools.computeIfAbsent(fileName + "#" + dataPath, name -> {
+            DataPath path = DataPath.compile(dataPath);
+            List<JsonNode> records = path.select(DataReader.readJsonAsJsonNode(fileName));
+            if (records.isEmpty()) {
+                throw new IllegalArgumentException("No test-data records match '" + dataPath + "' in " + fileName);
+            }
+            List<String> keys = new ArrayList<>(records.size());
+            for (int i = 0; i < records.size(); i++) {
+                keys.add(path.isSingleValued() ? dataPath : dataPath + "[" + i + "]");
+            }
+            logger.info("Created data lease pool {} with {} record(s), {}", name, records.size(), rules);
+            return new DataLeasePool(name, records, keys, rules);
+        });
+    }
+
+    /**
+     * Lease a free record of this dataset
+     *
+     * @return Lease on a record no other thread holds
+     * @throws IllegalStateException when the wait times out or every record is used up
+     */
+    public DataLease acquire() {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(rules.timeoutMillis());
+        boolean waited = false;
+        lock.lock();
+        try {
+            while (true) {
+                long now = System.currentTimeMillis();
+                int index = -1;
+                long nextAvailable = Long.MAX_VALUE;
+                boolean exhausted = true;
+                for (int i = 0; i < records.size(); i++) {
+                    if (rules.maxUses() > 0 && uses[i] >= rules.maxUses()) {
+                        continue;
+                    }
+                    exhausted = false;
+                    if (leased[i]) {
+                        continue;
+                    }
+                    // Least recently released first, so reuse spreads over all records
+                    if (availableAt[i] <= now && (index < 0 || availableAt[i] < availableAt[index])) {
+                        index = i;
+                    }
+                    nextAvailable = Math.min(nextAvailable, availableAt[i]);
+                }
+                if (exhausted) {
+                    throw new IllegalStateException("All " + records.size() + " record(s) of " + name
+                            + " are used up (data.lease.max.uses=" + rules.maxUses() + ")");
+                }
+                if (index >= 0) {
+                    return lease(index, start, waited);
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    timeouts++;
+                    throw new IllegalStateException("Timed out after " + rules.timeoutMillis()
+                            + "ms waiting for a free record of " + name);
+                }
+                if (nextAvailable != Long.MAX_VALUE) {
+                    remaining = Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(Math.max(1, nextAvailable - now)));
+                }
+                if (!waited) {
+                    waited = true;
+                    logger.debug("Waiting for a free record of {}", name);
+                }
+                waiting++;
+                peakWaiting = Math.max(peakWaiting, waiting);
+                try {
+                    released.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted waiting for a free record of " + name, e);
+                } finally {
+                    waiting--;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private DataLease lease(int index, long start, boolean waited) {
+        leased[index] = true;
+        uses[index]++;
+        long waitMillis = (System.nanoTime() - start) / 1_000_000;
+        acquisitions++;
+        if (waited) {
+            waitedAcquisitions++;
+            totalWaitMillis += waitMillis;
+            maxWaitMillis = Math.max(maxWaitMillis, waitMillis);
+        }
+        DataLease lease = new DataLease(this, index, keys.get(index), records.get(index).deepCopy());
+        held.get().add(lease);
+        logger.debug("Leased {} to {}", lease, Thread.currentThread().getName());
+        return lease;
+    }
+
+    void release(DataLease lease, long holdMillis) {
+        held.get().remove(lease);
+        lock.lock();
+        try {
+            leased[lease.index()] = false;
+            availableAt[lease.index()] = System.currentTimeMillis() + rules.cooldownMillis();
+            totalHoldMillis += holdMillis;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        logger.debug("Released {} after {}ms", lease, holdMillis);
+    }
+
+    /**
+     * Get the dataset name
+     *
+     * @return "file#path"
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the number of records in the dataset
+     *
+     * @return Record count
+     */
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * Get this dataset's lease counters
+     *
+     * @return Counters at this moment
+     */
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(name, records.size(), acquisitions, waitedAcquisitions, totalWaitMillis,
+                    maxWaitMillis, totalHoldMillis, timeouts, peakWaiting);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release every lease the current thread still holds
+     *
+     * @return Number of leases released
+     */
+    public static int releaseHeld() {
+        List<DataLease> leases = new ArrayList<>(held.get());
+        leases.forEach(DataLease::release);
+        held.remove();
+        return leases.size();
+    }
+
+    /**
+     * Get a sorted snapshot of all datasets' counters
+     *
+     * @return Map of dataset name to counters
+     */
+    public static Map<String, Stats> snapshot() {
+        Map<String, Stats> snapshot = new TreeMap<>();
+        pools.forEach((name, pool) -> snapshot.put(name, pool.stats()));
+        return snapshot;
+    }
+
+    /**
+     * Format all counters as a readable table
+     *
+     * @return Summary text, one line per dataset
+     */
+    public static String summary() {
+        StringBuilder summary = new StringBuilder(
+                "Dataset | Records | Leases | Waited | Wait ms | Max wait ms | Hold ms | Timeouts | Peak waiting\n");
+        snapshot().values().forEach(s -> summary.append(s.dataset()).append(" | ").append(s.records())
+                .append(" | ").append(s.acquisitions()).append(" | ").append(s.waitedAcquisitions())
+                .append(" | ").append(s.totalWaitMillis()).append(" | ").append(s.maxWaitMillis())
+                .append(" | ").append(s.totalHoldMillis()).append(" | ").append(s.timeouts())
+                .append(" | ").append(s.peakWaiting()).append('\n'));
+        return summary.toString();
+    }
+
+    /**
+     * Log the summary if any dataset was leased
+     */
+    public static void logSummary() {
+        if (pools.isEmpty()) {
+            return;
+        }
+        logger.info("=== Test Data Leases ===\n{}", summary());
+    }
+
+    /**
+     * Drop all pools and counters
+     * Leases still held are released into pools that are no longer used.
+     */
+    public static void reset() {
+        pools.clear();
+    }
+}
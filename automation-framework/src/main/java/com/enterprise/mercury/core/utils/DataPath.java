@@ -0,0 +1,200 @@
+package com.enterprise.mercury.core.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled path expression into a JSON test-data document
+ * Syntax: dotted keys ({@code claim.policy.number}), array indices ({@code vehicles[0].vin}
+ * or {@code vehicles.0.vin}), wildcards over object values or array elements
+ * ({@code vehicles[*].vin}, {@code contacts.*.name}) and bracketed keys for names that
+ * contain dots ({@code ['ci.build'].id}). Compiled paths are cached per expression string.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public final class DataPath {
+
+    private static final Map<String, DataPath> cache = new ConcurrentHashMap<>();
+
+    private enum Kind { FIELD, INDEX, WILDCARD }
+
+    // One step of the path; FIELD keeps a parsed index for numeric names used on arrays
+    private record Segment(Kind kind, String name, int index) { }
+
+    private final String expression;
+    private final Segment[] segments;
+    private final boolean singleValued;
+
+    private DataPath(String expression, List<Segment> segments) {
+        this.expression = expression;
+        this.segments = segments.toArray(new Segment[0]);
+        this.singleValued = segments.stream().noneMatch(segment -> segment.kind() == Kind.WILDCARD);
+    }
+
+    /**
+     * Get the compiled path for an expression, compiling it on first use
+     *
+     * @param expression Path expression
+     * @return Compiled path
+     * @throws IllegalArgumentException if the expression is malformed
+     */
+    public static DataPath compile(String expression) {
+        DataPath path = cache.get(expression);
+        return path != null ? path : cache.computeIfAbsent(expression, DataPath::parse);
+    }
+
+    /**
+     * Get the first node the path selects
+     *
+     * @param root Document root
+     * @return Selected node, or null when nothing matches
+     */
+    public JsonNode first(JsonNode root) {
+        if (!singleValued) {
+            List<JsonNode> matches = select(root);
+            return matches.isEmpty() ? null : matches.get(0);
+        }
+        JsonNode current = root;
+        for (Segment segment : segments) {
+            current = step(current, segment);
+            if (current == null) {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Get all nodes the path selects, in document order
+     *
+     * @param root Document root
+     * @return Selected nodes, empty when nothing matches
+     */
+    public List<JsonNode> select(JsonNode root) {
+        if (singleValued) {
+            JsonNode node = first(root);
+            return node == null ? Collections.emptyList() : List.of(node);
+        }
+        List<JsonNode> current = List.of(root);
+        for (Segment segment : segments) {
+            List<JsonNode> next = new ArrayList<>();
+            for (JsonNode node : current) {
+                if (segment.kind() == Kind.WILDCARD) {
+                    if (node.isContainerNode()) {
+                        node.elements().forEachRemaining(next::add);
+                    }
+                } else {
+                    JsonNode child = step(node, segment);
+                    if (child != null) {
+                        next.add(child);
+                    }
+                }
+            }
+            if (next.isEmpty()) {
+                return Collections.emptyList();
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    /**
+     * Check whether the path can select more than one node
+     *
+     * @return true if the path contains a wildcard
+     */
+    public boolean isSingleValued() {
+        return singleValued;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static JsonNode step(JsonNode node, Segment segment) {
+        if (node.isArray()) {
+            return segment.index() >= 0 ? node.get(segment.index()) : null;
+        }
+        return segment.kind() == Kind.FIELD ? node.get(segment.name()) : null;
+    }
+
+    private static DataPath parse(String expression) {
+        List<Segment> segments = new ArrayList<>();
+        int length = expression.length();
+        int i = 0;
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '.') {
+                if (i == 0 || i == length - 1 || expression.charAt(i + 1) == '.') {
+                    throw invalid(expression, "empty key at " + i);
+                }
+                i++;
+            } else if (c == '[') {
+                int close = expression.indexOf(']', i);
+                if (close < 0) {
+                    throw invalid(expression, "unclosed [ at " + i);
+                }
+                segments.add(bracket(expression, expression.substring(i + 1, close)));
+                i = close + 1;
+            } else {
+                int end = i;
+                while (end < length && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+                    end++;
+                }
+                segments.add(field(expression.substring(i, end)));
+                i = end;
+            }
+        }
+        if (segments.isEmpty()) {
+            throw invalid(expression, "no keys");
+        }
+        return new DataPath(expression, segments);
+    }
+
+    private static Segment bracket(String expression, String content) {
+        if (content.equals("*")) {
+            return new Segment(Kind.WILDCARD, null, -1);
+        }
+        if (content.length() >= 2 && (content.startsWith("'") && content.endsWith("'")
+                || content.startsWith("\"") && content.endsWith("\""))) {
+            return new Segment(Kind.FIELD, content.substring(1, content.length() - 1), -1);
+        }
+        try {
+            int index = Integer.parseInt(content);
+            if (index < 0) {
+                throw invalid(expression, "negative index " + index);
+            }
+            return new Segment(Kind.INDEX, null, index);
+        } catch (NumberFormatException e) {
+            throw invalid(expression, "'[" + content + "]' is not an index, * or quoted key");
+        }
+    }
+
+    private static Segment field(String name) {
+        if (name.equals("*")) {
+            return new Segment(Kind.WILDCARD, null, -1);
+        }
+        return new Segment(Kind.FIELD, name, parseIndex(name));
+    }
+
+    // Numeric keys also index arrays, e.g. vehicles.0.vin
+    private static int parseIndex(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (!Character.isDigit(name.charAt(i))) {
+                return -1;
+            }
+        }
+        return name.length() > 9 ? -1 : Integer.parseInt(name);
+    }
+
+    private static IllegalArgumentException invalid(String expression, String reason) {
+        return new IllegalArgumentException("Invalid data path '" + expression + "': " + reason);
+    }
+}
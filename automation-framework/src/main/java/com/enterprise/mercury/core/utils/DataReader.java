@@ -1,5 +1,6 @@
 package com.enterprise.mercury.core.utils;
 
+import com.enterprise.mercury.core.config.ConfigManager;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
@@ -7,16 +8,28 @@ import com.google.gson.JsonObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Data Reader Utility for reading test data from JSON files
  * Supports both Jackson and Gson for JSON parsing
+ * Files are resolved against test.data.dir (default ../test-assets/test-data).
+ * Parsed Jackson documents are cached by path and invalidated when the file's
+ * modification time or size changes; callers always get their own copy.
+ * When the build has compiled a file into test.data.binary.dir (see TestDataCompiler)
+ * and the compiled copy is current, it is memory-mapped and decoded instead of parsing JSON.
+ * A compiled copy is only used if its header names this very JSON file at its current size,
+ * so pointing test.data.dir at another tree never serves the build's copy of the default one.
  * 
  * @author Enterprise Automation Team
  * @version 1.0
@@ -24,7 +37,28 @@ import java.util.Map;
 public class DataReader {
     
     private static final Logger logger = LogManager.getLogger(DataReader.class);
-    private static final String TEST_DATA_BASE_PATH = "../test-assets/test-data/";
+    private static final String TEST_DATA_DIR_KEY = "test.data.dir";
+    private static final String DEFAULT_TEST_DATA_DIR = "../test-assets/test-data";
+    private static final String BINARY_DIR_KEY = "test.data.binary.dir";
+    private static final String DEFAULT_BINARY_DIR = "target/test-data-bin";
+    
+    // Shared mappers; both are thread-safe once configured
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Gson GSON = new Gson();
+    
+    // Parsed documents by absolute path
+    private static final Map<Path, CachedDocument> documents = new ConcurrentHashMap<>();
+    
+    // Open memory-mapped compiled files by absolute path
+    private static final Map<Path, CachedStore> stores = new ConcurrentHashMap<>();
+    
+    private record CachedStore(long modifiedMillis, BinaryDataStore store) { }
+    
+    private record CachedDocument(long modifiedMillis, long size, JsonNode root) {
+        private boolean isCurrent(BasicFileAttributes attributes) {
+            return modifiedMillis == attributes.lastModifiedTime().toMillis() && size == attributes.size();
+        }
+    }
     
     // Private constructor
     private DataReader() {
@@ -33,32 +67,155 @@ public class DataReader {
     
     /**
      * Read JSON file and return as JsonNode (Jackson)
+     * Returns a copy of the cached document, so callers may modify it freely
      * 
      * @param fileName JSON file name
      * @return JsonNode object
      */
     public static JsonNode readJsonAsJsonNode(String fileName) {
-        String filePath = TEST_DATA_BASE_PATH + fileName;
-        logger.info("Reading JSON file: {}", filePath);
+        return document(fileName).deepCopy();
+    }
+    
+    /**
+     * Get the cached parsed document, parsing it on first use or after the file changed
+     * The returned tree is shared and must not be modified.
+     * 
+     * @param fileName JSON file name
+     * @return Shared root node
+     */
+    private static JsonNode document(String fileName) {
+        String filePath = filePath(fileName);
+        Path path = testDataPath(fileName);
         
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            File jsonFile = new File(filePath);
-            
-            if (!jsonFile.exists()) {
-                throw new IOException("File not found: " + filePath);
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            CachedDocument cached = documents.get(path);
+            if (cached != null && cached.isCurrent(attributes)) {
+                logger.debug("JSON file served from cache: {}", filePath);
+                return cached.root();
             }
             
-            JsonNode jsonNode = mapper.readTree(jsonFile);
-            logger.debug("JSON file parsed successfully");
-            return jsonNode;
+            return documents.compute(path, (key, current) -> {
+                if (current != null && current.isCurrent(attributes)) {
+                    return current;
+                }
+                try {
+                    BinaryDataStore compiled = compiledStore(fileName, path, attributes);
+                    JsonNode root;
+                    if (compiled != null) {
+                        logger.info("Reading compiled test data for: {}", filePath);
+                        root = compiled.document();
+                    } else {
+                        logger.info("Reading JSON file: {}", filePath);
+                        root = MAPPER.readTree(path.toFile());
+                    }
+                    logger.debug("JSON file parsed successfully");
+                    return new CachedDocument(attributes.lastModifiedTime().toMillis(), attributes.size(), root);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).root();
             
         } catch (IOException e) {
             logger.error("Failed to read JSON file: {}", filePath, e);
             throw new RuntimeException("Unable to read JSON file: " + filePath, e);
+        } catch (UncheckedIOException e) {
+            logger.error("Failed to read JSON file: {}", filePath, e.getCause());
+            throw new RuntimeException("Unable to read JSON file: " + filePath, e.getCause());
         }
     }
     
+    /**
+     * Read one top-level field of a JSON object file, e.g. a scenario of a UI data file
+     * When the file has an up-to-date compiled copy only that field is decoded;
+     * otherwise it comes from the cached document. Returns a copy.
+     * 
+     * @param fileName JSON file name
+     * @param key Top-level field name
+     * @return Field value, or null when absent
+     */
+    public static JsonNode readRecord(String fileName, String key) {
+        Path path = testDataPath(fileName);
+        try {
+            BinaryDataStore compiled = compiledStore(fileName, path, Files.readAttributes(path, BasicFileAttributes.class));
+            if (compiled != null) {
+                return compiled.record(key);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read JSON file: " + filePath(fileName), e);
+        }
+        JsonNode value = document(fileName).get(key);
+        return value == null ? null : value.deepCopy();
+    }
+    
+    /**
+     * Get the compiled copy of a test-data file if it was compiled from that file
+     * and is at least as new as it
+     * 
+     * @param fileName JSON file name
+     * @param path Absolute path of the JSON source
+     * @param source Attributes of the JSON source
+     * @return Memory-mapped store, or null to fall back to JSON
+     */
+    private static BinaryDataStore compiledStore(String fileName, Path path, BasicFileAttributes source) {
+        Path binaryDir = Paths.get(ConfigManager.getInstance().getProperty(BINARY_DIR_KEY, DEFAULT_BINARY_DIR));
+        Path compiled = TestDataCompiler.targetFor(Paths.get(fileName), binaryDir);
+        try {
+            if (!Files.isRegularFile(compiled)
+                    || Files.getLastModifiedTime(compiled).compareTo(source.lastModifiedTime()) < 0) {
+                return null;
+            }
+            BinaryDataStore store = stores.compute(compiled.toAbsolutePath().normalize(), (key, current) ->
+                    current != null && current.modifiedMillis() == lastModifiedMillis(key)
+                            ? current : new CachedStore(lastModifiedMillis(key), BinaryDataStore.open(key))).store();
+            if (!store.isCompiledFrom(path, source.size())) {
+                logger.debug("Compiled test data {} was built from {}, not {}", compiled, store.source(), path);
+                return null;
+            }
+            return store;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring compiled test data {}: {}", compiled, e.getMessage());
+            return null;
+        }
+    }
+    
+    private static long lastModifiedMillis(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Resolve a file name against the test-data directory
+     * 
+     * @param fileName File name (e.g., "ui/loginData.json")
+     * @return Absolute, normalized path
+     */
+    static Path testDataPath(String fileName) {
+        return Paths.get(filePath(fileName)).toAbsolutePath().normalize();
+    }
+    
+    /**
+     * Resolve a file name against the configured test-data directory (test.data.dir)
+     * 
+     * @param fileName File name (e.g., "ui/loginData.json")
+     * @return Relative or absolute path as configured
+     */
+    private static String filePath(String fileName) {
+        String directory = ConfigManager.getInstance().getProperty(TEST_DATA_DIR_KEY, DEFAULT_TEST_DATA_DIR);
+        return Paths.get(directory, fileName).toString();
+    }
+    
+    /**
+     * Drop all cached documents
+     */
+    public static void clearCache() {
+        documents.clear();
+        stores.clear();
+    }
+    
     /**
      * Read JSON file and return as JsonObject (Gson)
      * 
@@ -66,12 +223,11 @@ public class DataReader {
      * @return JsonObject
      */
     public static JsonObject readJsonAsJsonObject(String fileName) {
-        String filePath = TEST_DATA_BASE_PATH + fileName;
+        String filePath = filePath(fileName);
         logger.info("Reading JSON file: {}", filePath);
         
         try (FileReader reader = new FileReader(filePath)) {
-            Gson gson = new Gson();
-            JsonObject jsonObject = gson.fromJson(reader, JsonObject.class);
+            JsonObject jsonObject = GSON.fromJson(reader, JsonObject.class);
             logger.debug("JSON file parsed successfully");
             return jsonObject;
             
@@ -90,18 +246,11 @@ public class DataReader {
      * @return Object of type T
      */
     public static <T> T readJsonAsObject(String fileName, Class<T> clazz) {
-        String filePath = TEST_DATA_BASE_PATH + fileName;
+        String filePath = filePath(fileName);
         logger.info("Reading JSON file and converting to {}: {}", clazz.getSimpleName(), filePath);
         
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            File jsonFile = new File(filePath);
-            
-            if (!jsonFile.exists()) {
-                throw new IOException("File not found: " + filePath);
-            }
-            
-            T object = mapper.readValue(jsonFile, clazz);
+            T object = MAPPER.treeToValue(document(fileName), clazz);
             logger.debug("JSON converted to {} successfully", clazz.getSimpleName());
             return object;
             
@@ -119,18 +268,11 @@ public class DataReader {
      */
     @SuppressWarnings("unchecked")
     public static Map<String, Object> readJsonAsMap(String fileName) {
-        String filePath = TEST_DATA_BASE_PATH + fileName;
+        String filePath = filePath(fileName);
         logger.info("Reading JSON file as Map: {}", filePath);
         
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            File jsonFile = new File(filePath);
-            
-            if (!jsonFile.exists()) {
-                throw new IOException("File not found: " + filePath);
-            }
-            
-            Map<String, Object> map = mapper.readValue(jsonFile, Map.class);
+            Map<String, Object> map = MAPPER.treeToValue(document(fileName), Map.class);
             logger.debug("JSON converted to Map successfully");
             return map;
             
@@ -147,7 +289,7 @@ public class DataReader {
      * @return JSON content as String
      */
     public static String readJsonAsString(String fileName) {
-        String filePath = TEST_DATA_BASE_PATH + fileName;
+        String filePath = filePath(fileName);
         logger.info("Reading JSON file as String: {}", filePath);
         
         try {
@@ -163,24 +305,19 @@ public class DataReader {
     
     /**
      * Get specific value from JSON by key path
+     * Paths are compiled once and cached (see DataPath); a wildcard path returns its first match
      * 
      * @param fileName JSON file name
-     * @param keyPath Key path (e.g., "user.credentials.username")
+     * @param keyPath Key path (e.g., "user.credentials.username", "vehicles[0].vin")
      * @return Value as String
      */
     public static String getJsonValue(String fileName, String keyPath) {
-        logger.info("Getting value for key path: {} from file: {}", keyPath, fileName);
+        logger.debug("Getting value for key path: {} from file: {}", keyPath, fileName);
         
         try {
-            JsonNode rootNode = readJsonAsJsonNode(fileName);
-            String[] keys = keyPath.split("\\.");
-            
-            JsonNode currentNode = rootNode;
-            for (String key : keys) {
-                currentNode = currentNode.get(key);
-                if (currentNode == null) {
-                    throw new RuntimeException("Key not found: " + keyPath);
-                }
+            JsonNode currentNode = DataPath.compile(keyPath).first(document(fileName));
+            if (currentNode == null) {
+                throw new RuntimeException("Key not found: " + keyPath);
             }
             
             String value = currentNode.asText();
@@ -193,6 +330,23 @@ public class DataReader {
         }
     }
     
+    /**
+     * Get all values a key path selects, e.g. "vehicles[*].vin"
+     * 
+     * @param fileName JSON file name
+     * @param keyPath Key path, may contain wildcards
+     * @return Values as Strings in document order, empty when nothing matches
+     */
+    public static List<String> getJsonValues(String fileName, String keyPath) {
+        logger.debug("Getting values for key path: {} from file: {}", keyPath, fileName);
+        
+        List<String> values = new ArrayList<>();
+        for (JsonNode node : DataPath.compile(keyPath).select(document(fileName))) {
+            values.add(node.asText());
+        }
+        return values;
+    }
+    
     /**
      * Read UI test data from JSON
      * 
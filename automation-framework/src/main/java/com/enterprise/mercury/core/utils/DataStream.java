@@ -0,0 +1,292 @@
+package com.enterprise.mercury.core.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming test-data rows for TestNG data providers
+ * Rows are parsed one at a time as TestNG asks for them, so memory stays flat and the
+ * first test starts before the file is fully read. Every row is a single JsonNode:
+ * <ul>
+ *   <li>{@code .json} - each element of a top-level array</li>
+ *   <li>{@code .ndjson} / {@code .jsonl} - each line's JSON value</li>
+ *   <li>{@code .csv} - each record as an object keyed by the header row; quoted fields
+ *       may contain commas, doubled quotes and line breaks (manual-testcase export format)</li>
+ * </ul>
+ * <pre>
+ * &#64;DataProvider(name = "policies")
+ * public Iterator&lt;Object[]&gt; policies() {
+ *     return DataStream.rows("ui/policies.ndjson");
+ * }
+ * </pre>
+ * The file is closed when the last row has been read, or by {@link Rows#close()}.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public final class DataStream {
+
+    private static final Logger logger = LogManager.getLogger(DataStream.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // Private constructor
+    private DataStream() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Lazily read rows, each wrapped as a single-argument data provider row
+     */
+    public interface Rows extends Iterator<Object[]>, AutoCloseable {
+
+        /**
+         * Close the underlying file early
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * Stream rows of a test-data file, choosing the format by extension
+     *
+     * @param fileName File name relative to the test-data directory (e.g. "ui/policies.csv")
+     * @return Lazy rows
+     */
+    public static Rows rows(String fileName) {
+        return rows(DataReader.testDataPath(fileName));
+    }
+
+    /**
+     * Stream rows of a file, choosing the format by extension
+     *
+     * @param file Data file
+     * @return Lazy rows
+     */
+    public static Rows rows(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return ndjson(file);
+        }
+        if (name.endsWith(".csv")) {
+            return csv(file);
+        }
+        if (name.endsWith(".json")) {
+            return jsonArray(file);
+        }
+        throw new IllegalArgumentException("Unsupported test-data format: " + file);
+    }
+
+    /**
+     * Stream the elements of a top-level JSON array
+     *
+     * @param file JSON file
+     * @return Lazy rows
+     */
+    public static Rows jsonArray(Path file) {
+        logger.info("Streaming JSON array rows: {}", file);
+        try {
+            JsonParser parser = MAPPER.getFactory().createParser(file.toFile());
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.close();
+                throw new IllegalArgumentException("Expected a top-level JSON array: " + file);
+            }
+            return new NodeRows(file, parser) {
+                @Override
+                JsonNode read() throws IOException {
+                    return parser.nextToken() == JsonToken.END_ARRAY ? null : MAPPER.readTree(parser);
+                }
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to stream JSON file: " + file, e);
+        }
+    }
+
+    /**
+     * Stream newline-delimited JSON values
+     *
+     * @param file NDJSON file
+     * @return Lazy rows
+     */
+    public static Rows ndjson(Path file) {
+        logger.info("Streaming NDJSON rows: {}", file);
+        try {
+            JsonParser parser = MAPPER.getFactory().createParser(file.toFile());
+            MappingIterator<JsonNode> values = MAPPER.readerFor(JsonNode.class).readValues(parser);
+            return new NodeRows(file, parser) {
+                @Override
+                JsonNode read() throws IOException {
+                    return values.hasNextValue() ? values.nextValue() : null;
+                }
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to stream NDJSON file: " + file, e);
+        }
+    }
+
+    /**
+     * Stream CSV records as objects keyed by the header row
+     *
+     * @param file CSV file with a header row
+     * @return Lazy rows
+     */
+    public static Rows csv(Path file) {
+        logger.info("Streaming CSV rows: {}", file);
+        try {
+            CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+            List<String> header = reader.next();
+            if (header == null) {
+                reader.close();
+                throw new IllegalArgumentException("CSV file has no header row: " + file);
+            }
+            return new NodeRows(file, reader) {
+                @Override
+                JsonNode read() throws IOException {
+                    List<String> record = reader.next();
+                    while (record != null && record.size() == 1 && record.get(0).isEmpty()) {
+                        record = reader.next();
+                    }
+                    if (record == null) {
+                        return null;
+                    }
+                    ObjectNode row = MAPPER.createObjectNode();
+                    for (int i = 0; i < header.size(); i++) {
+                        row.put(header.get(i), i < record.size() ? record.get(i) : "");
+                    }
+                    return row;
+                }
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to stream CSV file: " + file, e);
+        }
+    }
+
+    // Reads one row ahead so hasNext() is exact; closes the source at the end
+    private abstract static class NodeRows implements Rows {
+        private final Path file;
+        private final AutoCloseable source;
+        private JsonNode next;
+        private boolean done;
+
+        private NodeRows(Path file, AutoCloseable source) {
+            this.file = file;
+            this.source = source;
+        }
+
+        // Next row, or null at the end
+        abstract JsonNode read() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = read();
+                } catch (IOException e) {
+                    close();
+                    throw new UncheckedIOException("Unable to read test-data row from: " + file, e);
+                }
+                if (next == null) {
+                    close();
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more rows in: " + file);
+            }
+            JsonNode row = next;
+            next = null;
+            return new Object[]{row};
+        }
+
+        @Override
+        public void close() {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                source.close();
+            } catch (Exception e) {
+                logger.warn("Failed to close test-data file {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    // Minimal RFC 4180 record reader: quoted fields may span lines
+    private static final class CsvReader implements AutoCloseable {
+        private final Reader reader;
+
+        private CsvReader(Reader reader) throws IOException {
+            this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+            // Excel saves "CSV UTF-8" with a byte order mark, which would prefix the first header
+            this.reader.mark(1);
+            if (this.reader.read() != '\uFEFF') {
+                this.reader.reset();
+            }
+        }
+
+        private List<String> next() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
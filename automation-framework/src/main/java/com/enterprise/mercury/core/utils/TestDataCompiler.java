@@ -0,0 +1,109 @@
+package com.enterprise.mercury.core.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Build step compiling JSON test data into BinaryDataStore files
+ * Mirrors the source tree: ui/loginData.json becomes ui/loginData.smile. Files whose
+ * compiled copy is newer than the source and was compiled from it are skipped. Bound to
+ * process-classes in the pom; can also be run by hand:
+ * <pre>
+ * mvn exec:java@compile-test-data
+ * </pre>
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public final class TestDataCompiler {
+
+    private static final Logger logger = LogManager.getLogger(TestDataCompiler.class);
+
+    // Private constructor
+    private TestDataCompiler() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Compile a test-data tree
+     *
+     * @param args Source directory and target directory
+     * @throws IOException if a file cannot be read, parsed or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: TestDataCompiler <source dir> <target dir>");
+        }
+        int compiled = compile(Paths.get(args[0]), Paths.get(args[1]));
+        logger.info("Compiled {} test-data file(s) into {}", compiled, args[1]);
+    }
+
+    /**
+     * Compile every JSON file below a directory
+     *
+     * @param sourceDir Test-data root
+     * @param targetDir Output root
+     * @return Number of files compiled (up-to-date files are not counted)
+     * @throws IOException if a file cannot be read, parsed or written
+     */
+    public static int compile(Path sourceDir, Path targetDir) throws IOException {
+        if (!Files.isDirectory(sourceDir)) {
+            logger.warn("No test data to compile in: {}", sourceDir);
+            return 0;
+        }
+        List<Path> sources;
+        try (Stream<Path> files = Files.walk(sourceDir)) {
+            sources = files.filter(file -> file.toString().endsWith(".json")).collect(Collectors.toList());
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        int compiled = 0;
+        for (Path source : sources) {
+            Path target = targetFor(sourceDir.relativize(source), targetDir);
+            if (isUpToDate(source, target)) {
+                continue;
+            }
+            try {
+                BinaryDataStore.write(mapper.readTree(source.toFile()), source, target);
+            } catch (IOException e) {
+                throw new IOException("Unable to compile test data: " + source, e);
+            }
+            logger.debug("Compiled {} -> {}", source, target);
+            compiled++;
+        }
+        return compiled;
+    }
+
+    private static boolean isUpToDate(Path source, Path target) throws IOException {
+        if (!Files.exists(target)
+                || Files.getLastModifiedTime(target).compareTo(Files.getLastModifiedTime(source)) < 0) {
+            return false;
+        }
+        try {
+            return BinaryDataStore.open(target).isCompiledFrom(source, Files.size(source));
+        } catch (IllegalArgumentException e) {
+            // Older format or not a compiled file
+            return false;
+        }
+    }
+
+    /**
+     * Get the compiled file for a test-data file
+     *
+     * @param relativeSource Source path relative to the test-data root (e.g. ui/loginData.json)
+     * @param targetDir Output root
+     * @return Compiled file path
+     */
+    public static Path targetFor(Path relativeSource, Path targetDir) {
+        String name = relativeSource.toString();
+        return targetDir.resolve(name.substring(0, name.length() - ".json".length()) + BinaryDataStore.EXTENSION);
+    }
+}
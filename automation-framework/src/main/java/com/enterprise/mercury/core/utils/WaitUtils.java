@@ -1,5 +1,7 @@
 package com.enterprise.mercury.core.utils;
 
+import com.enterprise.mercury.core.config.ConfigManager;
+import com.enterprise.mercury.core.driver.RecordedWait;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
@@ -7,9 +9,7 @@ import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.Wait;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.List;
@@ -25,14 +25,29 @@ import java.util.function.Function;
 public class WaitUtils {
     
     private static final Logger logger = LogManager.getLogger(WaitUtils.class);
-    private static final int DEFAULT_TIMEOUT = 20;
     private static final int DEFAULT_POLLING = 500;
     
+    // Global explicit.wait, kept current across config reloads (not the loading thread's ConfigScope)
+    private static volatile int defaultTimeout = ConfigManager.getInstance().getGlobalSnapshot().explicitWait();
+    
+    static {
+        ConfigManager.getInstance().addListener((previous, current) -> defaultTimeout = current.explicitWait());
+    }
+    
     // Private constructor to prevent instantiation
     private WaitUtils() {
         throw new IllegalStateException("Utility class");
     }
     
+    /**
+     * Get the timeout used by the overloads without an explicit timeout
+     * 
+     * @return Timeout in seconds (explicit.wait)
+     */
+    public static int getDefaultTimeout() {
+        return defaultTimeout;
+    }
+    
     /**
      * Wait for element to be visible
      * 
@@ -44,7 +59,7 @@ public class WaitUtils {
     public static WebElement waitForElementVisible(WebDriver driver, By locator, int timeoutInSeconds) {
         logger.debug("Waiting for element to be visible: {}", locator);
         
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        RecordedWait wait = new RecordedWait(driver, Duration.ofSeconds(timeoutInSeconds));
         return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
     }
     
@@ -56,7 +71,7 @@ public class WaitUtils {
      * @return WebElement when visible
      */
     public static WebElement waitForElementVisible(WebDriver driver, By locator) {
-        return waitForElementVisible(driver, locator, DEFAULT_TIMEOUT);
+        return waitForElementVisible(driver, locator, defaultTimeout);
     }
     
     /**
@@ -70,7 +85,7 @@ public class WaitUtils {
     public static WebElement waitForElementClickable(WebDriver driver, By locator, int timeoutInSeconds) {
         logger.debug("Waiting for element to be clickable: {}", locator);
         
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        RecordedWait wait = new RecordedWait(driver, Duration.ofSeconds(timeoutInSeconds));
         return wait.until(ExpectedConditions.elementToBeClickable(locator));
     }
     
@@ -82,7 +97,7 @@ public class WaitUtils {
      * @return WebElement when clickable
      */
     public static WebElement waitForElementClickable(WebDriver driver, By locator) {
-        return waitForElementClickable(driver, locator, DEFAULT_TIMEOUT);
+        return waitForElementClickable(driver, locator, defaultTimeout);
     }
     
     /**
@@ -96,7 +111,7 @@ public class WaitUtils {
     public static WebElement waitForElementPresent(WebDriver driver, By locator, int timeoutInSeconds) {
         logger.debug("Waiting for element to be present: {}", locator);
         
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        RecordedWait wait = new RecordedWait(driver, Duration.ofSeconds(timeoutInSeconds));
         return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
     }
     
@@ -108,7 +123,7 @@ public class WaitUtils {
      * @return WebElement when present
      */
     public static WebElement waitForElementPresent(WebDriver driver, By locator) {
-        return waitForElementPresent(driver, locator, DEFAULT_TIMEOUT);
+        return waitForElementPresent(driver, locator, defaultTimeout);
     }
     
     /**
@@ -122,7 +137,7 @@ public class WaitUtils {
     public static List<WebElement> waitForAllElementsVisible(WebDriver driver, By locator, int timeoutInSeconds) {
         logger.debug("Waiting for all elements to be visible: {}", locator);
         
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        RecordedWait wait = new RecordedWait(driver, Duration.ofSeconds(timeoutInSeconds));
         return wait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
     }
     
@@ -137,7 +152,7 @@ public class WaitUtils {
     public static boolean waitForElementInvisible(WebDriver driver, By locator, int timeoutInSeconds) {
         logger.debug("Waiting for element to be invisible: {}", locator);
         
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        RecordedWait wait = new RecordedWait(driver, Duration.ofSeconds(timeoutInSeconds));
         return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
     }
     
@@ -153,7 +168,7 @@ public class WaitUtils {
     public static boolean waitForTextToBePresentInElement(WebDriver driver, By locator, String text, int timeoutInSeconds) {
         logger.debug("Waiting for text '{}' to be present in element: {}", text, locator);
         
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        RecordedWait wait = new RecordedWait(driver, Duration.ofSeconds(timeoutInSeconds));
         return wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
     }
     
@@ -170,7 +185,7 @@ public class WaitUtils {
     public static boolean waitForAttributeContains(WebDriver driver, By locator, String attribute, String value, int timeoutInSeconds) {
         logger.debug("Waiting for attribute '{}' to contain '{}' in element: {}", attribute, value, locator);
         
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        RecordedWait wait = new RecordedWait(driver, Duration.ofSeconds(timeoutInSeconds));
         return wait.until(ExpectedConditions.attributeContains(locator, attribute, value));
     }
     
@@ -185,7 +200,7 @@ public class WaitUtils {
     public static boolean waitForUrlContains(WebDriver driver, String urlPart, int timeoutInSeconds) {
         logger.debug("Waiting for URL to contain: {}", urlPart);
         
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        RecordedWait wait = new RecordedWait(driver, Duration.ofSeconds(timeoutInSeconds));
         return wait.until(ExpectedConditions.urlContains(urlPart));
     }
     
@@ -200,7 +215,7 @@ public class WaitUtils {
     public static boolean waitForTitleContains(WebDriver driver, String title, int timeoutInSeconds) {
         logger.debug("Waiting for title to contain: {}", title);
         
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        RecordedWait wait = new RecordedWait(driver, Duration.ofSeconds(timeoutInSeconds));
         return wait.until(ExpectedConditions.titleContains(title));
     }
     
@@ -216,9 +231,8 @@ public class WaitUtils {
     public static WebElement fluentWaitForElement(WebDriver driver, By locator, int timeoutInSeconds, int pollingInMillis) {
         logger.debug("Fluent wait for element: {}", locator);
         
-        Wait<WebDriver> wait = new FluentWait<>(driver)
-                .withTimeout(Duration.ofSeconds(timeoutInSeconds))
-                .pollingEvery(Duration.ofMillis(pollingInMillis))
+        Wait<WebDriver> wait = new RecordedWait(driver, Duration.ofSeconds(timeoutInSeconds),
+                Duration.ofMillis(pollingInMillis))
                 .ignoring(NoSuchElementException.class);
         
         return wait.until(driver1 -> driver1.findElement(locator));
@@ -232,7 +246,7 @@ public class WaitUtils {
      * @return WebElement when found
      */
     public static WebElement fluentWaitForElement(WebDriver driver, By locator) {
-        return fluentWaitForElement(driver, locator, DEFAULT_TIMEOUT, DEFAULT_POLLING);
+        return fluentWaitForElement(driver, locator, defaultTimeout, DEFAULT_POLLING);
     }
     
     /**
@@ -247,7 +261,7 @@ public class WaitUtils {
     public static <T> T waitForCondition(WebDriver driver, Function<WebDriver, T> condition, int timeoutInSeconds) {
         logger.debug("Waiting for custom condition");
         
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        RecordedWait wait = new RecordedWait(driver, Duration.ofSeconds(timeoutInSeconds));
         return wait.until(condition);
     }
     
@@ -1,6 +1,19 @@
 package com.enterprise.mercury.ui.pages;
 
+import com.enterprise.mercury.core.config.ConfigManager;
 import com.enterprise.mercury.core.driver.DriverFactory;
+import com.enterprise.mercury.core.driver.SessionCache;
+import com.enterprise.mercury.core.guidewire.ListViewReader;
+import com.enterprise.mercury.core.guidewire.ListViewTable;
+import com.enterprise.mercury.core.guidewire.ScreenFingerprint;
+import com.enterprise.mercury.core.guidewire.ScreenOutcome;
+import com.enterprise.mercury.core.guidewire.ValidationMessage;
+import com.enterprise.mercury.core.guidewire.ValidationMessageReader;
+import com.enterprise.mercury.core.locators.HealingLocator;
+import com.enterprise.mercury.core.locators.LocatorHealer;
+import com.enterprise.mercury.core.locators.LocatorRegistry;
+import com.enterprise.mercury.core.retry.RetryPolicy;
+import com.enterprise.mercury.core.retry.WizardFlow;
 import com.enterprise.mercury.core.utils.WaitUtils;
 import io.qameta.allure.Step;
 import org.apache.logging.log4j.LogManager;
@@ -9,7 +22,10 @@ import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.Select;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 
 /**
  * Base Page Object class containing common methods for all pages
@@ -21,48 +37,175 @@ import java.util.List;
 public abstract class BasePage {
     
     protected static final Logger logger = LogManager.getLogger(BasePage.class);
+    private static final int CLICK_OVERLAY_WAIT_SECONDS = 10;
     protected WebDriver driver;
-    protected Actions actions;
     
     /**
      * Constructor to initialize driver
+     * Advanced-interaction helpers are created lazily; reuse instances via PageCache
      */
     public BasePage() {
         this.driver = DriverFactory.getDriver();
-        this.actions = new Actions(driver);
+    }
+    
+    /**
+     * Actions helper shared by all page objects of the current session, created on first use
+     * 
+     * @return Session-scoped Actions
+     */
+    protected Actions getActions() {
+        return SessionCache.get(Actions.class, Actions::new);
     }
     
     /**
      * Click on element with wait
+     * Stale, intercepted, not-interactable and timeout failures are retried per the click retry policy
      * 
      * @param locator Element locator
      */
     @Step("Click on element: {locator}")
     protected void click(By locator) {
-        int maxRetries = 3;
-        for (int i = 0; i < maxRetries; i++) {
-            try {
-                WebElement element = WaitUtils.waitForElementClickable(driver, locator);
-                element.click();
-                logger.info("Clicked on element: {}", locator);
-                return; // Success, exit method
-            } catch (org.openqa.selenium.StaleElementReferenceException e) {
-                logger.warn("Stale element on attempt {}, retrying...", i + 1);
-                if (i == maxRetries - 1) {
-                    logger.error("Failed to click on element after {} attempts: {}", maxRetries, locator, e);
-                    throw new RuntimeException("Click failed: " + locator, e);
-                }
-                // Wait briefly before retry
-                try {
-                    Thread.sleep(500);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                }
-            } catch (Exception e) {
-                logger.error("Failed to click on element: {}", locator, e);
-                throw new RuntimeException("Click failed: " + locator, e);
-            }
+        try {
+            clickWithRetry(locator);
+        } catch (RuntimeException e) {
+            LocatorRegistry.recordFailure(locator);
+            throw e;
+        }
+        LocatorRegistry.recordResolution(locator);
+    }
+    
+    /**
+     * Click on element located by a self-healing locator
+     * 
+     * @param locator Healing locator with ranked alternatives
+     */
+    protected void click(HealingLocator locator) {
+        By resolved = locate(locator);
+        try {
+            clickWithRetry(resolved);
+        } catch (RuntimeException e) {
+            LocatorRegistry.recordFailure(locator.getName());
+            throw e;
+        }
+    }
+    
+    private void clickWithRetry(By locator) {
+        getClickRetryPolicy().execute(driver, locator, getClass().getSimpleName(), "Click", () -> {
+            WebElement element = WaitUtils.waitForElementClickable(driver, locator);
+            element.click();
+        });
+        logger.info("Clicked on element: {}", locator);
+    }
+    
+    /**
+     * Resolve a self-healing locator to the first strategy that matches the current DOM
+     * 
+     * @param locator Healing locator with ranked alternatives
+     * @return Selenium locator of the winning strategy
+     */
+    protected By locate(HealingLocator locator) {
+        return LocatorHealer.resolve(driver, locator);
+    }
+    
+    /**
+     * Retry policy applied by click()
+     * Override in a page object to tune retries for a specific screen
+     * 
+     * @return Click retry policy
+     */
+    protected RetryPolicy getClickRetryPolicy() {
+        return RetryPolicy.clickPolicy();
+    }
+    
+    /**
+     * Read a whole Guidewire ListView (headers, cell text, row action IDs) in one script call
+     * 
+     * @param listView Locator of the ListView container or its table
+     * @return Immutable table snapshot
+     */
+    @Step("Read ListView: {listView}")
+    protected ListViewTable readListView(By listView) {
+        return ListViewReader.read(driver, listView, ConfigManager.getInstance().getExplicitWait());
+    }
+    
+    /**
+     * Read a whole Guidewire ListView located by a self-healing locator
+     * 
+     * @param listView Healing locator of the ListView container
+     * @return Immutable table snapshot
+     */
+    protected ListViewTable readListView(HealingLocator listView) {
+        return readListView(locate(listView));
+    }
+    
+    /**
+     * Read every validation and error message on the current screen in one script call
+     * 
+     * @return Messages with their field association
+     */
+    @Step("Read validation messages")
+    protected List<ValidationMessage> readValidationMessages() {
+        return ValidationMessageReader.read(driver);
+    }
+    
+    /**
+     * Wait until the server answered with validation messages or the next screen appeared
+     * 
+     * @param nextScreen Widget that marks the next screen
+     * @return Outcome with the messages on screen
+     */
+    protected ScreenOutcome awaitMessagesOrScreen(HealingLocator nextScreen) {
+        return ValidationMessageReader.awaitMessagesOrScreen(driver, nextScreen,
+                ConfigManager.getInstance().getExplicitWait());
+    }
+    
+    /**
+     * Identify the current Guidewire screen or FNOL wizard step in one script call
+     * 
+     * @return Current step, or UNKNOWN when no known screen marker is rendered
+     */
+    @Step("Identify current wizard step")
+    public WizardStep getCurrentWizardStep() {
+        ScreenFingerprint fingerprint = ScreenFingerprint.read(driver);
+        WizardStep step = WizardStep.identify(fingerprint);
+        logger.info("Current wizard step: {} (screens: {})", step, fingerprint.screenIds());
+        return step;
+    }
+    
+    /**
+     * Wait until a wizard step is showing, e.g. after clicking Next
+     * 
+     * @param step Expected step
+     * @return Step showing when the wait ended: the expected one, or the last seen on timeout
+     */
+    @Step("Wait for wizard step {step}")
+    public WizardStep waitForWizardStep(WizardStep step) {
+        try {
+            WaitUtils.waitForCondition(driver, d -> onStep(step).getAsBoolean(), WaitUtils.getDefaultTimeout());
+        } catch (TimeoutException e) {
+            logger.warn("Wizard step {} did not show within {}s", step, WaitUtils.getDefaultTimeout());
         }
+        return getCurrentWizardStep();
+    }
+    
+    /**
+     * Start a composite flow of idempotent steps with step-level retry
+     * 
+     * @param name Flow name used in logs and retry metrics
+     * @return Empty flow
+     */
+    protected WizardFlow flow(String name) {
+        return WizardFlow.named(name, driver);
+    }
+    
+    /**
+     * Checkpoint that holds while the given wizard step is showing
+     * 
+     * @param step Wizard step
+     * @return Checkpoint evaluated with one script call
+     */
+    protected BooleanSupplier onStep(WizardStep step) {
+        return () -> WizardStep.identify(ScreenFingerprint.read(driver)) == step;
     }
     
     /**
@@ -78,7 +221,9 @@ public abstract class BasePage {
             element.clear();
             element.sendKeys(text);
             logger.info("Typed '{}' into element: {}", text, locator);
+            LocatorRegistry.recordResolution(locator);
         } catch (Exception e) {
+            LocatorRegistry.recordFailure(locator);
             logger.error("Failed to type into element: {}", locator, e);
             throw new RuntimeException("Type failed: " + locator, e);
         }
@@ -214,7 +359,9 @@ public abstract class BasePage {
                     throw e;
                 }
             }
+            LocatorRegistry.recordResolution(locator);
         } catch (Exception e) {
+            LocatorRegistry.recordFailure(locator);
             logger.error("Failed to select from dropdown: {}", locator, e);
             throw new RuntimeException("Select failed: " + locator, e);
         }
@@ -428,8 +575,7 @@ public abstract class BasePage {
      */
     protected void hover(By locator) {
         try {
-            WebElement element = WaitUtils.waitForElementVisible(driver, locator);
-            actions.moveToElement(element).perform();
+            performActions(List.of(locator), (actions, elements) -> actions.moveToElement(elements.get(0)));
             logger.info("Hovered over element: {}", locator);
         } catch (Exception e) {
             logger.error("Failed to hover over element: {}", locator, e);
@@ -437,6 +583,56 @@ public abstract class BasePage {
         }
     }
     
+    /**
+     * Hover over a menu and click one of its items in a single W3C Actions request
+     * 
+     * @param menu Menu (or parent item) locator
+     * @param item Item locator; the item must already be in the DOM
+     */
+    @Step("Hover {menu} and click {item}")
+    protected void hoverAndClick(By menu, By item) {
+        performActions(List.of(menu, item),
+                (actions, elements) -> actions.moveToElement(elements.get(0)).click(elements.get(1)));
+        logger.info("Hovered {} and clicked {}", menu, item);
+    }
+    
+    /**
+     * Wait for the Guidewire click overlay, resolve the targets and dispatch the chain
+     * as one W3C Actions request, retried per the click retry policy
+     * 
+     * @param targets Elements the chain refers to, resolved in order
+     * @param chain Queues the actions on the shared Actions instance
+     */
+    private void performActions(List<By> targets, BiConsumer<Actions, List<WebElement>> chain) {
+        getClickRetryPolicy().execute(driver, targets.get(0), getClass().getSimpleName(), "Actions", () -> {
+            waitForClickOverlay();
+            List<WebElement> elements = new ArrayList<>(targets.size());
+            for (By target : targets) {
+                elements.add(WaitUtils.waitForElementVisible(driver, target));
+            }
+            Actions actions = getActions();
+            try {
+                chain.accept(actions, elements);
+                actions.perform();
+            } finally {
+                // build() discards anything left queued on the shared instance
+                actions.build();
+            }
+        });
+    }
+    
+    /**
+     * Wait until the Guidewire click overlay is gone; a lingering overlay is logged and left
+     * to the click retry policy
+     */
+    private void waitForClickOverlay() {
+        try {
+            WaitUtils.waitForElementInvisible(driver, RetryPolicy.GW_CLICK_OVERLAY, CLICK_OVERLAY_WAIT_SECONDS);
+        } catch (WebDriverException e) {
+            logger.warn("Click overlay still present after {}s", CLICK_OVERLAY_WAIT_SECONDS);
+        }
+    }
+    
     /**
      * Switch to frame by index
      * 
@@ -1,5 +1,8 @@
 package com.enterprise.mercury.ui.pages;
 
+import com.enterprise.mercury.core.driver.CommandBudget;
+import com.enterprise.mercury.core.locators.HealingLocator;
+import com.enterprise.mercury.core.locators.LocatorRegistry;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
@@ -18,23 +21,25 @@ public class ClaimClaimantDetailsPage extends BasePage {
     // ========================================
     // Locators - Navigation Elements
     // ========================================
-    private final By claimTabExpandButton = By.xpath("//*[@id='TabBar-ClaimTab']/div[3]/div");
-    private final By newClaimMenuItem = By.xpath("//*[@id='TabBar-ClaimTab-ClaimTab_FNOLWizard']/div");
+    private static final HealingLocator claimTabExpandButton = LocatorRegistry.healing("claimTab.expandButton");
+    private static final HealingLocator newClaimMenuItem = LocatorRegistry.healing("claimTab.newClaimMenuItem");
+    private static final By clickOverlay = LocatorRegistry.by("gw.clickOverlay");
     
     // ========================================
     // Locators - Policy Search Screen
     // ========================================
-    private final By policyNumberInput = By.name("FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-policyNumber");
-    private final By lossDateInput = By.name("FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-date");
-    private final By lossTimeInput = By.xpath("//input[@type='text' and (@placeholder='hh:mm' or contains(@aria-label,'hh:mm'))]");
-    private final By searchButton = By.xpath("//div[contains(@id,'FNOLWizardFindPolicyPanelSet-Search') and contains(@class,'gw-actionable')]");
-    private final By nextButton = By.xpath("//div[contains(@id,'FNOLWizard') and contains(@id,'Next') and contains(@class,'gw-action')]");
+    private static final By policyNumberInput = LocatorRegistry.by("fnol.policySearch.policyNumber");
+    private static final By lossDateInput = LocatorRegistry.by("fnol.policySearch.lossDate");
+    private static final By lossTimeInput = LocatorRegistry.by("fnol.policySearch.lossTime");
+    private static final By searchButton = LocatorRegistry.by("fnol.policySearch.searchButton");
+    private static final By nextButton = LocatorRegistry.by("fnol.wizard.nextButton");
     
     // ========================================
     // Locators - Claimant Details Screen
     // ========================================
-    private final By claimantNameDropdown = By.xpath("//select[contains(@name,'Name') or contains(@id,'Name')]");
-    private final By preferredMethodOfContactDropdown = By.name("FNOLWizard-FullWizardStepSet-FNOLWizard_BasicInfoScreen-PanelRow-BasicInfoDetailViewPanelDV-PersonContactInfoInputSet-preferred_method_of_contact");
+    private static final By claimantNameDropdown = LocatorRegistry.by("fnol.basicInfo.claimantName");
+    private static final By preferredMethodOfContactDropdown = LocatorRegistry.by("fnol.basicInfo.preferredMethodOfContact");
+    private static final By relationDropdown = LocatorRegistry.by("fnol.basicInfo.relationToInsured");
     
     /**
      * Constructor
@@ -149,13 +154,13 @@ public class ClaimClaimantDetailsPage extends BasePage {
      * Click Next button
      */
     @Step("Click Next button")
+    @CommandBudget(8)
     public void clickNextButton() {
         logger.info("Clicking Next button");
         
         // Wait for overlay to disappear and button to be enabled
         try {
             // Wait for the click overlay to disappear (if present)
-            By clickOverlay = By.id("gw-click-overlay");
             List<WebElement> overlays = driver.findElements(clickOverlay);
             if (!overlays.isEmpty()) {
                 logger.info("Waiting for click overlay to disappear...");
@@ -222,9 +227,6 @@ public class ClaimClaimantDetailsPage extends BasePage {
         logger.info("Attempting to select Relation to Insured: {}", relation);
         
         try {
-            // Dynamic XPath to find any select element containing "Relation" in name or id
-            By relationDropdown = By.xpath("//select[contains(@name,'Relation') or contains(@id,'Relation')]");
-            
             // Debug logging - enumerate ALL select elements on the page
             List<WebElement> selectElements = driver.findElements(By.tagName("select"));
             logger.info("Found {} select elements on page", selectElements.size());
@@ -305,6 +307,7 @@ public class ClaimClaimantDetailsPage extends BasePage {
      * @param amPm AM or PM
      */
     @Step("Fill Policy Search Information")
+    @CommandBudget(12)
     public void fillPolicySearchInfo(String policyNumber, String lossDate, String lossTime, String amPm) {
         logger.info("Filling Policy Search Information");
         enterPolicyNumber(policyNumber);
@@ -338,22 +341,29 @@ public class ClaimClaimantDetailsPage extends BasePage {
      * @param preferredMethod Preferred method of contact
      */
     @Step("Complete Claim Creation with Claimant Details")
+    @CommandBudget(91)
     public void completeClaimCreationWithClaimantDetails(String policyNumber, String lossDate, 
                                                           String lossTime, String claimantName, 
                                                           String relationToInsured, String preferredMethod) {
         logger.info("Completing Claim Creation with Claimant Details");
         
-        // Navigate to New Claim
+        // Policy search always uses PM for this test case
+        flow("Complete Claim Creation with Claimant Details")
+                .step("Open New Claim", () -> true, this::openNewClaim, onStep(WizardStep.FNOL_POLICY_SEARCH))
+                .step("Fill Policy Search", onStep(WizardStep.FNOL_POLICY_SEARCH),
+                      () -> fillPolicySearchInfo(policyNumber, lossDate, lossTime, "PM"))
+                .step("Search", onStep(WizardStep.FNOL_POLICY_SEARCH), this::clickSearchButton)
+                .step("Next to Basic Info", onStep(WizardStep.FNOL_POLICY_SEARCH), this::clickNextButton,
+                      onStep(WizardStep.FNOL_BASIC_INFO))
+                .step("Fill Claimant Details", onStep(WizardStep.FNOL_BASIC_INFO),
+                      () -> fillClaimantDetails(claimantName, relationToInsured, preferredMethod))
+                .step("Next to Loss Details", onStep(WizardStep.FNOL_BASIC_INFO), this::clickNextButton,
+                      onStep(WizardStep.FNOL_LOSS_DETAILS))
+                .run();
+    }
+    
+    private void openNewClaim() {
         clickClaimTabExpand();
         clickNewClaimMenuItem();
-        
-        // Fill policy search (always use PM for this test case)
-        fillPolicySearchInfo(policyNumber, lossDate, lossTime, "PM");
-        clickSearchButton();
-        clickNextButton();
-        
-        // Fill claimant details
-        fillClaimantDetails(claimantName, relationToInsured, preferredMethod);
-        clickNextButton();
     }
 }
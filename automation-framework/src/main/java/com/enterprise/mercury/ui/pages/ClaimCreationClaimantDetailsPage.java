@@ -1,5 +1,8 @@
 package com.enterprise.mercury.ui.pages;
 
+import com.enterprise.mercury.core.driver.CommandBudget;
+import com.enterprise.mercury.core.locators.HealingLocator;
+import com.enterprise.mercury.core.locators.LocatorRegistry;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
@@ -18,23 +21,24 @@ public class ClaimCreationClaimantDetailsPage extends BasePage {
     // ========================================
     // Locators - Navigation
     // ========================================
-    private final By claimTabExpandButton = By.xpath("//*[@id='TabBar-ClaimTab']/div[3]/div");
-    private final By newClaimMenuItem = By.xpath("//*[@id='TabBar-ClaimTab-ClaimTab_FNOLWizard']/div");
+    private static final HealingLocator claimTabExpandButton = LocatorRegistry.healing("claimTab.expandButton");
+    private static final HealingLocator newClaimMenuItem = LocatorRegistry.healing("claimTab.newClaimMenuItem");
+    private static final By clickOverlay = LocatorRegistry.by("gw.clickOverlay");
     
     // ========================================
     // Locators - Policy Search Screen
     // ========================================
-    private final By policyNumberInput = By.name("FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-policyNumber");
-    private final By lossDateInput = By.name("FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-date");
-    private final By lossTimeInput = By.xpath("//input[@type='text' and (@placeholder='hh:mm' or contains(@aria-label,'hh:mm'))]");
-    private final By timeAmPmButton = By.xpath("//button[contains(@class,'gw-time') or contains(text(),'AA') or contains(text(),'aa')]");
-    private final By searchButton = By.xpath("//div[contains(@id,'FNOLWizardFindPolicyPanelSet-Search') and contains(@class,'gw-actionable')]");
-    private final By nextButton = By.xpath("//div[contains(@id,'FNOLWizard') and contains(@id,'Next') and contains(@class,'gw-action')]");
+    private static final By policyNumberInput = LocatorRegistry.by("fnol.policySearch.policyNumber");
+    private static final By lossDateInput = LocatorRegistry.by("fnol.policySearch.lossDate");
+    private static final By lossTimeInput = LocatorRegistry.by("fnol.policySearch.lossTime");
+    private static final By timeAmPmButton = LocatorRegistry.by("fnol.policySearch.timeAmPmButton");
+    private static final By searchButton = LocatorRegistry.by("fnol.policySearch.searchButton");
+    private static final By nextButton = LocatorRegistry.by("fnol.wizard.nextButton");
     
     // ========================================
     // Locators - Claimant Details Screen
     // ========================================
-    private final By claimantNameDropdown = By.xpath("//select[contains(@name,'Name') or contains(@id,'Name')]");
+    private static final By claimantNameDropdown = LocatorRegistry.by("fnol.basicInfo.claimantName");
     
     /**
      * Constructor
@@ -153,12 +157,12 @@ public class ClaimCreationClaimantDetailsPage extends BasePage {
      * Click Next button to proceed to next wizard step
      */
     @Step("Click Next button")
+    @CommandBudget(8)
     public void clickNextButton() {
         logger.info("Clicking Next button");
         
         // Wait for overlay to disappear and button to be enabled
         try {
-            By clickOverlay = By.id("gw-click-overlay");
             List<WebElement> overlays = driver.findElements(clickOverlay);
             if (!overlays.isEmpty()) {
                 logger.info("Waiting for click overlay to disappear...");
@@ -232,6 +236,7 @@ public class ClaimCreationClaimantDetailsPage extends BasePage {
      * @param amPm AM or PM
      */
     @Step("Fill Policy Search Information")
+    @CommandBudget(12)
     public void fillPolicySearchInfo(String policyNumber, String lossDate, String lossTime, String amPm) {
         logger.info("Filling Policy Search Information");
         enterPolicyNumber(policyNumber);
@@ -248,25 +253,31 @@ public class ClaimCreationClaimantDetailsPage extends BasePage {
      * @param claimantName Claimant name
      */
     @Step("Complete Claim Creation with Claimant Name Selection")
+    @CommandBudget(54)
     public void completeClaimCreationWithClaimantDetails(String policyNumber, String lossDate, 
                                                           String lossTime, String amPm,
                                                           String claimantName) {
         logger.info("Completing Claim Creation with Claimant Name Selection (Steps 1-10)");
         
-        // Step 1-3: Navigate to New Claim
+        flow("Complete Claim Creation with Claimant Name Selection")
+                // Step 1-3: Navigate to New Claim
+                .step("Open New Claim", () -> true, this::openNewClaim, onStep(WizardStep.FNOL_POLICY_SEARCH))
+                // Step 4-7: Fill policy search and click AM/PM toggle
+                .step("Fill Policy Search", onStep(WizardStep.FNOL_POLICY_SEARCH),
+                      () -> fillPolicySearchInfo(policyNumber, lossDate, lossTime, amPm))
+                // Step 8: Click Search
+                .step("Search", onStep(WizardStep.FNOL_POLICY_SEARCH), this::clickSearchButton)
+                // Step 9: Click Next
+                .step("Next to Basic Info", onStep(WizardStep.FNOL_POLICY_SEARCH), this::clickNextButton,
+                      onStep(WizardStep.FNOL_BASIC_INFO))
+                // Step 10: Select claimant name - STOP HERE
+                .step("Select Claimant Name", onStep(WizardStep.FNOL_BASIC_INFO),
+                      () -> selectClaimantName(claimantName))
+                .run();
+    }
+    
+    private void openNewClaim() {
         clickClaimTabExpand();
         clickNewClaimMenuItem();
-        
-        // Step 4-7: Fill policy search and click AM/PM toggle
-        fillPolicySearchInfo(policyNumber, lossDate, lossTime, amPm);
-        
-        // Step 8: Click Search
-        clickSearchButton();
-        
-        // Step 9: Click Next
-        clickNextButton();
-        
-        // Step 10: Select claimant name - STOP HERE
-        selectClaimantName(claimantName);
     }
 }
@@ -1,5 +1,7 @@
 package com.enterprise.mercury.ui.pages;
 
+import com.enterprise.mercury.core.locators.HealingLocator;
+import com.enterprise.mercury.core.locators.LocatorRegistry;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 
@@ -16,31 +18,31 @@ public class ClaimCreationPage extends BasePage {
     // Guidewire uses specific naming conventions: ComponentName-SubComponent-FieldName
     
     // Navigation Locators - Tab and Menu
-    private final By claimTabExpandButton = By.xpath("//*[@id=\"TabBar-ClaimTab\"]/div[3]/div");
-    private final By newClaimMenuItem = By.xpath("//*[@id=\"TabBar-ClaimTab-ClaimTab_FNOLWizard\"]/div");
+    private static final HealingLocator claimTabExpandButton = LocatorRegistry.healing("claimTab.expandButton");
+    private static final HealingLocator newClaimMenuItem = LocatorRegistry.healing("claimTab.newClaimMenuItem");
     
     // Dropdown Locators - Guidewire pattern: ComponentName-FieldName
     // Using direct select element within the div structure
-    private final By policyTypeDropdown = By.xpath("//*[@id='FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-ClaimLossType']//select");
-    private final By typeDropdown = By.xpath("//*[@id='FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-Type']//select");
+    private static final By policyTypeDropdown = LocatorRegistry.by("fnol.policySearch.policyType");
+    private static final By typeDropdown = LocatorRegistry.by("fnol.policySearch.type");
     
     // Input Field Locators - Guidewire pattern: using name attribute
-    private final By policyNumberField = By.name("FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-policyNumber");
-    private final By firstNameField = By.xpath("//input[contains(@name,'FirstName') or contains(@name,'first')]");
-    private final By lastNameField = By.xpath("//input[contains(@name,'LastName') or contains(@name,'last')]");
-    private final By dateField = By.name("FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-date");
-    private final By timeField = By.name("FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-LossTime_time");
-    private final By timeField_AM_PM = By.name("FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-LossTime_ampm-button");
+    private static final By policyNumberField = LocatorRegistry.by("fnol.policySearch.policyNumber");
+    private static final By firstNameField = LocatorRegistry.by("fnol.policySearch.firstName");
+    private static final By lastNameField = LocatorRegistry.by("fnol.policySearch.lastName");
+    private static final By dateField = LocatorRegistry.by("fnol.policySearch.lossDate");
+    private static final By timeField = LocatorRegistry.by("fnol.policySearch.lossTime");
+    private static final By timeField_AM_PM = LocatorRegistry.by("fnol.policySearch.timeAmPmButton");
     
     // Button Locators - Guidewire buttons use div elements
-    private final By searchButton = By.xpath("//div[contains(@id,'Search') and contains(@class,'gw-action')]");
-    private final By nextButton = By.xpath("//div[contains(@id,'Next') and contains(@class,'gw-action')]");
-    private final By finishButton = By.xpath("//div[contains(@id,'Finish') and contains(@class,'gw-action')]");
+    private static final By searchButton = LocatorRegistry.by("fnol.policySearch.searchButton");
+    private static final By nextButton = LocatorRegistry.by("fnol.wizard.nextButton");
+    private static final By finishButton = LocatorRegistry.by("fnol.wizard.finishButton");
     
     // Result/Error Locators
-    private final By searchResults = By.xpath("//div[contains(@class,'gw-ListView') or contains(@id,'SearchResults')]");
-    private final By errorMessage = By.xpath("//div[contains(@class,'gw-error') or contains(@class,'gw-warning')]");
-    private final By newClaimPage = By.xpath("//div[contains(@class,'FNOLWizard') or contains(text(),'First Notice of Loss')]");
+    private static final By searchResults = LocatorRegistry.by("fnol.policySearch.resultsListView");
+    private static final By errorMessage = LocatorRegistry.by("gw.errorMessage");
+    private static final By newClaimPage = LocatorRegistry.by("fnol.wizard.container");
     
     /**
      * Constructor
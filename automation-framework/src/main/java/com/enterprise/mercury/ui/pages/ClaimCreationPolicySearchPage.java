@@ -1,5 +1,11 @@
 package com.enterprise.mercury.ui.pages;
 
+import com.enterprise.mercury.core.driver.CommandBudget;
+import com.enterprise.mercury.core.guidewire.ListViewTable;
+import com.enterprise.mercury.core.guidewire.ScreenOutcome;
+import com.enterprise.mercury.core.guidewire.ValidationMessage;
+import com.enterprise.mercury.core.locators.HealingLocator;
+import com.enterprise.mercury.core.locators.LocatorRegistry;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
@@ -18,24 +24,27 @@ public class ClaimCreationPolicySearchPage extends BasePage {
     // ========================================
     // Locators - Navigation Elements
     // ========================================
-    private final By claimTabExpandButton = By.xpath("//*[@id='TabBar-ClaimTab']/div[3]/div");
-    private final By newClaimMenuItem = By.xpath("//*[@id='TabBar-ClaimTab-ClaimTab_FNOLWizard']/div");
+    private static final HealingLocator claimTabExpandButton = LocatorRegistry.healing("claimTab.expandButton");
+    private static final HealingLocator newClaimMenuItem = LocatorRegistry.healing("claimTab.newClaimMenuItem");
+    private static final By clickOverlay = LocatorRegistry.by("gw.clickOverlay");
     
     // ========================================
     // Locators - Policy Search Screen
     // ========================================
-    private final By policyNumberInput = By.name("FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-policyNumber");
-    private final By lossDateInput = By.name("FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-date");
-    private final By lossTimeInput = By.xpath("//input[@type='text' and (@placeholder='hh:mm' or contains(@aria-label,'hh:mm'))]");
-    private final By timeAmPmButton = By.xpath("//button[contains(@class,'gw-time') or contains(text(),'AA') or contains(text(),'aa')]");
-    private final By searchButton = By.xpath("//div[contains(@id,'FNOLWizardFindPolicyPanelSet-Search') and contains(@class,'gw-actionable')]");
-    private final By nextButton = By.xpath("//div[contains(@id,'FNOLWizard') and contains(@id,'Next') and contains(@class,'gw-action')]");
+    private static final By policyNumberInput = LocatorRegistry.by("fnol.policySearch.policyNumber");
+    private static final By lossDateInput = LocatorRegistry.by("fnol.policySearch.lossDate");
+    private static final By lossTimeInput = LocatorRegistry.by("fnol.policySearch.lossTime");
+    private static final By timeAmPmButton = LocatorRegistry.by("fnol.policySearch.timeAmPmButton");
+    private static final By searchButton = LocatorRegistry.by("fnol.policySearch.searchButton");
+    private static final HealingLocator policyResultsListView = LocatorRegistry.healing("fnol.policySearch.resultsListView");
+    private static final By nextButton = LocatorRegistry.by("fnol.wizard.nextButton");
     
     // ========================================
     // Locators - Claimant Details Screen
     // ========================================
-    private final By claimantNameDropdown = By.xpath("//select[contains(@name,'Name') or contains(@id,'Name')]");
-    private final By preferredMethodOfContactDropdown = By.name("FNOLWizard-FullWizardStepSet-FNOLWizard_BasicInfoScreen-PanelRow-BasicInfoDetailViewPanelDV-PersonContactInfoInputSet-preferred_method_of_contact");
+    private static final By claimantNameDropdown = LocatorRegistry.by("fnol.basicInfo.claimantName");
+    private static final By preferredMethodOfContactDropdown = LocatorRegistry.by("fnol.basicInfo.preferredMethodOfContact");
+    private static final By relationDropdown = LocatorRegistry.by("fnol.basicInfo.relationToInsured");
     
     /**
      * Constructor
@@ -146,17 +155,50 @@ public class ClaimCreationPolicySearchPage extends BasePage {
         }
     }
     
+    /**
+     * Click Search and wait for the server response instead of a fixed delay
+     * Resolves as soon as validation messages or the policy search results are shown.
+     * @return Outcome with any validation messages
+     */
+    @Step("Search for policy")
+    public ScreenOutcome searchForPolicy() {
+        logger.info("Clicking Search button and waiting for results or validation messages");
+        click(searchButton);
+        return awaitMessagesOrScreen(policyResultsListView);
+    }
+    
+    /**
+     * Read all validation and error messages on the current screen
+     * @return Validation messages
+     */
+    @Step("Get validation messages")
+    public List<ValidationMessage> getValidationMessages() {
+        return readValidationMessages();
+    }
+    
+    /**
+     * Read the policy search results in one round trip
+     * Call after searchForPolicy(), which waits for the results instead of a fixed delay.
+     * @return Policy search results table
+     */
+    @Step("Read Policy Search Results")
+    public ListViewTable getPolicySearchResults() {
+        ListViewTable results = readListView(policyResultsListView);
+        logger.info("Policy search returned {} row(s)", results.size());
+        return results;
+    }
+    
     /**
      * Click Next button
      */
     @Step("Click Next button")
+    @CommandBudget(8)
     public void clickNextButton() {
         logger.info("Clicking Next button");
         
         // Wait for overlay to disappear and button to be enabled
         try {
             // Wait for the click overlay to disappear (if present)
-            By clickOverlay = By.id("gw-click-overlay");
             List<WebElement> overlays = driver.findElements(clickOverlay);
             if (!overlays.isEmpty()) {
                 logger.info("Waiting for click overlay to disappear...");
@@ -223,9 +265,6 @@ public class ClaimCreationPolicySearchPage extends BasePage {
         logger.info("Attempting to select Relation to Insured: {}", relation);
         
         try {
-            // Dynamic XPath to find any select element containing "Relation" in name or id
-            By relationDropdown = By.xpath("//select[contains(@name,'Relation') or contains(@id,'Relation')]");
-            
             // Debug logging - enumerate ALL select elements on the page
             List<WebElement> selectElements = driver.findElements(By.tagName("select"));
             logger.info("Found {} select elements on page", selectElements.size());
@@ -306,6 +345,7 @@ public class ClaimCreationPolicySearchPage extends BasePage {
      * @param amPm AM or PM
      */
     @Step("Fill Policy Search Information")
+    @CommandBudget(12)
     public void fillPolicySearchInfo(String policyNumber, String lossDate, String lossTime, String amPm) {
         logger.info("Filling Policy Search Information");
         enterPolicyNumber(policyNumber);
@@ -340,23 +380,29 @@ public class ClaimCreationPolicySearchPage extends BasePage {
      * @param preferredMethod Preferred method of contact
      */
     @Step("Complete Claim Creation with Policy Search")
+    @CommandBudget(91)
     public void completeClaimCreationWithPolicySearch(String policyNumber, String lossDate, 
                                                        String lossTime, String amPm, 
                                                        String claimantName, String relationToInsured, 
                                                        String preferredMethod) {
         logger.info("Completing Claim Creation with Policy Search");
         
-        // Navigate to New Claim
+        flow("Complete Claim Creation with Policy Search")
+                .step("Open New Claim", () -> true, this::openNewClaim, onStep(WizardStep.FNOL_POLICY_SEARCH))
+                .step("Fill Policy Search", onStep(WizardStep.FNOL_POLICY_SEARCH),
+                      () -> fillPolicySearchInfo(policyNumber, lossDate, lossTime, amPm))
+                .step("Search", onStep(WizardStep.FNOL_POLICY_SEARCH), this::clickSearchButton)
+                .step("Next to Basic Info", onStep(WizardStep.FNOL_POLICY_SEARCH), this::clickNextButton,
+                      onStep(WizardStep.FNOL_BASIC_INFO))
+                .step("Fill Claimant Details", onStep(WizardStep.FNOL_BASIC_INFO),
+                      () -> fillClaimantDetails(claimantName, relationToInsured, preferredMethod))
+                .step("Next to Loss Details", onStep(WizardStep.FNOL_BASIC_INFO), this::clickNextButton,
+                      onStep(WizardStep.FNOL_LOSS_DETAILS))
+                .run();
+    }
+    
+    private void openNewClaim() {
         clickClaimTabExpand();
         clickNewClaimMenuItem();
-        
-        // Fill policy search
-        fillPolicySearchInfo(policyNumber, lossDate, lossTime, amPm);
-        clickSearchButton();
-        clickNextButton();
-        
-        // Fill claimant details
-        fillClaimantDetails(claimantName, relationToInsured, preferredMethod);
-        clickNextButton();
     }
 }
@@ -0,0 +1,162 @@
+package com.enterprise.mercury.ui.pages;
+
+import com.enterprise.mercury.core.config.ConfigManager;
+import com.enterprise.mercury.core.driver.RecordedWait;
+import com.enterprise.mercury.core.guidewire.ActionScript;
+import com.enterprise.mercury.core.guidewire.ScreenFingerprint;
+import com.enterprise.mercury.core.guidewire.ScreenOutcome;
+import com.enterprise.mercury.core.locators.HealingLocator;
+import com.enterprise.mercury.core.locators.LocatorRegistry;
+import com.enterprise.mercury.core.utils.WaitUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.qameta.allure.Step;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Fast-forward to a target FNOL wizard step with the fewest interactions
+ * Uses a registered backend/API setup path when one supports the target, otherwise
+ * replays the recorded action script from the current step, without fixed sleeps:
+ * each segment ends as soon as the screen fingerprint shows the next step.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class FnolFastForward extends BasePage {
+
+    private static final String ACTION_SCRIPT = "flows/fnol-fast-forward.json";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+    private static final List<WizardSetupPath> SETUP_PATHS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor
+     */
+    public FnolFastForward() {
+        super();
+    }
+
+    /**
+     * Register a backend/API setup path; later registrations are tried first
+     *
+     * @param path Setup path
+     */
+    public static void registerSetupPath(WizardSetupPath path) {
+        SETUP_PATHS.add(0, path);
+    }
+
+    /**
+     * Remove all registered setup paths
+     */
+    public static void clearSetupPaths() {
+        SETUP_PATHS.clear();
+    }
+
+    /**
+     * Fast-forward using the text fields of a test data row as script values
+     *
+     * @param target Wizard step to reach
+     * @param testData Test data row (e.g. validClaimWithClaimantDetails)
+     */
+    public void fastForwardTo(WizardStep target, JsonNode testData) {
+        fastForwardTo(target, scriptValues(testData));
+    }
+
+    /**
+     * Get the text fields of a test data row as action script values
+     *
+     * @param testData Test data row; nested objects and arrays are skipped
+     * @return Values by field name, in document order
+     */
+    public static Map<String, String> scriptValues(JsonNode testData) {
+        Map<String, String> data = new LinkedHashMap<>();
+        testData.fields().forEachRemaining(e -> {
+            if (e.getValue().isValueNode()) {
+                data.put(e.getKey(), e.getValue().asText());
+            }
+        });
+        return data;
+    }
+
+    /**
+     * Fast-forward to a wizard step
+     *
+     * @param target Wizard step to reach
+     * @param data Values for the ${key} placeholders of the action script
+     * @throws RuntimeException if the step is not reached or the wizard shows validation messages
+     */
+    @Step("Fast-forward to wizard step {target}")
+    public void fastForwardTo(WizardStep target, Map<String, String> data) {
+        long start = System.nanoTime();
+        WizardStep current = getCurrentWizardStep();
+        if (current == target) {
+            return;
+        }
+
+        for (WizardSetupPath path : SETUP_PATHS) {
+            if (path.supports(target)) {
+                logger.info("Fast-forwarding to {} via setup path {}", target, path.getClass().getSimpleName());
+                path.advanceTo(driver, target, data);
+                if (getCurrentWizardStep() == target) {
+                    logger.info("Reached {} via setup path in {}ms", target, elapsedMillis(start));
+                    return;
+                }
+                logger.warn("Setup path {} did not reach {}, replaying action script", path.getClass().getSimpleName(), target);
+                current = getCurrentWizardStep();
+            }
+        }
+
+        int actions = 0;
+        for (ActionScript.Segment segment : ActionScript.load(ACTION_SCRIPT).plan(current.name(), target.name())) {
+            logger.info("Replaying {} -> {}", segment.from(), segment.to());
+            for (ActionScript.Action action : segment.actions()) {
+                perform(action.resolve(data), segment);
+                actions++;
+            }
+            awaitStep(WizardStep.valueOf(segment.to()));
+        }
+        logger.info("Fast-forwarded from {} to {} with {} action(s) in {}ms", current, target, actions, elapsedMillis(start));
+    }
+
+    private void perform(ActionScript.Action action, ActionScript.Segment segment) {
+        HealingLocator widget = LocatorRegistry.healing(action.widget());
+        switch (action.op()) {
+            case "click" -> click(widget);
+            case "type" -> type(locate(widget), action.value());
+            case "set" -> {
+                WebElement element = WaitUtils.waitForElementVisible(driver, locate(widget));
+                ((JavascriptExecutor) driver).executeScript(
+                        "arguments[0].value = arguments[1];"
+                        + "arguments[0].dispatchEvent(new Event('change', { bubbles: true }));",
+                        element, action.value());
+            }
+            case "await" -> {
+                ScreenOutcome outcome = awaitMessagesOrScreen(widget);
+                if (outcome.hasMessages()) {
+                    throw new RuntimeException("Fast-forward stopped on " + segment.from() + ": " + outcome.messages());
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown action script op: " + action);
+        }
+    }
+
+    private void awaitStep(WizardStep step) {
+        try {
+            new RecordedWait(driver, Duration.ofSeconds(ConfigManager.getInstance().getExplicitWait()))
+                    .pollingEvery(POLL_INTERVAL)
+                    .until(d -> WizardStep.identify(ScreenFingerprint.read(d)) == step);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Fast-forward did not reach " + step + ": " + readValidationMessages(), e);
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+    }
+}
@@ -14,15 +14,15 @@ import org.openqa.selenium.By;
 public class LoginPage extends BasePage {
     
     // Locators - Updated for SauceDemo website
-    private final By usernameField = By.id("user-name");
-    private final By passwordField = By.id("password");
-    private final By loginButton = By.id("login-button");
-    private final By errorMessage = By.cssSelector("[data-test='error']");
-    private final By loginLogo = By.cssSelector(".login_logo");
-    private final By loginContainer = By.cssSelector(".login_container");
-    private final By loginTitle = By.cssSelector(".login_logo"); // Using logo as title for SauceDemo
-    private final By rememberMeCheckbox = By.id("remember-me"); // Placeholder (doesn't exist on SauceDemo)
-    private final By forgotPasswordLink = By.linkText("Forgot Password?"); // Placeholder (doesn't exist on SauceDemo)
+    private static final By usernameField = By.id("user-name");
+    private static final By passwordField = By.id("password");
+    private static final By loginButton = By.id("login-button");
+    private static final By errorMessage = By.cssSelector("[data-test='error']");
+    private static final By loginLogo = By.cssSelector(".login_logo");
+    private static final By loginContainer = By.cssSelector(".login_container");
+    private static final By loginTitle = By.cssSelector(".login_logo"); // Using logo as title for SauceDemo
+    private static final By rememberMeCheckbox = By.id("remember-me"); // Placeholder (doesn't exist on SauceDemo)
+    private static final By forgotPasswordLink = By.linkText("Forgot Password?"); // Placeholder (doesn't exist on SauceDemo)
     
     /**
      * Constructor
@@ -0,0 +1,43 @@
+package com.enterprise.mercury.ui.pages;
+
+import com.enterprise.mercury.core.driver.SessionCache;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Per-session page-object cache
+ * Page objects are stateless apart from the driver, so one instance per class and
+ * session is reused across steps and tests on the same browser. The cache is
+ * cleared when DriverFactory quits the session.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public class PageCache {
+
+    // Private constructor
+    private PageCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Get the page object of the given class for the current session
+     *
+     * @param pageClass Page object class with a public no-arg constructor
+     * @param <T> Page object type
+     * @return Cached page object
+     */
+    public static <T extends BasePage> T get(Class<T> pageClass) {
+        return SessionCache.get(pageClass, driver -> create(pageClass));
+    }
+
+    private static <T extends BasePage> T create(Class<T> pageClass) {
+        try {
+            return pageClass.getDeclaredConstructor().newInstance();
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException("Page object construction failed: " + pageClass.getSimpleName(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Page object needs a public no-arg constructor: " + pageClass.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.enterprise.mercury.ui.pages;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+
+/**
+ * Backend or API setup path that puts the browser on a wizard step without UI clicks
+ * (e.g. creating a draft claim through an integration endpoint and opening it).
+ * Registered paths are tried by FnolFastForward before the recorded action script.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public interface WizardSetupPath {
+
+    /**
+     * Check whether this path can reach the target step
+     *
+     * @param target Wizard step to reach
+     * @return true if advanceTo should be attempted
+     */
+    boolean supports(WizardStep target);
+
+    /**
+     * Perform the setup and leave the browser on the target step
+     *
+     * @param driver WebDriver of the current test
+     * @param target Wizard step to reach
+     * @param data Test data values
+     */
+    void advanceTo(WebDriver driver, WizardStep target, Map<String, String> data);
+}
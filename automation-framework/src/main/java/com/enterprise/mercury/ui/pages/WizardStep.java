@@ -0,0 +1,92 @@
+package com.enterprise.mercury.ui.pages;
+
+import com.enterprise.mercury.core.guidewire.ScreenFingerprint;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Guidewire screens and FNOL wizard steps, identified by their PCF screen IDs
+ * Each step maps to the page objects that can drive it, so tests and recovery
+ * logic can branch on the current step without waiting on step-specific elements.
+ * Step names match the screen names used by the locator registry and page snapshots.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+public enum WizardStep {
+
+    // Wizard steps come first: the tab bar and desktop widgets stay rendered behind the wizard
+    FNOL_POLICY_SEARCH("FNOLWizard_FindPolicyScreen", List.of(
+            ClaimCreationPage.class, ClaimCreationPolicySearchPage.class,
+            ClaimClaimantDetailsPage.class, ClaimCreationClaimantDetailsPage.class)),
+    FNOL_BASIC_INFO("FNOLWizard_BasicInfoScreen", List.of(
+            ClaimCreationPolicySearchPage.class, ClaimClaimantDetailsPage.class,
+            ClaimCreationClaimantDetailsPage.class)),
+    FNOL_LOSS_DETAILS("FNOLWizard_NewLossDetailsScreen", List.of()),
+    FNOL_SAVE_AND_ASSIGN("FNOLWizard_AssignSaveScreen", List.of()),
+    LOGIN("Login\\w*Screen", List.of(LoginPage.class)),
+    DESKTOP("Desktop\\w*Screen", List.of()),
+    UNKNOWN(null, List.of());
+
+    private final Pattern marker;
+    private final List<Class<? extends BasePage>> pageClasses;
+
+    WizardStep(String marker, List<Class<? extends BasePage>> pageClasses) {
+        this.marker = marker == null ? null : Pattern.compile(marker);
+        this.pageClasses = pageClasses;
+    }
+
+    /**
+     * Identify the step from a screen fingerprint
+     *
+     * @param fingerprint Screen IDs and title of the current page
+     * @return First step whose marker matches a screen ID, or UNKNOWN
+     */
+    public static WizardStep identify(ScreenFingerprint fingerprint) {
+        for (WizardStep step : values()) {
+            if (step.matches(fingerprint)) {
+                return step;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Check whether the fingerprint shows this step
+     *
+     * @param fingerprint Screen IDs and title of the current page
+     * @return true if any screen ID matches the step marker
+     */
+    public boolean matches(ScreenFingerprint fingerprint) {
+        return marker != null && fingerprint.screenIds().stream().anyMatch(id -> marker.matcher(id).matches());
+    }
+
+    /**
+     * Page objects that can drive this step
+     *
+     * @return Page object classes, empty when the step has no page object yet
+     */
+    public List<Class<? extends BasePage>> getPageClasses() {
+        return pageClasses;
+    }
+
+    /**
+     * Check whether a page object can drive this step
+     *
+     * @param page Page object
+     * @return true if the page object class is mapped to this step
+     */
+    public boolean isHandledBy(BasePage page) {
+        return pageClasses.contains(page.getClass());
+    }
+
+    /**
+     * Check whether this is a step of the FNOL wizard
+     *
+     * @return true for FNOL_* steps
+     */
+    public boolean isFnolStep() {
+        return name().startsWith("FNOL_");
+    }
+}
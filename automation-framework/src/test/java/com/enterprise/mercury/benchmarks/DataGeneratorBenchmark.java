@@ -0,0 +1,57 @@
+package com.enterprise.mercury.benchmarks;
+
+import com.enterprise.mercury.core.utils.DataGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of synthetic FNOL row generation, to check rows are built far faster
+ * than a UI or API test consumes them
+ * Run from automation-framework after {@code mvn test-compile}:
+ * <pre>
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     com.enterprise.mercury.benchmarks.DataGeneratorBenchmark
+ * </pre>
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataGeneratorBenchmark {
+
+    private DataGenerator generator;
+    private long index;
+
+    @Setup
+    public void setUp() {
+        generator = DataGenerator.fromSchema("ui/fnolClaimSchema.json");
+    }
+
+    @Benchmark
+    public JsonNode fnolRow() {
+        return generator.row(20260201L, index++);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DataGeneratorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package com.enterprise.mercury.benchmarks;
+
+import com.enterprise.mercury.core.utils.DataPath;
+import com.enterprise.mercury.core.utils.DataReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of test-data key lookups, before and after compiled path caching
+ * <ul>
+ *   <li>{@code legacy*} - per-call mapper, file parse and regex split, as getJsonValue used to do</li>
+ *   <li>{@code splitWalk} / {@code compiledPath} - path evaluation alone on a parsed document</li>
+ *   <li>{@code dataReaderGetJsonValue} - the current cached DataReader call end to end</li>
+ * </ul>
+ * Run from automation-framework after {@code mvn test-compile}:
+ * <pre>
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     com.enterprise.mercury.benchmarks.DataPathBenchmark
+ * </pre>
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataPathBenchmark {
+
+    private static final String FILE_NAME = "ui/claimCreationData.json";
+    private static final String KEY_PATH = "validPolicySearch.policyNumber";
+
+    private File file;
+    private JsonNode document;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = new File("../test-assets/test-data/" + FILE_NAME);
+        document = new ObjectMapper().readTree(file);
+    }
+
+    @Benchmark
+    public String legacyGetJsonValue() throws IOException {
+        return splitAndWalk(new ObjectMapper().readTree(file), KEY_PATH);
+    }
+
+    @Benchmark
+    public String splitWalk() {
+        return splitAndWalk(document, KEY_PATH);
+    }
+
+    @Benchmark
+    public String compiledPath() {
+        return DataPath.compile(KEY_PATH).first(document).asText();
+    }
+
+    @Benchmark
+    public String dataReaderGetJsonValue() {
+        return DataReader.getJsonValue(FILE_NAME, KEY_PATH);
+    }
+
+    private static String splitAndWalk(JsonNode root, String keyPath) {
+        JsonNode current = root;
+        for (String key : keyPath.split("\\.")) {
+            current = current.get(key);
+        }
+        return current.asText();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DataPathBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,77 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.guidewire.ActionScript;
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.locators.LocatorRegistry;
+import com.enterprise.mercury.ui.pages.WizardStep;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for recorded wizard action scripts
+ * Covers segment planning, placeholder resolution and the shipped FNOL fast-forward script
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Wizard Fast-Forward")
+@Listeners(TestListener.class)
+public class ActionScriptTest {
+
+    private static final String SCRIPT_JSON = "{\"segments\":["
+            + "{\"from\":\"A\",\"to\":\"B\",\"actions\":[{\"op\":\"click\",\"widget\":\"w.a\"}]},"
+            + "{\"from\":\"B\",\"to\":\"C\",\"actions\":[{\"op\":\"type\",\"widget\":\"w.b\",\"value\":\"${time} ${amPm}\"}]}"
+            + "]}";
+
+    private ActionScript script() throws Exception {
+        return ActionScript.parse("inline", new ObjectMapper().readTree(SCRIPT_JSON));
+    }
+
+    @Test(description = "Verify plans start at the current step and stop at the target")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testPlan() throws Exception {
+        ActionScript script = script();
+        Assert.assertEquals(script.plan("A", "C").size(), 2);
+        Assert.assertEquals(script.plan("B", "C").get(0).from(), "B", "Plan resumes from the current step");
+        Assert.assertTrue(script.plan("C", "C").isEmpty());
+        Assert.assertEquals(script.plan("UNKNOWN", "B").get(0).from(), "A", "Unknown screens start at the first segment");
+    }
+
+    @Test(description = "Verify unreachable targets are rejected",
+          expectedExceptions = IllegalArgumentException.class)
+    @Severity(SeverityLevel.NORMAL)
+    public void testUnreachableTarget() throws Exception {
+        script().plan("A", "Z");
+    }
+
+    @Test(description = "Verify placeholders resolve from test data and missing values fail fast")
+    @Severity(SeverityLevel.NORMAL)
+    public void testResolve() throws Exception {
+        ActionScript.Action action = script().getSegments().get(1).actions().get(0);
+        Assert.assertEquals(action.resolve(Map.of("time", "11:11", "amPm", "PM")).value(), "11:11 PM");
+        Assert.expectThrows(IllegalArgumentException.class, () -> action.resolve(Map.of("time", "11:11")));
+    }
+
+    @Test(description = "Verify the FNOL fast-forward script uses registry widgets and known wizard steps")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testFnolScript() {
+        ActionScript script = ActionScript.load("flows/fnol-fast-forward.json");
+        List<String> ops = List.of("click", "type", "set", "await");
+        for (ActionScript.Segment segment : script.getSegments()) {
+            WizardStep.valueOf(segment.from());
+            WizardStep.valueOf(segment.to());
+            for (ActionScript.Action action : segment.actions()) {
+                Assert.assertTrue(LocatorRegistry.contains(action.widget()), "Unknown widget: " + action.widget());
+                Assert.assertTrue(ops.contains(action.op()), "Unknown op: " + action.op());
+            }
+        }
+        Assert.assertEquals(script.plan(WizardStep.DESKTOP.name(), WizardStep.FNOL_BASIC_INFO.name()).size(), 2);
+    }
+}
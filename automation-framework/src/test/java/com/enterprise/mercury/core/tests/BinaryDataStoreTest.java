@@ -0,0 +1,164 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.config.ConfigScope;
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.utils.BinaryDataStore;
+import com.enterprise.mercury.core.utils.DataReader;
+import com.enterprise.mercury.core.utils.TestDataCompiler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for compiled binary test data
+ * Compiles scratch trees, and checks the copies the build made of the real test data
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Test Data")
+@Listeners(TestListener.class)
+public class BinaryDataStoreTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private Path directory;
+
+    @BeforeClass
+    public void writeDataFiles() throws IOException {
+        directory = Files.createTempDirectory("binary-data");
+        Files.createDirectories(directory.resolve("src/ui"));
+        Files.writeString(directory.resolve("src/ui/scenarios.json"),
+                "{\"valid\":{\"policyNumber\":\"A1\",\"amount\":12.5},\"invalid\":{\"policyNumber\":\"X\",\"tags\":[1,2]}}");
+        Files.writeString(directory.resolve("src/ui/rows.json"), "[{\"n\":1},{\"n\":2},{\"n\":3}]");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteDataFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test(description = "Verify records decode on demand to the original JSON values")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testCompileAndDecodeRecords() throws IOException {
+        Path target = directory.resolve("bin");
+        Assert.assertEquals(TestDataCompiler.compile(directory.resolve("src"), target), 2);
+        Assert.assertEquals(TestDataCompiler.compile(directory.resolve("src"), target), 0, "Up-to-date files are skipped");
+
+        BinaryDataStore scenarios = BinaryDataStore.open(target.resolve("ui/scenarios.smile"));
+        Assert.assertEquals(scenarios.keys(), List.of("valid", "invalid"));
+        Assert.assertEquals(scenarios.record("invalid"), mapper.readTree("{\"policyNumber\":\"X\",\"tags\":[1,2]}"));
+        Assert.assertNull(scenarios.record("missing"));
+        Assert.assertEquals(scenarios.document(), mapper.readTree(directory.resolve("src/ui/scenarios.json").toFile()));
+
+        BinaryDataStore rows = BinaryDataStore.open(target.resolve("ui/rows.smile"));
+        Assert.assertEquals(rows.size(), 3);
+        Assert.assertEquals(rows.record(2).get("n").asInt(), 3);
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> rows.record(3));
+    }
+
+    @Test(description = "Verify the build compiled every JSON test-data file to a matching copy")
+    @Severity(SeverityLevel.NORMAL)
+    public void testBuildCompiledTestData() throws IOException {
+        Path source = Paths.get("../test-assets/test-data");
+        Path compiledRoot = Paths.get("target/test-data-bin");
+        if (!Files.isDirectory(compiledRoot)) {
+            throw new SkipException(compiledRoot + " does not exist; run the build through process-classes first");
+        }
+        List<Path> jsonFiles;
+        try (Stream<Path> files = Files.walk(source)) {
+            jsonFiles = files.filter(file -> file.toString().endsWith(".json")).collect(Collectors.toList());
+        }
+        Assert.assertFalse(jsonFiles.isEmpty(), "No JSON test data under " + source);
+        for (Path json : jsonFiles) {
+            Path compiled = TestDataCompiler.targetFor(source.relativize(json), compiledRoot);
+            Assert.assertTrue(Files.exists(compiled), "No compiled copy of " + json);
+            BinaryDataStore store = BinaryDataStore.open(compiled);
+            Assert.assertTrue(store.isCompiledFrom(json, Files.size(json)), compiled + " was compiled from " + store.source());
+            Assert.assertEquals(store.document(), mapper.readTree(json.toFile()), json.toString());
+        }
+    }
+
+    @Test(description = "Verify DataReader reads records from a current compiled copy and falls back to newer JSON")
+    @Severity(SeverityLevel.NORMAL)
+    public void testDataReaderRecord() throws IOException {
+        Path source = directory.resolve("reader-src");
+        Path compiledRoot = directory.resolve("reader-bin");
+        Path json = source.resolve("ui/records.json");
+        Files.createDirectories(json.getParent());
+        Files.writeString(json, "{\"valid\":{\"policyNumber\":\"A1\"}}");
+        Assert.assertEquals(TestDataCompiler.compile(source, compiledRoot), 1);
+
+        // Same-size edit dated before the compiled copy: only the compiled path still returns A1
+        FileTime compiledTime = Files.getLastModifiedTime(TestDataCompiler.targetFor(Paths.get("ui/records.json"), compiledRoot));
+        Files.writeString(json, "{\"valid\":{\"policyNumber\":\"B2\"}}");
+        Files.setLastModifiedTime(json, FileTime.fromMillis(compiledTime.toMillis() - 2000));
+
+        DataReader.clearCache();
+        try (ConfigScope scope = ConfigScope.open(Map.of("test.data.dir", source.toString(),
+                "test.data.binary.dir", compiledRoot.toString()))) {
+            Assert.assertEquals(scope.getOverrides().get("test.data.binary.dir"), compiledRoot.toString());
+            Assert.assertEquals(DataReader.readRecord("ui/records.json", "valid").get("policyNumber").asText(), "A1");
+            Assert.assertNull(DataReader.readRecord("ui/records.json", "noSuchScenario"));
+
+            Files.setLastModifiedTime(json, FileTime.fromMillis(compiledTime.toMillis() + 2000));
+            Assert.assertEquals(DataReader.readRecord("ui/records.json", "valid").get("policyNumber").asText(), "B2",
+                    "A source newer than its compiled copy is read as JSON");
+        } finally {
+            DataReader.clearCache();
+        }
+    }
+
+    @Test(description = "Verify DataReader ignores a compiled copy of another tree with the same relative name")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testDataReaderIgnoresOtherTree() throws IOException {
+        Path buildTree = directory.resolve("build-src");
+        Path otherTree = directory.resolve("other-src");
+        Path compiledRoot = directory.resolve("build-bin");
+        Path buildJson = buildTree.resolve("ui/records.json");
+        Path otherJson = otherTree.resolve("ui/records.json");
+        Files.createDirectories(buildJson.getParent());
+        Files.createDirectories(otherJson.getParent());
+        Files.writeString(buildJson, "{\"valid\":{\"policyNumber\":\"A1\"}}");
+        Files.writeString(otherJson, "{\"valid\":{\"policyNumber\":\"OTHER-7\"}}");
+        Assert.assertEquals(TestDataCompiler.compile(buildTree, compiledRoot), 1);
+
+        // The other tree's file is older than the compiled copy, so only the header tells them apart
+        Path compiled = TestDataCompiler.targetFor(Paths.get("ui/records.json"), compiledRoot);
+        Files.setLastModifiedTime(otherJson, FileTime.fromMillis(Files.getLastModifiedTime(compiled).toMillis() - 2000));
+        Assert.assertTrue(BinaryDataStore.open(compiled).isCompiledFrom(buildJson, Files.size(buildJson)));
+        Assert.assertFalse(BinaryDataStore.open(compiled).isCompiledFrom(otherJson, Files.size(otherJson)));
+
+        DataReader.clearCache();
+        try (ConfigScope scope = ConfigScope.open(Map.of("test.data.dir", otherTree.toString(),
+                "test.data.binary.dir", compiledRoot.toString()))) {
+            Assert.assertEquals(scope.getOverrides().get("test.data.dir"), otherTree.toString());
+            Assert.assertEquals(DataReader.readRecord("ui/records.json", "valid").get("policyNumber").asText(), "OTHER-7");
+            Assert.assertEquals(DataReader.readJsonAsJsonNode("ui/records.json").at("/valid/policyNumber").asText(), "OTHER-7");
+        } finally {
+            DataReader.clearCache();
+        }
+
+        Assert.assertEquals(TestDataCompiler.compile(otherTree, compiledRoot), 1, "A copy of another tree is recompiled");
+        Assert.assertTrue(BinaryDataStore.open(compiled).isCompiledFrom(otherJson, Files.size(otherJson)));
+    }
+}
@@ -0,0 +1,136 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.driver.CommandBudget;
+import com.enterprise.mercury.core.driver.CommandBudgets;
+import com.enterprise.mercury.core.driver.CommandRecord;
+import com.enterprise.mercury.core.driver.CommandRecorder;
+import com.enterprise.mercury.core.driver.RecordedWait;
+import com.enterprise.mercury.core.listeners.TestListener;
+import io.qameta.allure.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for command recording and command budgets
+ * Uses an in-memory WebDriver stub wrapped in the same decorator as DriverFactory
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("WebDriver Command Budgets")
+@Listeners(TestListener.class)
+public class CommandBudgetsTest {
+
+    private WebDriver driver;
+
+    /**
+     * Page object stand-in with budgeted methods
+     */
+    public static class StubPage {
+        private final WebDriver driver;
+
+        StubPage(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        @CommandBudget(3)
+        public void cheapStep() {
+            driver.getTitle();
+            driver.findElements(By.id("field"));
+        }
+
+        @CommandBudget(2)
+        public void expensiveStep() {
+            for (int i = 0; i < 5; i++) {
+                driver.findElements(By.id("row-" + i));
+            }
+        }
+
+        @CommandBudget(2)
+        public void waitingStep() {
+            AtomicInteger polls = new AtomicInteger();
+            new RecordedWait(driver, Duration.ofSeconds(5), Duration.ofMillis(10))
+                    .until(d -> !d.findElements(By.id("spinner")).isEmpty() || polls.incrementAndGet() == 5);
+            driver.getTitle();
+        }
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void setUp() {
+        WebDriver stub = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{WebDriver.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getTitle":
+                            return "Stub";
+                        case "findElements":
+                            return List.of();
+                        default:
+                            return null;
+                    }
+                });
+        driver = new EventFiringDecorator<>(CommandRecorder.getInstance()).decorate(stub);
+        CommandRecorder.reset();
+    }
+
+    @Test(description = "Verify commands are recorded with name and locator")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCommandsRecorded() {
+        driver.manage();
+        driver.findElements(By.name("policyNumber"));
+
+        Assert.assertEquals(CommandRecorder.getCommandCount(), 1, "Local manage() call must not be recorded");
+        Assert.assertEquals(CommandRecorder.snapshot().get(0).locator(), "By.name: policyNumber");
+    }
+
+    @Test(description = "Verify a method within its budget passes")
+    @Severity(SeverityLevel.NORMAL)
+    public void testWithinBudget() {
+        StubPage page = new StubPage(driver);
+        int issued = CommandBudgets.verify(page, "cheapStep", page::cheapStep);
+        Assert.assertEquals(issued, 2);
+    }
+
+    @Test(description = "Verify a method over its budget fails")
+    @Severity(SeverityLevel.NORMAL)
+    public void testOverBudget() {
+        StubPage page = new StubPage(driver);
+        AssertionError error = Assert.expectThrows(AssertionError.class,
+                () -> CommandBudgets.verify(page, "expensiveStep", page::expensiveStep));
+        Assert.assertTrue(error.getMessage().contains("issued 5 WebDriver commands, budget is 2"));
+    }
+
+    @Test(description = "Verify a wait counts its first poll and only its repeated polls are left out of the budget")
+    @Severity(SeverityLevel.NORMAL)
+    public void testPollingNotCounted() {
+        StubPage page = new StubPage(driver);
+        Assert.assertEquals(CommandBudgets.verify(page, "waitingStep", page::waitingStep), 2,
+                "First poll and getTitle() are counted");
+
+        List<CommandRecord> records = CommandRecorder.snapshot();
+        Assert.assertEquals(records.size(), 6);
+        Assert.assertFalse(records.get(0).polling(), "The first poll counts");
+        Assert.assertEquals(records.stream().filter(CommandRecord::polling).count(), 4L);
+        Assert.assertFalse(records.get(records.size() - 1).polling(), "getTitle() runs after the wait");
+    }
+
+    @Test(description = "Verify each wait counts once, also when two waits run back to back")
+    @Severity(SeverityLevel.NORMAL)
+    public void testEachWaitCounted() {
+        for (int i = 0; i < 2; i++) {
+            new RecordedWait(driver, Duration.ofSeconds(5), Duration.ofMillis(10))
+                    .until(d -> d.findElements(By.id("spinner")).isEmpty());
+        }
+        Assert.assertEquals(CommandRecorder.snapshot().stream().filter(record -> !record.polling()).count(), 2L);
+    }
+}
@@ -0,0 +1,97 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.config.ConfigLoader;
+import com.enterprise.mercury.core.listeners.TestListener;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for layered configuration resolution
+ * Uses a temporary config directory with a base and a profile file
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Configuration")
+@Listeners(TestListener.class)
+public class ConfigLoaderTest {
+
+    private Path configDir;
+
+    @BeforeClass
+    public void createConfigFiles() throws IOException {
+        configDir = Files.createTempDirectory("config-loader");
+        Files.writeString(configDir.resolve("config.properties"), String.join("\n",
+                "browser=chrome",
+                "environment=qa",
+                "thread.count=3",
+                "explicit.wait=20",
+                "password=Test@1234",
+                "base.url.uat=https://uat.example.com",
+                "login.url=${base.url.uat}/login",
+                "ci.build.id=${BUILD_ID}"));
+        Files.writeString(configDir.resolve("config-uat.properties"), String.join("\n",
+                "thread.count=5",
+                "explicit.wait=40"));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteConfigFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(configDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test(description = "Verify -D beats env vars, env vars beat the profile, the profile beats the base file")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testLayerPrecedence() {
+        ConfigLoader.Resolved resolved = new ConfigLoader(configDir,
+                Map.of("thread.count", "8"),
+                Map.of("MERCURY_ENVIRONMENT", "uat", "MERCURY_THREAD_COUNT", "6", "MERCURY_BROWSER", "edge"))
+                .load();
+
+        Assert.assertEquals(resolved.profile(), "uat");
+        Assert.assertEquals(resolved.values().get("thread.count"), "8");
+        Assert.assertEquals(resolved.sources().get("thread.count"), "-Dthread.count");
+        Assert.assertEquals(resolved.values().get("browser"), "edge");
+        Assert.assertEquals(resolved.values().get("explicit.wait"), "40");
+        Assert.assertEquals(resolved.sources().get("explicit.wait"), "config-uat.properties");
+        Assert.assertEquals(resolved.sources().get("base.url.uat"), "config.properties");
+    }
+
+    @Test(description = "Verify ${NAME} references resolve from keys and environment, unresolved ones stay")
+    @Severity(SeverityLevel.NORMAL)
+    public void testInterpolation() {
+        ConfigLoader.Resolved resolved = new ConfigLoader(configDir, Map.of(), Map.of("BUILD_ID", "1042")).load();
+        Assert.assertEquals(resolved.values().get("login.url"), "https://uat.example.com/login");
+        Assert.assertEquals(resolved.values().get("ci.build.id"), "1042");
+
+        ConfigLoader.Resolved local = new ConfigLoader(configDir, Map.of(), Map.of()).load();
+        Assert.assertEquals(local.values().get("ci.build.id"), "${BUILD_ID}");
+        Assert.assertNull(local.profile(), "qa has no profile file");
+    }
+
+    @Test(description = "Verify the effective config dump masks secrets and names sources")
+    @Severity(SeverityLevel.NORMAL)
+    public void testDumpMasksSecrets() {
+        List<String> dump = new ConfigLoader(configDir, Map.of("browser", "firefox"), Map.of()).load().dump();
+        Assert.assertTrue(dump.contains("password = ****  [config.properties]"), dump.toString());
+        Assert.assertTrue(dump.contains("browser = firefox  [-Dbrowser]"), dump.toString());
+        Assert.assertEquals(ConfigLoader.mask("base.url.qa", "https://host/BypassSSO?username=u&password=gw"),
+                "https://host/BypassSSO?username=u&password=****");
+        Assert.assertEquals(ConfigLoader.envName("click.retry.not.interactable"), "MERCURY_CLICK_RETRY_NOT_INTERACTABLE");
+    }
+}
@@ -0,0 +1,129 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.config.ConfigChangeListener;
+import com.enterprise.mercury.core.config.ConfigManager;
+import com.enterprise.mercury.core.config.ConfigSnapshot;
+import com.enterprise.mercury.core.config.ConfigWatcher;
+import com.enterprise.mercury.core.listeners.TestListener;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for configuration reload
+ * Each test edits the files of its own temporary config directory through a
+ * ConfigManager created for it; the global configuration is never changed.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Configuration")
+@Listeners(TestListener.class)
+public class ConfigReloadTest {
+
+    private Path configDir;
+    private ConfigManager config;
+
+    @BeforeMethod
+    public void createConfig() throws IOException {
+        configDir = Files.createTempDirectory("config-reload");
+        writeConfig("explicit.wait=20");
+        config = ConfigManager.create(configDir, Map.of(), Map.of());
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteConfig() throws IOException {
+        config.stopWatching();
+        Files.deleteIfExists(configDir.resolve("config.properties"));
+        Files.deleteIfExists(configDir);
+    }
+
+    @Test(description = "Verify an invalid edit is rejected and the running snapshot stays")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testInvalidReloadRejected() throws IOException {
+        ConfigSnapshot before = config.getSnapshot();
+        writeConfig("explicit.wait=abc");
+
+        Assert.assertFalse(config.reload());
+        Assert.assertSame(config.getSnapshot(), before);
+        Assert.assertEquals(config.getExplicitWait(), 20);
+    }
+
+    @Test(description = "Verify a valid edit is published and listeners follow it")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testReloadNotifiesListeners() throws IOException {
+        List<ConfigSnapshot> notified = new ArrayList<>();
+        ConfigChangeListener listener = (previous, current) -> notified.add(current);
+        config.addListener(listener);
+        int globalWait = ConfigManager.getInstance().getGlobalSnapshot().explicitWait();
+
+        writeConfig("explicit.wait=25");
+        Assert.assertTrue(config.reload());
+        Assert.assertEquals(config.getExplicitWait(), 25);
+        Assert.assertEquals(notified.size(), 1);
+        Assert.assertEquals(notified.get(0).explicitWait(), 25);
+        Assert.assertFalse(config.reload(), "Unchanged configuration should not be republished");
+
+        config.removeListener(listener);
+        writeConfig("explicit.wait=30");
+        Assert.assertTrue(config.reload());
+        Assert.assertEquals(notified.size(), 1, "Removed listeners are not notified");
+        Assert.assertEquals(ConfigManager.getInstance().getGlobalSnapshot().explicitWait(), globalWait,
+                "The global configuration is untouched");
+    }
+
+    @Test(description = "Verify a burst of config file edits triggers one reload and other files none")
+    @Severity(SeverityLevel.NORMAL)
+    public void testWatcherDebouncesEdits() throws Exception {
+        AtomicInteger reloads = new AtomicInteger();
+        CountDownLatch changed = new CountDownLatch(1);
+        ConfigWatcher watcher = new ConfigWatcher(configDir, () -> {
+            reloads.incrementAndGet();
+            changed.countDown();
+        });
+        try {
+            Files.writeString(configDir.resolve("notes.txt"), "ignored");
+            Files.writeString(configDir.resolve("config-uat.properties"), "explicit.wait=30");
+            Files.writeString(configDir.resolve("config-uat.properties"), "explicit.wait=35");
+            Files.writeString(configDir.resolve("config-uat.properties"), "explicit.wait=40");
+
+            Assert.assertTrue(changed.await(10, TimeUnit.SECONDS), "Watcher should report the edit");
+            Thread.sleep(1000);
+            Assert.assertEquals(reloads.get(), 1);
+        } finally {
+            watcher.close();
+            Files.deleteIfExists(configDir.resolve("notes.txt"));
+            Files.deleteIfExists(configDir.resolve("config-uat.properties"));
+        }
+    }
+
+    @Test(description = "Verify a watched config directory reloads the manager on edits")
+    @Severity(SeverityLevel.NORMAL)
+    public void testWatchingReloadsManager() throws Exception {
+        CountDownLatch changed = new CountDownLatch(1);
+        config.addListener((previous, current) -> changed.countDown());
+        config.startWatching();
+
+        writeConfig("explicit.wait=45");
+        Assert.assertTrue(changed.await(10, TimeUnit.SECONDS), "Edit should be reloaded");
+        Assert.assertEquals(config.getExplicitWait(), 45);
+    }
+
+    private void writeConfig(String explicitWait) throws IOException {
+        Files.writeString(configDir.resolve("config.properties"), "browser=chrome\nenvironment=qa\n" + explicitWait + "\n");
+    }
+}
@@ -0,0 +1,94 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.config.ConfigManager;
+import com.enterprise.mercury.core.config.ConfigScope;
+import com.enterprise.mercury.core.config.ConfigValidationException;
+import com.enterprise.mercury.core.listeners.TestListener;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for per-thread configuration scopes
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Configuration")
+@Listeners(TestListener.class)
+public class ConfigScopeTest {
+
+    private final ConfigManager config = ConfigManager.getInstance();
+
+    @Test(description = "Verify a scope overrides environment and browser and restores them on close")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testScopeOverridesEnvironment() {
+        String globalBrowser = config.getBrowser();
+        String globalBaseUrl = config.getBaseUrl();
+        int explicitWait = config.getExplicitWait();
+
+        try (ConfigScope scope = ConfigScope.open(Map.of("environment", "uat", "browser", "edge"))) {
+            Assert.assertEquals(scope.getOverrides(), Map.of("environment", "uat", "browser", "edge"));
+            Assert.assertEquals(config.getEnvironment(), "uat");
+            Assert.assertEquals(config.getBrowser(), "edge");
+            Assert.assertEquals(config.getBaseUrl(), config.getProperty("base.url.uat"));
+            Assert.assertEquals(config.getApiBaseUrl(), config.getProperty("api.base.url.uat"));
+            Assert.assertEquals(config.getExplicitWait(), explicitWait, "Keys not overridden come from the global config");
+        }
+
+        Assert.assertEquals(config.getBrowser(), globalBrowser);
+        Assert.assertEquals(config.getBaseUrl(), globalBaseUrl);
+    }
+
+    @Test(description = "Verify nested scopes inherit overrides and must close in reverse order")
+    @Severity(SeverityLevel.NORMAL)
+    public void testNestedScopes() {
+        ConfigScope outer = ConfigScope.open(Map.of("environment", "uat"));
+        try {
+            ConfigScope inner = ConfigScope.open(Map.of("browser", "firefox"));
+            Assert.assertEquals(config.getEnvironment(), "uat");
+            Assert.assertEquals(config.getBrowser(), "firefox");
+            Assert.assertThrows(IllegalStateException.class, outer::close);
+            inner.close();
+            Assert.assertEquals(config.getEnvironment(), "uat");
+        } finally {
+            outer.close();
+        }
+        Assert.assertNull(ConfigScope.activeSnapshot());
+    }
+
+    @Test(description = "Verify threads in different scopes resolve their own environment concurrently")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testScopesAreThreadConfined() throws Exception {
+        CyclicBarrier bothOpen = new CyclicBarrier(2);
+        CompletableFuture<String> qa = CompletableFuture.supplyAsync(() -> baseUrlIn("qa", bothOpen));
+        CompletableFuture<String> uat = CompletableFuture.supplyAsync(() -> baseUrlIn("uat", bothOpen));
+
+        Assert.assertEquals(qa.get(10, TimeUnit.SECONDS), config.getProperty("base.url.qa"));
+        Assert.assertEquals(uat.get(10, TimeUnit.SECONDS), config.getProperty("base.url.uat"));
+    }
+
+    @Test(description = "Verify an invalid override fails fast without leaving a scope open")
+    @Severity(SeverityLevel.NORMAL)
+    public void testInvalidOverrideRejected() {
+        Assert.assertThrows(ConfigValidationException.class, () -> ConfigScope.open(Map.of("browser", "safari")));
+        Assert.assertNull(ConfigScope.activeSnapshot());
+    }
+
+    private String baseUrlIn(String environment, CyclicBarrier bothOpen) {
+        try (ConfigScope scope = ConfigScope.open(Map.of("environment", environment))) {
+            bothOpen.await(10, TimeUnit.SECONDS);
+            Assert.assertEquals(scope.getOverrides().get("environment"), environment);
+            return config.getBaseUrl();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
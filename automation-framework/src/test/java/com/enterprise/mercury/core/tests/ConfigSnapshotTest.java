@@ -0,0 +1,128 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.config.ConfigManager;
+import com.enterprise.mercury.core.config.ConfigSnapshot;
+import com.enterprise.mercury.core.config.ConfigValidationException;
+import com.enterprise.mercury.core.listeners.TestListener;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Unit tests for configuration snapshot parsing and validation
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Configuration")
+@Listeners(TestListener.class)
+public class ConfigSnapshotTest {
+
+    @Test(description = "Verify typed values and environment URLs are resolved once")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testParseValidConfiguration() {
+        Map<String, String> raw = new HashMap<>();
+        raw.put("browser", "Firefox");
+        raw.put("headless", "true");
+        raw.put("environment", "uat");
+        raw.put("base.url.uat", "https://uat.example.com");
+        raw.put("explicit.wait", "15");
+        raw.put("thread.count", "4");
+
+        ConfigSnapshot snapshot = ConfigSnapshot.parse(raw);
+
+        Assert.assertEquals(snapshot.browser(), "firefox");
+        Assert.assertTrue(snapshot.headless());
+        Assert.assertEquals(snapshot.baseUrl(), "https://uat.example.com");
+        Assert.assertNull(snapshot.apiBaseUrl());
+        Assert.assertEquals(snapshot.explicitWait(), 15);
+        Assert.assertEquals(snapshot.implicitWait(), 10);
+        Assert.assertEquals(snapshot.threadCount(), 4);
+        Assert.assertEquals(snapshot.property("base.url.uat"), "https://uat.example.com");
+    }
+
+    @Test(description = "Verify every invalid value is reported in one exception")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testAllErrorsReportedTogether() {
+        Map<String, String> raw = new HashMap<>();
+        raw.put("browser", "safari");
+        raw.put("headless", "yes");
+        raw.put("explicit.wait", "abc");
+        raw.put("thread.count", "0");
+        raw.put("click.retry.max", "-1");
+
+        try {
+            ConfigSnapshot.parse(raw);
+            Assert.fail("Invalid configuration should not parse");
+        } catch (ConfigValidationException e) {
+            Assert.assertEquals(e.getErrors().size(), 5, e.getMessage());
+            Assert.assertTrue(e.getMessage().contains("browser"));
+            Assert.assertTrue(e.getMessage().contains("headless"));
+            Assert.assertTrue(e.getMessage().contains("explicit.wait"));
+            Assert.assertTrue(e.getMessage().contains("thread.count"));
+            Assert.assertTrue(e.getMessage().contains("click.retry.max"));
+        }
+    }
+
+    @Test(description = "Verify the manager getters read the loaded snapshot")
+    @Severity(SeverityLevel.NORMAL)
+    public void testManagerReadsSnapshot() {
+        ConfigManager config = ConfigManager.getInstance();
+        ConfigSnapshot snapshot = config.getSnapshot();
+
+        Assert.assertEquals(config.getBrowser(), snapshot.browser());
+        Assert.assertEquals(config.getExplicitWait(), snapshot.explicitWait());
+        Assert.assertEquals(config.getBaseUrl(), snapshot.property("base.url." + snapshot.environment()));
+        Assert.assertEquals(config.getProperty("missing.key", "fallback"), "fallback");
+    }
+
+    @Test(description = "Verify an invalid configuration fails every getInstance() call with the validation errors")
+    @Severity(SeverityLevel.NORMAL)
+    public void testInvalidConfigurationFailsEveryCall() throws Exception {
+        Path dir = Files.createTempDirectory("invalid-config");
+        Files.writeString(dir.resolve("config.properties"), "browser=safari\nthread.count=0\n");
+        String previousDir = System.getProperty("config.dir");
+        // A fresh class loader gets its own ConfigManager singleton; the suite's one is untouched
+        try (URLClassLoader loader = new URLClassLoader(classPath(), ClassLoader.getPlatformClassLoader())) {
+            System.setProperty("config.dir", dir.toString());
+            Method getInstance = loader.loadClass(ConfigManager.class.getName()).getMethod("getInstance");
+            for (int call = 0; call < 2; call++) {
+                InvocationTargetException e = Assert.expectThrows(InvocationTargetException.class,
+                        () -> getInstance.invoke(null));
+                Assert.assertEquals(e.getCause().getClass().getName(), ConfigValidationException.class.getName(),
+                        "Call " + call + ": " + e.getCause());
+                Assert.assertTrue(e.getCause().getMessage().contains("browser"), e.getCause().getMessage());
+            }
+        } finally {
+            if (previousDir == null) {
+                System.clearProperty("config.dir");
+            } else {
+                System.setProperty("config.dir", previousDir);
+            }
+            Files.deleteIfExists(dir.resolve("config.properties"));
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static URL[] classPath() throws MalformedURLException {
+        String[] entries = System.getProperty("java.class.path").split(File.pathSeparator);
+        URL[] urls = new URL[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            urls[i] = new File(entries[i]).toURI().toURL();
+        }
+        return urls;
+    }
+}
@@ -0,0 +1,174 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.guidewire.ActionScript;
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.utils.DataGenerator;
+import com.enterprise.mercury.core.utils.DataReader;
+import com.enterprise.mercury.core.utils.DataStream;
+import com.enterprise.mercury.ui.pages.FnolFastForward;
+import com.enterprise.mercury.ui.pages.WizardStep;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Unit tests for the seeded synthetic data generator
+ * Checks the FNOL claim schema's constraints over a few thousand rows, and that its rows
+ * fit the claimant details scenario they stand in for
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Test Data")
+@Listeners(TestListener.class)
+public class DataGeneratorTest {
+
+    private static final String SCHEMA = "ui/fnolClaimSchema.json";
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+    private static final Set<String> YES_NO = Set.of("Yes", "No");
+
+    @Test(description = "Verify the same seed yields the same rows, in any order")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testRowsAreDeterministic() {
+        DataGenerator generator = DataGenerator.fromSchema(SCHEMA);
+        List<JsonNode> first = collect(generator.rows(42, 100));
+        List<JsonNode> second = collect(DataGenerator.fromSchema(SCHEMA).rows(42, 100));
+
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(generator.row(42, 57), first.get(57), "Rows can be built out of order");
+        Assert.assertNotEquals(collect(generator.rows(43, 100)), first);
+    }
+
+    @Test(description = "Verify adjacent seeds give unrelated rows, not the same draws shifted by one")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testAdjacentSeedsAreUnrelated() {
+        DataGenerator generator = DataGenerator.fromSchema(SCHEMA);
+        int shifted = 0;
+        for (int index = 0; index < 1000; index++) {
+            // claimantName is "HOUSE " plus six digit draws; compare seed s+1's draws with seed s's one later
+            String name = generator.row(42, index).get("claimantName").asText().substring(6);
+            String nextSeedName = generator.row(43, index).get("claimantName").asText().substring(6);
+            if (nextSeedName.substring(0, 5).equals(name.substring(1))) {
+                shifted++;
+            }
+        }
+        Assert.assertEquals(shifted, 0, "Rows of seed 43 repeat the draws of seed 42 shifted by one");
+    }
+
+    @Test(description = "Verify generated FNOL claims satisfy the schema constraints")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testSchemaConstraints() {
+        Set<String> policyNumbers = new HashSet<>();
+        int count = 5000;
+        Iterator<Object[]> rows = DataGenerator.fromSchema(SCHEMA).rows(7, count);
+        while (rows.hasNext()) {
+            JsonNode row = (JsonNode) rows.next()[0];
+            Assert.assertTrue(policyNumbers.add(row.get("policyNumber").asText()), "Policy numbers are distinct");
+            Assert.assertTrue(row.get("policyNumber").asText().matches("CHO\\d{9}"), row.toString());
+
+            LocalDate lossDate = LocalDate.parse(row.get("lossDate").asText(), DATE);
+            Assert.assertFalse(lossDate.isBefore(LocalDate.of(2025, 1, 1)) || lossDate.isAfter(LocalDate.of(2026, 2, 1)));
+            Assert.assertTrue(row.get("lossTime").asText().matches("(0[1-9]|1[0-2]):[0-5]\\d"), row.toString());
+            Assert.assertTrue(row.get("claimantName").asText().matches("HOUSE \\d{6}"), row.toString());
+
+            // Option values recorded against the real Basic Info dropdowns and radio groups
+            Assert.assertEquals(row.get("relationToInsured").asText(), "self");
+            Assert.assertEquals(row.get("preferredMethodOfContact").asText(), "none");
+            Assert.assertTrue(YES_NO.contains(row.get("agreeToEmailCommunication").asText()), row.toString());
+            Assert.assertTrue(YES_NO.contains(row.get("requested").asText()), row.toString());
+        }
+        Assert.assertEquals(policyNumbers.size(), count);
+    }
+
+    @Test(description = "Verify weighted enums and when/otherwise fields")
+    @Severity(SeverityLevel.NORMAL)
+    public void testWeightsAndConditions() throws IOException {
+        JsonNode schema = new ObjectMapper().readTree("{\"fields\":{"
+                + "\"relation\":{\"type\":\"enum\",\"values\":[\"a\",\"b\",\"c\"],\"weights\":[60,30,10]},"
+                + "\"email\":{\"type\":\"enum\",\"values\":[\"Yes\",\"No\"]},"
+                + "\"contact\":{\"type\":\"const\",\"value\":\"mail\",\"when\":{\"email\":\"Yes\"},\"otherwise\":\"none\"}}}");
+        int first = 0;
+        int count = 5000;
+        Iterator<Object[]> rows = DataGenerator.of(schema).rows(7, count);
+        while (rows.hasNext()) {
+            JsonNode row = (JsonNode) rows.next()[0];
+            first += "a".equals(row.get("relation").asText()) ? 1 : 0;
+            boolean email = "Yes".equals(row.get("email").asText());
+            Assert.assertEquals(row.get("contact").asText(), email ? "mail" : "none", "Contact follows email: " + row);
+        }
+        Assert.assertTrue(first > count * 0.55 && first < count * 0.65, "Weighted share: " + first);
+    }
+
+    @Test(description = "Verify generated rows can stand in for the claimant details scenario")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testRowsFitClaimantDetailsData() {
+        JsonNode scenario = DataReader.readUITestData("claimClaimantDetailsData.json").get("validClaimWithClaimantDetails");
+        Set<String> fields = new HashSet<>(FnolFastForward.scriptValues(scenario).keySet());
+        fields.remove("description");
+        List<ActionScript.Segment> plan = ActionScript.load("flows/fnol-fast-forward.json")
+                .plan(WizardStep.DESKTOP.name(), WizardStep.FNOL_BASIC_INFO.name());
+
+        // The recorded scenario passes too, so the checks are about the row, not the generator
+        List<JsonNode> rows = new ArrayList<>(collect(DataGenerator.fromSchema(SCHEMA).rows(3, 200)));
+        rows.add(scenario);
+        for (JsonNode row : rows) {
+            Map<String, String> values = FnolFastForward.scriptValues(row);
+            Assert.assertTrue(values.keySet().containsAll(fields), "Missing scenario fields: " + row);
+            for (ActionScript.Segment segment : plan) {
+                // Same substitution the fast-forward replays; throws on a missing ${key}
+                segment.actions().forEach(action -> action.resolve(values));
+            }
+            Assert.assertEquals(values.get("relationToInsured"), scenario.get("relationToInsured").asText());
+            Assert.assertEquals(values.get("preferredMethodOfContact"), scenario.get("preferredMethodOfContact").asText());
+        }
+    }
+
+    @Test(description = "Verify rows written as NDJSON stream back unchanged")
+    @Severity(SeverityLevel.NORMAL)
+    public void testNdjsonRoundTrip() throws IOException {
+        DataGenerator generator = DataGenerator.fromSchema(SCHEMA);
+        Path file = Files.createTempFile("fnol-claims", ".ndjson");
+        try {
+            generator.writeNdjson(file, 11, 250);
+            Assert.assertEquals(collect(DataStream.rows(file)), collect(generator.rows(11, 250)));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(description = "Verify invalid schemas report every bad field")
+    @Severity(SeverityLevel.NORMAL)
+    public void testInvalidSchema() throws IOException {
+        JsonNode schema = new ObjectMapper().readTree("{\"fields\":{"
+                + "\"a\":{\"type\":\"colour\"},"
+                + "\"b\":{\"type\":\"date\",\"from\":\"02/01/2026\",\"to\":\"01/01/2026\"},"
+                + "\"c\":{\"type\":\"enum\",\"values\":[\"x\"],\"when\":{\"d\":\"y\"}},"
+                + "\"d\":{\"type\":\"enum\",\"values\":[]}}}");
+        IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class, () -> DataGenerator.of(schema));
+        for (String field : List.of("a: unknown type", "b: date range", "c: condition", "d: enum has no values")) {
+            Assert.assertTrue(e.getMessage().contains(field), e.getMessage());
+        }
+    }
+
+    private static List<JsonNode> collect(Iterator<Object[]> rows) {
+        List<JsonNode> nodes = new ArrayList<>();
+        rows.forEachRemaining(row -> nodes.add((JsonNode) row[0]));
+        return nodes;
+    }
+}
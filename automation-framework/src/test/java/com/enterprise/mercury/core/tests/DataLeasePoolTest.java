@@ -0,0 +1,166 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.config.ConfigScope;
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.utils.DataLease;
+import com.enterprise.mercury.core.utils.DataLeasePool;
+import com.enterprise.mercury.core.utils.DataReader;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for exclusive test-data leases
+ * Leases records of a scratch file in a temporary test.data.dir
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Test Data")
+@Listeners(TestListener.class)
+public class DataLeasePoolTest {
+
+    private static final String FILE_NAME = "ui/dataLeasePoolTest.json";
+    private Path directory;
+    private Path file;
+    private ConfigScope testData;
+
+    @BeforeClass
+    public void writeDataFile() throws IOException {
+        directory = Files.createTempDirectory("data-lease-pool");
+        file = directory.resolve(FILE_NAME);
+        Files.createDirectories(file.getParent());
+        String policies = "[{\"policyNumber\":\"P1\"},{\"policyNumber\":\"P2\"},{\"policyNumber\":\"P3\"}]";
+        Files.writeString(file, "{\"shared\":" + policies + ",\"single\":" + policies + ",\"one\":{\"policyNumber\":\"P9\"}}");
+        DataReader.clearCache();
+    }
+
+    @BeforeMethod
+    public void useTestDataDir() {
+        testData = ConfigScope.open(Map.of("test.data.dir", directory.toString()));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreTestDataDir() {
+        testData.close();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteDataFile() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(file.getParent());
+        Files.deleteIfExists(directory);
+        DataReader.clearCache();
+        DataLeasePool.reset();
+    }
+
+    @Test(description = "Verify parallel threads never hold the same record at once")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testLeasesAreExclusive() throws Exception {
+        DataLeasePool pool = DataLeasePool.pool(FILE_NAME, "shared[*]", new DataLeasePool.Rules(0, 0, 10_000));
+        Map<String, AtomicInteger> holders = new ConcurrentHashMap<>();
+        AtomicInteger collisions = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20; i++) {
+                        try (DataLease lease = pool.acquire()) {
+                            AtomicInteger count = holders.computeIfAbsent(lease.get("policyNumber"), k -> new AtomicInteger());
+                            if (count.incrementAndGet() > 1) {
+                                collisions.incrementAndGet();
+                            }
+                            Thread.sleep(1);
+                            count.decrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(collisions.get(), 0, "No record is held by two threads");
+        DataLeasePool.Stats stats = pool.stats();
+        Assert.assertEquals(stats.records(), 3);
+        Assert.assertEquals(stats.acquisitions(), 160);
+        Assert.assertTrue(stats.waitedAcquisitions() > 0, "8 threads on 3 records must wait");
+        Assert.assertTrue(stats.peakWaiting() > 0);
+        Assert.assertEquals(stats.timeouts(), 0);
+    }
+
+    @Test(description = "Verify a starved acquisition times out and is counted")
+    @Severity(SeverityLevel.NORMAL)
+    public void testTimeoutIsCounted() throws Exception {
+        DataLeasePool pool = DataLeasePool.pool(FILE_NAME, "one", new DataLeasePool.Rules(0, 0, 100));
+        try (DataLease lease = pool.acquire()) {
+            Assert.assertEquals(lease.key(), "one");
+            Assert.assertEquals(lease.get("policyNumber"), "P9");
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<DataLease> other = executor.submit(() -> pool.acquire());
+                Exception e = Assert.expectThrows(Exception.class, other::get);
+                Assert.assertTrue(e.getCause() instanceof IllegalStateException, String.valueOf(e.getCause()));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        Assert.assertEquals(pool.stats().timeouts(), 1);
+    }
+
+    @Test(description = "Verify single-use records are not leased again")
+    @Severity(SeverityLevel.NORMAL)
+    public void testSingleUseRecords() {
+        DataLeasePool pool = DataLeasePool.pool(FILE_NAME, "single[*]", new DataLeasePool.Rules(1, 0, 1_000));
+        List<String> policies = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            try (DataLease lease = pool.acquire()) {
+                policies.add(lease.get("policyNumber"));
+            }
+        }
+        Assert.assertEquals(policies.stream().sorted().toList(), List.of("P1", "P2", "P3"));
+        Assert.assertThrows(IllegalStateException.class, pool::acquire);
+    }
+
+    @Test(description = "Verify released records rest for the cooldown and held leases are released in bulk")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCooldownAndReleaseHeld() {
+        DataLeasePool pool = DataLeasePool.pool(FILE_NAME, "one.policyNumber", new DataLeasePool.Rules(0, 200, 5_000));
+        DataLease first = pool.acquire();
+        Assert.assertEquals(DataLeasePool.releaseHeld(), 1);
+        Assert.assertTrue(first.isReleased());
+
+        long start = System.nanoTime();
+        DataLease second = pool.acquire();
+        Assert.assertTrue((System.nanoTime() - start) / 1_000_000 >= 150, "Cooldown is respected");
+        Assert.assertEquals(second.record().asText(), "P9");
+        second.release();
+        second.release();
+        Assert.assertEquals(DataLeasePool.releaseHeld(), 0);
+        Assert.assertEquals(pool.stats().waitedAcquisitions(), 1);
+        Assert.assertTrue(DataLeasePool.summary().contains(FILE_NAME + "#one.policyNumber"));
+    }
+}
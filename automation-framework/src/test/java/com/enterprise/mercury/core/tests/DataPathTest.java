@@ -0,0 +1,70 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.utils.DataPath;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for compiled data path expressions
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Test Data")
+@Listeners(TestListener.class)
+public class DataPathTest {
+
+    private static final String DOCUMENT = "{"
+            + "\"claim\":{\"policy\":{\"number\":\"CA-100\"},"
+            + "\"vehicles\":[{\"vin\":\"V1\"},{\"vin\":\"V2\"}],"
+            + "\"contacts\":{\"insured\":{\"name\":\"Ann\"},\"driver\":{\"name\":\"Bob\"}}},"
+            + "\"ci.build\":{\"id\":\"42\"}}";
+
+    private JsonNode root() throws Exception {
+        return new ObjectMapper().readTree(DOCUMENT);
+    }
+
+    @Test(description = "Verify dotted keys, indices and bracketed keys select single values")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testSingleValuedPaths() throws Exception {
+        JsonNode root = root();
+        Assert.assertEquals(DataPath.compile("claim.policy.number").first(root).asText(), "CA-100");
+        Assert.assertEquals(DataPath.compile("claim.vehicles[1].vin").first(root).asText(), "V2");
+        Assert.assertEquals(DataPath.compile("claim.vehicles.0.vin").first(root).asText(), "V1");
+        Assert.assertEquals(DataPath.compile("['ci.build'].id").first(root).asText(), "42");
+        Assert.assertNull(DataPath.compile("claim.vehicles[5].vin").first(root));
+        Assert.assertNull(DataPath.compile("claim.policy.missing").first(root));
+    }
+
+    @Test(description = "Verify wildcards select array elements and object values in document order")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testWildcardPaths() throws Exception {
+        JsonNode root = root();
+        Assert.assertEquals(texts(DataPath.compile("claim.vehicles[*].vin").select(root)), List.of("V1", "V2"));
+        Assert.assertEquals(texts(DataPath.compile("claim.contacts.*.name").select(root)), List.of("Ann", "Bob"));
+        Assert.assertEquals(DataPath.compile("claim.vehicles[*].vin").first(root).asText(), "V1");
+        Assert.assertTrue(DataPath.compile("claim.vehicles[*].plate").select(root).isEmpty());
+        Assert.assertFalse(DataPath.compile("claim.vehicles[*].vin").isSingleValued());
+    }
+
+    @Test(description = "Verify compiled paths are cached and malformed paths are rejected")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCompileCacheAndErrors() {
+        Assert.assertSame(DataPath.compile("claim.policy.number"), DataPath.compile("claim.policy.number"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> DataPath.compile("claim..policy"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> DataPath.compile("claim.vehicles[x]"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> DataPath.compile("claim.vehicles[0"));
+    }
+
+    private static List<String> texts(List<JsonNode> nodes) {
+        return nodes.stream().map(JsonNode::asText).toList();
+    }
+}
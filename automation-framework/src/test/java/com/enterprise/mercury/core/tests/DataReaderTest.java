@@ -0,0 +1,104 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.config.ConfigScope;
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.utils.DataReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+/**
+ * Unit tests for the DataReader parsed-document cache
+ * Reads a scratch file from a temporary test.data.dir
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Test Data")
+@Listeners(TestListener.class)
+public class DataReaderTest {
+
+    private static final String FILE_NAME = "ui/dataReaderCacheTest.json";
+    private Path directory;
+    private Path file;
+    private ConfigScope testData;
+
+    @BeforeClass
+    public void writeDataFile() throws IOException {
+        directory = Files.createTempDirectory("data-reader");
+        file = directory.resolve(FILE_NAME);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "{\"policy\":{\"number\":\"CA-100\",\"state\":\"CA\"}}");
+        DataReader.clearCache();
+    }
+
+    @BeforeMethod
+    public void useTestDataDir() {
+        testData = ConfigScope.open(Map.of("test.data.dir", directory.toString()));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreTestDataDir() {
+        testData.close();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteDataFile() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(file.getParent());
+        Files.deleteIfExists(directory);
+        DataReader.clearCache();
+    }
+
+    @Test(description = "Verify callers get independent copies of the cached document")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testCachedDocumentIsCopied() {
+        JsonNode first = DataReader.readJsonAsJsonNode(FILE_NAME);
+        ((ObjectNode) first.get("policy")).put("number", "changed");
+
+        JsonNode second = DataReader.readJsonAsJsonNode(FILE_NAME);
+        Assert.assertEquals(second.get("policy").get("number").asText(), "CA-100");
+        Assert.assertNotSame(first, second);
+
+        Map<String, Object> map = DataReader.readJsonAsMap(FILE_NAME);
+        map.put("extra", "value");
+        Assert.assertFalse(DataReader.readJsonAsMap(FILE_NAME).containsKey("extra"));
+        Assert.assertEquals(DataReader.getJsonValue(FILE_NAME, "policy.number"), "CA-100");
+    }
+
+    @Test(description = "Verify an edited file is re-read instead of served from cache",
+            dependsOnMethods = "testCachedDocumentIsCopied")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testEditedFileIsReloaded() throws IOException {
+        Assert.assertEquals(DataReader.getJsonValue(FILE_NAME, "policy.state"), "CA");
+
+        FileTime modified = Files.getLastModifiedTime(file);
+        Files.writeString(file, "{\"policy\":{\"number\":\"NV-200\",\"state\":\"NV\"}}");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modified.toMillis() + 2000));
+
+        Assert.assertEquals(DataReader.getJsonValue(FILE_NAME, "policy.state"), "NV");
+        Assert.assertEquals(DataReader.readJsonAsJsonNode(FILE_NAME).get("policy").get("number").asText(), "NV-200");
+    }
+
+    @Test(description = "Verify a missing file still fails with the file path")
+    @Severity(SeverityLevel.NORMAL)
+    public void testMissingFile() {
+        RuntimeException e = Assert.expectThrows(RuntimeException.class,
+                () -> DataReader.readJsonAsJsonNode("ui/doesNotExist.json"));
+        Assert.assertTrue(e.getMessage().contains("ui/doesNotExist.json"), e.getMessage());
+    }
+}
@@ -0,0 +1,137 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.utils.DataStream;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for streaming test-data rows
+ * Also feeds a data provider from the manual-testcase CSV export
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Test Data")
+@Listeners(TestListener.class)
+public class DataStreamTest {
+
+    private static final int LARGE_ROW_COUNT = 200_000;
+
+    private Path directory;
+
+    @BeforeClass
+    public void writeDataFiles() throws IOException {
+        directory = Files.createTempDirectory("data-stream");
+        Files.writeString(directory.resolve("policies.json"),
+                "[{\"policyNumber\":\"A1\"},{\"policyNumber\":\"A2\"},{\"policyNumber\":\"A3\"}]");
+        Files.writeString(directory.resolve("policies.ndjson"),
+                "{\"policyNumber\":\"N1\"}\n\n{\"policyNumber\":\"N2\"}\n");
+        Files.writeString(directory.resolve("cases.csv"),
+                "Id,Title,Steps\r\nC1,\"Search, then save\",\"1. Open\n2. Say \"\"Next\"\"\"\r\nC2,Short,\n\n");
+        Files.writeString(directory.resolve("excel.csv"), "\uFEFFId,Title\r\nC1,Saved from Excel\r\n");
+        try (BufferedWriter writer = Files.newBufferedWriter(directory.resolve("large.ndjson"))) {
+            for (int i = 0; i < LARGE_ROW_COUNT; i++) {
+                writer.write("{\"policyNumber\":\"P" + i + "\",\"lossDate\":\"02/01/2026\"}\n");
+            }
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteDataFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @DataProvider(name = "manualTestCases")
+    public Iterator<Object[]> manualTestCases() {
+        return DataStream.csv(Paths.get("../test-assets/manual-testcases/claim-creation-claimant-details.csv"));
+    }
+
+    @Test(description = "Verify JSON array and NDJSON rows stream in order")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testJsonRows() {
+        Assert.assertEquals(policyNumbers(DataStream.rows(directory.resolve("policies.json"))), List.of("A1", "A2", "A3"));
+        Assert.assertEquals(policyNumbers(DataStream.rows(directory.resolve("policies.ndjson"))), List.of("N1", "N2"));
+    }
+
+    @Test(description = "Verify quoted CSV fields keep commas, doubled quotes and line breaks")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testCsvRows() {
+        List<JsonNode> rows = new ArrayList<>();
+        DataStream.rows(directory.resolve("cases.csv")).forEachRemaining(row -> rows.add((JsonNode) row[0]));
+
+        Assert.assertEquals(rows.size(), 2);
+        Assert.assertEquals(rows.get(0).get("Title").asText(), "Search, then save");
+        Assert.assertEquals(rows.get(0).get("Steps").asText(), "1. Open\n2. Say \"Next\"");
+        Assert.assertEquals(rows.get(1).get("Id").asText(), "C2");
+        Assert.assertEquals(rows.get(1).get("Steps").asText(), "");
+    }
+
+    @Test(description = "Verify a UTF-8 byte order mark does not become part of the first header")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCsvByteOrderMark() {
+        try (DataStream.Rows rows = DataStream.rows(directory.resolve("excel.csv"))) {
+            JsonNode row = (JsonNode) rows.next()[0];
+            Assert.assertEquals(row.get("Id").asText(), "C1");
+            Assert.assertEquals(row.get("Title").asText(), "Saved from Excel");
+        }
+    }
+
+    @Test(description = "Verify the manual-testcase export works as a data provider", dataProvider = "manualTestCases")
+    @Severity(SeverityLevel.NORMAL)
+    public void testManualTestCaseRows(JsonNode testCase) {
+        Assert.assertFalse(testCase.get("Title").asText().isEmpty());
+        Assert.assertTrue(testCase.get("Steps(Step)").asText().contains("\n"), "Steps span several lines");
+    }
+
+    @Test(description = "Verify a large file streams with flat memory and can be closed early")
+    @Severity(SeverityLevel.NORMAL)
+    public void testLargeFileStreams() {
+        int count = 0;
+        try (DataStream.Rows rows = DataStream.rows(directory.resolve("large.ndjson"))) {
+            while (rows.hasNext()) {
+                JsonNode row = (JsonNode) rows.next()[0];
+                Assert.assertEquals(row.get("policyNumber").asText(), "P" + count);
+                count++;
+            }
+        }
+        Assert.assertEquals(count, LARGE_ROW_COUNT);
+
+        try (DataStream.Rows rows = DataStream.rows(directory.resolve("large.ndjson"))) {
+            Assert.assertEquals(((JsonNode) rows.next()[0]).get("policyNumber").asText(), "P0");
+        }
+    }
+
+    @Test(description = "Verify unsupported or malformed files are rejected")
+    @Severity(SeverityLevel.NORMAL)
+    public void testRejectsUnsupportedFiles() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> DataStream.rows(directory.resolve("policies.xml")));
+        Assert.assertThrows(IllegalArgumentException.class, () -> DataStream.jsonArray(directory.resolve("policies.ndjson")));
+    }
+
+    private static List<String> policyNumbers(Iterator<Object[]> rows) {
+        List<String> numbers = new ArrayList<>();
+        rows.forEachRemaining(row -> numbers.add(((JsonNode) row[0]).get("policyNumber").asText()));
+        return numbers;
+    }
+}
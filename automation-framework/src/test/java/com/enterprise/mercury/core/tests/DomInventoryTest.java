@@ -0,0 +1,88 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.locators.DomInventory;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Unit tests for DOM inventory parsing and index files
+ * Uses inventory JSON in the format produced by the in-browser script
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Element Identification")
+@Listeners(TestListener.class)
+public class DomInventoryTest {
+
+    private static final String INVENTORY_JSON = "{\"url\":\"https://cc.example/ClaimCenter.do\",\"title\":\"Guidewire ClaimCenter\","
+            + "\"elements\":["
+            + "[\"div\",\"\",\"TabBar-ClaimTab\",\"\",\"gw-tab\",\"tab\",\"Claim\",\"Claim\",\"\",1,\"navigation claim\"],"
+            + "[\"input\",\"text\",\"\",\"FNOLWizard-policyNumber\",\"gw-input\",\"\",\"\",\"\",\"\",1,\"input\"],"
+            + "[\"button\",\"\",\"\",\"\",\"gw-time\",\"\",\"AM/PM\",\"AM\",\"\",0,\"button\"],"
+            + "[\"a\",\"\",\"\",\"\",\"\",\"\",\"\",\"Help\",\"\",1,\"link\"]"
+            + "]}";
+
+    @Test(description = "Verify the compact inventory JSON is parsed into elements")
+    @Severity(SeverityLevel.NORMAL)
+    public void testParse() {
+        DomInventory.Snapshot snapshot = DomInventory.parse(INVENTORY_JSON);
+        Assert.assertEquals(snapshot.title(), "Guidewire ClaimCenter");
+        Assert.assertEquals(snapshot.elements().size(), 4);
+
+        DomInventory.Element tab = snapshot.elements().get(0);
+        Assert.assertEquals(tab.id(), "TabBar-ClaimTab");
+        Assert.assertEquals(tab.role(), "tab");
+        Assert.assertEquals(tab.categories(), List.of("navigation", "claim"));
+        Assert.assertFalse(snapshot.elements().get(2).visible());
+
+        Assert.assertEquals(snapshot.categoryCounts().get("claim"), Integer.valueOf(1));
+        Assert.assertEquals(snapshot.byCategory("input").get(0).name(), "FNOLWizard-policyNumber");
+    }
+
+    @Test(description = "Verify suggested locators prefer id, then name, then aria label")
+    @Severity(SeverityLevel.NORMAL)
+    public void testSuggestedLocator() {
+        List<DomInventory.Element> elements = DomInventory.parse(INVENTORY_JSON).elements();
+        Assert.assertEquals(elements.get(0).suggestedLocator().toString(), "id:TabBar-ClaimTab");
+        Assert.assertEquals(elements.get(1).suggestedLocator().toString(), "name:FNOLWizard-policyNumber");
+        Assert.assertEquals(elements.get(2).suggestedLocator().toString(), "aria:AM/PM");
+        Assert.assertNull(elements.get(3).suggestedLocator());
+    }
+
+    @Test(description = "Verify the index file has a header plus one line per element")
+    @Severity(SeverityLevel.NORMAL)
+    public void testWriteIndex() throws IOException {
+        Path directory = Files.createTempDirectory("dom-inventory");
+        Path index = DomInventory.writeIndex(directory, "Guidewire ClaimCenter", DomInventory.parse(INVENTORY_JSON));
+
+        Assert.assertEquals(index.getFileName().toString(), "Guidewire_ClaimCenter.jsonl");
+        List<String> lines = Files.readAllLines(index, StandardCharsets.UTF_8);
+        Assert.assertEquals(lines.size(), 5);
+        Assert.assertTrue(lines.get(1).startsWith("{\"locator\":\"id:TabBar-ClaimTab\""), lines.get(1));
+        Assert.assertFalse(lines.get(2).contains("\"aria\""), "Empty attributes should be omitted");
+    }
+
+    @Test(description = "Verify password values are never written to the index")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testPasswordValueNotWritten() throws IOException {
+        DomInventory.Snapshot snapshot = DomInventory.parse("{\"url\":\"\",\"title\":\"Login\",\"elements\":["
+                + "[\"input\",\"text\",\"Login-username\",\"\",\"\",\"\",\"\",\"\",\"su\",1,\"input\"],"
+                + "[\"input\",\"Password\",\"Login-password\",\"\",\"\",\"\",\"\",\"\",\"gw-secret\",1,\"input\"]]}");
+        Path directory = Files.createTempDirectory("dom-inventory");
+        List<String> lines = Files.readAllLines(DomInventory.writeIndex(directory, "Login", snapshot), StandardCharsets.UTF_8);
+
+        Assert.assertTrue(lines.get(1).contains("\"value\":\"su\""), lines.get(1));
+        Assert.assertFalse(lines.get(2).contains("gw-secret"), lines.get(2));
+    }
+}
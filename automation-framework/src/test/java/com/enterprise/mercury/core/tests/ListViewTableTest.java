@@ -0,0 +1,77 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.guidewire.ListViewTable;
+import com.enterprise.mercury.core.listeners.TestListener;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for the immutable Guidewire ListView table model
+ * Uses JSON in the format returned by the ListView script
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Guidewire ListView")
+@Listeners(TestListener.class)
+public class ListViewTableTest {
+
+    private static final String POLICY_RESULTS = "{\"id\":\"FNOLWizard-PolicyResultLV\","
+            + "\"headers\":[\"\",\"Policy #\",\" Insured  Name \",\"Effective\"],"
+            + "\"rows\":["
+            + "[[\"Select\",\"PA-000123\",\"Ray Newton\",\"01/01/2024\"],[\"PolicyResultLV-0-Select\"]],"
+            + "[[\"Select\",\"PA-000456\",\"Stan Newton\",\"02/01/2024\"],[\"PolicyResultLV-1-Select\",\"PolicyResultLV-1-View\"]],"
+            + "[[\"Select\",\"HO-000789\"],[]]"
+            + "]}";
+
+    private final ListViewTable table = ListViewTable.fromJson(POLICY_RESULTS);
+
+    @Test(description = "Verify headers, rows and cells are parsed")
+    @Severity(SeverityLevel.NORMAL)
+    public void testParse() {
+        Assert.assertEquals(table.getId(), "FNOLWizard-PolicyResultLV");
+        Assert.assertEquals(table.getHeaders().size(), 4);
+        Assert.assertEquals(table.size(), 3);
+        Assert.assertEquals(table.getRows().get(1).get(1), "PA-000456");
+        Assert.assertEquals(table.getRows().get(2).get(3), "", "Missing cells read as empty");
+    }
+
+    @Test(description = "Verify column lookup ignores case and whitespace")
+    @Severity(SeverityLevel.NORMAL)
+    public void testColumnLookup() {
+        Assert.assertEquals(table.columnIndex("insured name"), 2);
+        Assert.assertTrue(table.hasColumn("POLICY #"));
+        Assert.assertEquals(table.column("Policy #"), List.of("PA-000123", "PA-000456", "HO-000789"));
+        Assert.assertEquals(table.getRows().get(0).get("Insured Name"), "Ray Newton");
+    }
+
+    @Test(description = "Verify row search and row actions")
+    @Severity(SeverityLevel.NORMAL)
+    public void testFindRowAndActions() {
+        ListViewTable.Row row = table.findRow("Policy #", "PA-000456").orElseThrow();
+        Assert.assertEquals(row.getIndex(), 1);
+        Assert.assertEquals(row.action("-View").orElse(null), "PolicyResultLV-1-View");
+        Assert.assertFalse(table.findRow("Policy #", "XX-1").isPresent());
+        Assert.assertEquals(table.rowsWhere("Policy #", v -> v.startsWith("PA-")).size(), 2);
+    }
+
+    @Test(description = "Verify unknown columns are rejected with the available columns",
+          expectedExceptions = IllegalArgumentException.class,
+          expectedExceptionsMessageRegExp = ".*Claim Number.*policy #.*")
+    @Severity(SeverityLevel.MINOR)
+    public void testUnknownColumn() {
+        table.column("Claim Number");
+    }
+
+    @Test(description = "Verify the table and its rows are immutable",
+          expectedExceptions = UnsupportedOperationException.class)
+    @Severity(SeverityLevel.MINOR)
+    public void testImmutable() {
+        table.getRows().get(0).getCells().set(0, "changed");
+    }
+}
@@ -0,0 +1,146 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.config.ConfigScope;
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.locators.HealingLocator;
+import com.enterprise.mercury.core.locators.LocatorHealer;
+import com.enterprise.mercury.core.locators.LocatorStrategy;
+import io.qameta.allure.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for the self-healing locator engine
+ * A WebDriver stub answers the probe script from a set of strategies "present" on the page;
+ * each test uses its own environment and locator cache directory.
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Self-Healing Locators")
+@Listeners(TestListener.class)
+public class LocatorHealerTest {
+
+    private static final LocatorStrategy PRIMARY = LocatorStrategy.id("FNOLWizard-Next");
+    private static final LocatorStrategy BY_NAME = LocatorStrategy.name("FNOLWizard-Next");
+    private static final LocatorStrategy BY_LABEL = LocatorStrategy.ariaLabel("Next >");
+
+    private final List<List<String>> probes = new ArrayList<>();
+    private Set<String> present;
+    private Path cacheDir;
+    private ConfigScope scope;
+    private WebDriver driver;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        cacheDir = Files.createTempDirectory("locator-cache");
+        scope = ConfigScope.open(Map.of("environment", "healer" + System.nanoTime(),
+                "locator.cache.dir", cacheDir.toString()));
+        probes.clear();
+        present = Set.of();
+        driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("executeScript")) {
+                        return null;
+                    }
+                    // The probe returns the index of the first present strategy, in the order given
+                    List<String> order = new ArrayList<>();
+                    for (Object strategy : (List<?>) ((Object[]) args[1])[0]) {
+                        order.add(((List<?>) strategy).get(0) + ":" + ((List<?>) strategy).get(1));
+                    }
+                    probes.add(order);
+                    for (int i = 0; i < order.size(); i++) {
+                        if (present.contains(order.get(i))) {
+                            return (long) i;
+                        }
+                    }
+                    return -1L;
+                });
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        scope.close();
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test(description = "Verify strategies are probed in declared order and the primary wins when present")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testDeclaredOrder() {
+        present = Set.of(PRIMARY.toString(), BY_NAME.toString());
+        HealingLocator locator = HealingLocator.of("healer.next", PRIMARY, BY_NAME, BY_LABEL);
+
+        Assert.assertEquals(LocatorHealer.resolve(driver, locator, 1), By.id("FNOLWizard-Next"));
+        Assert.assertEquals(probes, List.of(List.of(PRIMARY.toString(), BY_NAME.toString(), BY_LABEL.toString())));
+        Assert.assertFalse(LocatorHealer.getHealedLocators().containsKey("healer.next"));
+    }
+
+    @Test(description = "Verify a fallback winner is reported as healed and probed first next time")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testWinnerProbedFirst() {
+        present = Set.of(BY_LABEL.toString());
+        HealingLocator locator = HealingLocator.of("healer.winner", PRIMARY, BY_NAME, BY_LABEL);
+
+        Assert.assertEquals(LocatorHealer.resolve(driver, locator, 1), BY_LABEL.toBy());
+        Assert.assertEquals(LocatorHealer.getHealedLocators().get("healer.winner"), BY_LABEL.toString());
+
+        probes.clear();
+        LocatorHealer.resolve(driver, locator, 1);
+        Assert.assertEquals(probes.get(0), List.of(BY_LABEL.toString(), PRIMARY.toString(), BY_NAME.toString()),
+                "The cached winner goes first; the others keep their declared order");
+    }
+
+    @Test(description = "Verify the winner is persisted to the locator cache of the environment")
+    @Severity(SeverityLevel.NORMAL)
+    public void testWinnerPersisted() throws IOException {
+        present = Set.of(BY_NAME.toString());
+        LocatorHealer.resolve(driver, HealingLocator.of("healer.persisted", PRIMARY, BY_NAME), 1);
+
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            Path cache = files.findFirst().orElseThrow();
+            Assert.assertTrue(Files.readString(cache).contains("healer.persisted=name\\:FNOLWizard-Next"),
+                    Files.readString(cache));
+        }
+    }
+
+    @Test(description = "Verify no matching strategy fails with the locator name")
+    @Severity(SeverityLevel.NORMAL)
+    public void testNoStrategyMatches() {
+        RuntimeException e = Assert.expectThrows(RuntimeException.class,
+                () -> LocatorHealer.resolve(driver, HealingLocator.of("healer.missing", PRIMARY), 1));
+        Assert.assertTrue(e.getMessage().contains("healer.missing"), e.getMessage());
+    }
+
+    @Test(description = "Verify aria-label selectors are escaped like the browser's CSS.escape()")
+    @Severity(SeverityLevel.NORMAL)
+    public void testAriaLabelEscaping() {
+        Assert.assertEquals(LocatorStrategy.cssEscape("Next >"), "Next\\ \\>");
+        Assert.assertEquals(LocatorStrategy.cssEscape("Say \"hi\"\\"), "Say\\ \\\"hi\\\"\\\\");
+        Assert.assertEquals(LocatorStrategy.cssEscape("1st"), "\\31 st");
+        Assert.assertEquals(LocatorStrategy.cssEscape("-2"), "-\\32 ");
+        Assert.assertEquals(LocatorStrategy.cssEscape("-"), "\\-");
+        Assert.assertEquals(LocatorStrategy.cssEscape("Läuft_a-1"), "Läuft_a-1");
+        Assert.assertEquals(LocatorStrategy.cssEscape("a\tb"), "a\\9 b");
+        Assert.assertEquals(LocatorStrategy.ariaLabel("Say \"hi\"").toBy(), By.cssSelector("[aria-label=\"Say\\ \\\"hi\\\"\"]"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.locators.LocatorRegistry;
+import com.enterprise.mercury.core.locators.LocatorStrategy;
+import io.qameta.allure.*;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the central Guidewire widget locator registry
+ * Runs against the shipped locators/guidewire-widgets.json resource
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Locator Registry")
+@Listeners(TestListener.class)
+public class LocatorRegistryTest {
+
+    @Test(description = "Verify every registered widget compiles to a primary locator")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testAllWidgetsCompile() {
+        Assert.assertFalse(LocatorRegistry.keys().isEmpty(), "Registry should not be empty");
+        for (String key : LocatorRegistry.keys()) {
+            LocatorRegistry.Definition definition = LocatorRegistry.definition(key);
+            Assert.assertEquals(definition.locator().getName(), key);
+            Assert.assertEquals(definition.by(), definition.locator().getPrimary().toBy());
+        }
+    }
+
+    @Test(description = "Verify page objects share one locator instance per widget")
+    @Severity(SeverityLevel.NORMAL)
+    public void testSharedInstances() {
+        Assert.assertSame(LocatorRegistry.by("fnol.wizard.nextButton"), LocatorRegistry.by("fnol.wizard.nextButton"));
+        Assert.assertSame(LocatorRegistry.healing("claimTab.expandButton"), LocatorRegistry.healing("claimTab.expandButton"));
+        Assert.assertEquals(LocatorRegistry.healing("claimTab.expandButton").getPrimary(),
+                LocatorStrategy.xpath("//*[@id='TabBar-ClaimTab']/div[3]/div"));
+    }
+
+    @Test(description = "Verify reverse lookup from a Selenium locator to its widget ID")
+    @Severity(SeverityLevel.NORMAL)
+    public void testKeyOf() {
+        By policyNumber = By.name("FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-policyNumber");
+        Assert.assertEquals(LocatorRegistry.keyOf(policyNumber).orElse(null), "fnol.policySearch.policyNumber");
+        Assert.assertFalse(LocatorRegistry.keyOf(By.id("not-a-widget")).isPresent());
+    }
+
+    @Test(description = "Verify widgets are grouped by screen")
+    @Severity(SeverityLevel.NORMAL)
+    public void testForScreen() {
+        Assert.assertTrue(LocatorRegistry.forScreen("FNOL_POLICY_SEARCH").stream()
+                .anyMatch(d -> d.key().equals("fnol.policySearch.searchButton")));
+        Assert.assertTrue(LocatorRegistry.forScreen("FNOL_BASIC_INFO").stream()
+                .anyMatch(d -> d.key().equals("fnol.wizard.nextButton")));
+    }
+
+    @Test(description = "Verify statistics are aggregated per widget")
+    @Severity(SeverityLevel.NORMAL)
+    public void testStatisticsAggregation() {
+        String key = "fnol.basicInfo.preferredMethodOfContact";
+        LocatorRegistry.Statistics before = LocatorRegistry.statistics(key);
+
+        LocatorRegistry.recordResolution(LocatorRegistry.by(key));
+        LocatorRegistry.recordResolution(key, true);
+        LocatorRegistry.recordFailure(LocatorRegistry.by(key));
+        LocatorRegistry.recordCost(key, 12.5);
+
+        LocatorRegistry.Statistics after = LocatorRegistry.statistics(key);
+        Assert.assertEquals(after.resolutions() - before.resolutions(), 2);
+        Assert.assertEquals(after.heals() - before.heals(), 1);
+        Assert.assertEquals(after.failures() - before.failures(), 1);
+        Assert.assertEquals(after.lastCostMicros(), 12.5, 0.001);
+    }
+
+    @Test(description = "Verify unknown widget IDs are rejected", expectedExceptions = IllegalArgumentException.class)
+    @Severity(SeverityLevel.MINOR)
+    public void testUnknownWidget() {
+        LocatorRegistry.by("no.such.widget");
+    }
+}
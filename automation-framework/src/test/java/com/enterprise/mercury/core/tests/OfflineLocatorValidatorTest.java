@@ -0,0 +1,159 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.locators.LocatorRegistry;
+import com.enterprise.mercury.core.locators.OfflineLocatorValidator;
+import com.enterprise.mercury.core.locators.OfflineLocatorValidator.Finding;
+import com.enterprise.mercury.core.locators.OfflineLocatorValidator.Status;
+import com.enterprise.mercury.core.locators.PageSnapshotStore;
+import com.enterprise.mercury.ui.pages.WizardStep;
+import io.qameta.allure.*;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for offline locator validation against page snapshots
+ * Uses small inline pages shaped like the Guidewire FNOL wizard, then validates the
+ * registry and the page objects' own locators against the captured snapshots when any exist
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Offline Locator Validation")
+@Listeners(TestListener.class)
+public class OfflineLocatorValidatorTest {
+
+    private static final String TAB_BAR =
+            "<div id='TabBar-ClaimTab'><div>Claim</div><div></div>"
+            + "<div class='gw-action--expand-button'><div></div></div></div>"
+            + "<div id='TabBar-ClaimTab-ClaimTab_FNOLWizard'><div>New Claim</div></div>";
+
+    private static final String POLICY_SEARCH = "<html><body>" + TAB_BAR
+            + "<input name='FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-policyNumber'>"
+            + "<input type='text' placeholder='hh:mm'>"
+            + "<button class='gw-time'>AM</button>"
+            + "<div id='FNOLWizard-FNOLWizard_FindPolicyScreen-FNOLWizardFindPolicyPanelSet-Search' class='gw-actionable'></div>"
+            + "<div id='FNOLWizard-Next' class='gw-action'></div>"
+            + "</body></html>";
+
+    private List<Finding> findings;
+
+    /**
+     * Page object stand-in declaring its own locators next to a registry widget
+     */
+    static class StubPage {
+        private static final By policyNumber = LocatorRegistry.by("fnol.policySearch.policyNumber");
+        private static final By lossTime = By.cssSelector("input[placeholder='hh:mm']");
+        private static final By finish = By.id("FNOLWizard-Finish");
+        private final By instanceOnly = By.id("never-read");
+    }
+
+    @BeforeClass
+    public void validateInlineSnapshots() throws IOException {
+        PageSnapshotStore store = new PageSnapshotStore(Files.createTempDirectory("page-snapshots"));
+        store.save("FNOL_POLICY_SEARCH", POLICY_SEARCH);
+        findings = new OfflineLocatorValidator(store).validateRegistry();
+    }
+
+    private Finding finding(String widget) {
+        return findings.stream().filter(f -> f.widget().equals(widget)).findFirst()
+                .orElseThrow(() -> new AssertionError("No finding for " + widget));
+    }
+
+    @Test(description = "Verify only widgets of captured screens are validated")
+    @Severity(SeverityLevel.NORMAL)
+    public void testScreenSelection() {
+        List<String> widgets = findings.stream().map(Finding::widget).collect(Collectors.toList());
+        Assert.assertTrue(widgets.contains("claimTab.expandButton"), "Tab bar widgets apply to every screen");
+        Assert.assertTrue(widgets.contains("fnol.policySearch.searchButton"));
+        Assert.assertFalse(widgets.contains("fnol.basicInfo.claimantName"), "No FNOL_BASIC_INFO snapshot captured");
+    }
+
+    @Test(description = "Verify present, missing and optional widgets are classified")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testStatuses() {
+        Assert.assertEquals(finding("fnol.policySearch.policyNumber").status(), Status.OK);
+        Assert.assertEquals(finding("fnol.policySearch.searchButton").status(), Status.OK);
+        Assert.assertEquals(finding("fnol.wizard.nextButton").status(), Status.OK);
+        Assert.assertEquals(finding("fnol.policySearch.lossDate").status(), Status.MISSING);
+        Assert.assertEquals(finding("gw.clickOverlay").status(), Status.OPTIONAL_ABSENT);
+        Assert.assertFalse(Status.OPTIONAL_ABSENT.isProblem());
+    }
+
+    @Test(description = "Verify every strategy of a healing locator is evaluated")
+    @Severity(SeverityLevel.NORMAL)
+    public void testAllStrategiesEvaluated() {
+        Finding expand = finding("claimTab.expandButton");
+        Assert.assertEquals(expand.status(), Status.OK, expand.message());
+        Assert.assertEquals(expand.matches(), List.of(1, 1, 1));
+
+        Finding newClaim = finding("claimTab.newClaimMenuItem");
+        Assert.assertEquals(newClaim.status(), Status.OK, newClaim.message());
+        Assert.assertEquals(newClaim.matches(), List.of(1, 1, 1));
+    }
+
+    @Test(description = "Verify ambiguous and healed locators are reported")
+    @Severity(SeverityLevel.NORMAL)
+    public void testAmbiguousAndHealed() throws IOException {
+        PageSnapshotStore store = new PageSnapshotStore(Files.createTempDirectory("page-snapshots"));
+        store.save("FNOL_POLICY_SEARCH", "<html><body><button>AA</button><button class='gw-time'>AM</button>"
+                + "<div id='TabBar-ClaimTab'><span class='expand-button'></span></div></body></html>");
+        List<Finding> result = new OfflineLocatorValidator(store).validate(List.of(
+                LocatorRegistry.definition("fnol.policySearch.timeAmPmButton"),
+                LocatorRegistry.definition("claimTab.expandButton")));
+
+        Assert.assertEquals(result.get(0).status(), Status.AMBIGUOUS);
+        Assert.assertEquals(result.get(0).matches(), List.of(2));
+        Assert.assertEquals(result.get(1).status(), Status.HEALED);
+        Assert.assertEquals(result.get(1).matches(), List.of(0, 0, 1));
+        Assert.assertTrue(OfflineLocatorValidator.formatReport(result).contains("| HEALED |"));
+    }
+
+    @Test(description = "Verify locators a page declares itself are validated on the screens of the page")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testPageLocators() throws IOException {
+        PageSnapshotStore store = new PageSnapshotStore(Files.createTempDirectory("page-snapshots"));
+        store.save("FNOL_POLICY_SEARCH", POLICY_SEARCH);
+        List<Finding> result = new OfflineLocatorValidator(store).validatePages(
+                Map.of("FNOL_POLICY_SEARCH", List.of(StubPage.class), "FNOL_BASIC_INFO", List.of(StubPage.class)));
+
+        Assert.assertEquals(result.stream().map(Finding::widget).collect(Collectors.toList()),
+                List.of("StubPage.lossTime", "StubPage.finish"), "Registry widgets and instance fields are not read");
+        Assert.assertEquals(result.get(0).status(), Status.OK);
+        Assert.assertEquals(result.get(1).status(), Status.MISSING);
+        Assert.assertTrue(result.stream().allMatch(f -> f.screen().equals("FNOL_POLICY_SEARCH")),
+                "Screens without a snapshot are not reported");
+    }
+
+    @Test(description = "Verify registry widgets and page object locators against the captured FNOL page snapshots")
+    @Severity(SeverityLevel.BLOCKER)
+    public void testRegistryAgainstCapturedSnapshots() {
+        PageSnapshotStore store = new PageSnapshotStore();
+        if (store.screens().isEmpty()) {
+            throw new SkipException("No page snapshots in " + store.getDirectory() + " - run PageSnapshotCaptureTest");
+        }
+        Map<String, List<Class<?>>> pagesByScreen = new LinkedHashMap<>();
+        for (WizardStep step : WizardStep.values()) {
+            pagesByScreen.put(step.name(), new ArrayList<>(step.getPageClasses()));
+        }
+        OfflineLocatorValidator validator = new OfflineLocatorValidator(store);
+        List<Finding> result = new ArrayList<>(validator.validateRegistry());
+        result.addAll(validator.validatePages(pagesByScreen));
+        String report = OfflineLocatorValidator.formatReport(result);
+        Allure.addAttachment("Offline Locator Validation", report);
+        Assert.assertTrue(result.stream().noneMatch(f -> f.status().isProblem()), report);
+    }
+}
@@ -0,0 +1,118 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.config.ConfigManager;
+import com.enterprise.mercury.core.config.ConfigScope;
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.retry.FailureCategory;
+import com.enterprise.mercury.core.retry.RetryBackoff;
+import com.enterprise.mercury.core.retry.RetryMetrics;
+import com.enterprise.mercury.core.retry.RetryPolicy;
+import io.qameta.allure.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the interaction retry policy
+ * Runs without a browser - interactions are simulated
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Interaction Retry Policy")
+@Listeners(TestListener.class)
+public class RetryPolicyTest {
+
+    private static final By LOCATOR = By.id("retry-test");
+
+    @Test(description = "Verify failures are classified through the cause chain")
+    @Severity(SeverityLevel.NORMAL)
+    public void testClassification() {
+        Assert.assertEquals(FailureCategory.classify(new StaleElementReferenceException("stale")),
+                            FailureCategory.STALE_ELEMENT);
+        Assert.assertEquals(FailureCategory.classify(new ElementClickInterceptedException("covered")),
+                            FailureCategory.CLICK_INTERCEPTED);
+        Assert.assertEquals(FailureCategory.classify(new RuntimeException(new TimeoutException("slow"))),
+                            FailureCategory.TIMEOUT);
+        Assert.assertEquals(FailureCategory.classify(new NoSuchElementException("missing")),
+                            FailureCategory.NON_RETRYABLE);
+    }
+
+    @Test(description = "Verify each category is retried with its own backoff and counted per screen")
+    @Severity(SeverityLevel.NORMAL)
+    public void testRetriesPerCategory() {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger overlayWaits = new AtomicInteger();
+        RetryPolicy policy = RetryPolicy.none()
+                .withRule(FailureCategory.STALE_ELEMENT, 2, RetryBackoff.immediate())
+                .withRule(FailureCategory.CLICK_INTERCEPTED, 1,
+                          (driver, locator, attempt) -> overlayWaits.incrementAndGet());
+
+        policy.execute(null, LOCATOR, "CategoryRetryScreen", "Click", () -> {
+            int attempt = attempts.incrementAndGet();
+            if (attempt == 1) {
+                throw new StaleElementReferenceException("stale");
+            }
+            if (attempt == 2) {
+                throw new ElementClickInterceptedException("covered");
+            }
+        });
+
+        Assert.assertEquals(attempts.get(), 3, "Interaction should succeed on the third attempt");
+        Assert.assertEquals(overlayWaits.get(), 1, "Intercepted click should run its own backoff once");
+        Assert.assertEquals(RetryMetrics.getCount("CategoryRetryScreen", FailureCategory.STALE_ELEMENT), 1);
+        Assert.assertEquals(RetryMetrics.getCount("CategoryRetryScreen", FailureCategory.CLICK_INTERCEPTED), 1);
+    }
+
+    @Test(description = "Verify retries stop when the category limit is exhausted")
+    @Severity(SeverityLevel.NORMAL)
+    public void testRetriesExhausted() {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryPolicy policy = RetryPolicy.none()
+                .withRule(FailureCategory.STALE_ELEMENT, 2, RetryBackoff.immediate());
+
+        RuntimeException failure = Assert.expectThrows(RuntimeException.class, () ->
+                policy.execute(null, LOCATOR, "RetryPolicyTestScreen", "Click", () -> {
+                    attempts.incrementAndGet();
+                    throw new StaleElementReferenceException("stale");
+                }));
+
+        Assert.assertEquals(attempts.get(), 3, "Two retries should follow the first attempt");
+        Assert.assertTrue(failure.getMessage().startsWith("Click failed"));
+    }
+
+    @Test(description = "Verify non-retryable failures fail on the first attempt")
+    @Severity(SeverityLevel.NORMAL)
+    public void testNonRetryableFailsFast() {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryPolicy policy = RetryPolicy.none()
+                .withRule(FailureCategory.STALE_ELEMENT, 3, RetryBackoff.immediate());
+
+        Assert.expectThrows(RuntimeException.class, () ->
+                policy.execute(null, LOCATOR, "RetryPolicyTestScreen", "Click", () -> {
+                    attempts.incrementAndGet();
+                    throw new NoSuchElementException("missing");
+                }));
+
+        Assert.assertEquals(attempts.get(), 1);
+    }
+
+    @Test(description = "Verify the shared click policy takes its limits from the global configuration")
+    @Severity(SeverityLevel.NORMAL)
+    public void testClickPolicyIgnoresScopes() {
+        int global = Integer.parseInt(ConfigManager.getInstance().getGlobalSnapshot().property("click.retry.stale"));
+        try (ConfigScope scope = ConfigScope.open(Map.of("click.retry.stale", String.valueOf(global + 4)))) {
+            Assert.assertEquals(scope.getOverrides().get("click.retry.stale"), String.valueOf(global + 4));
+            Assert.assertEquals(RetryPolicy.clickPolicy().getRule(FailureCategory.STALE_ELEMENT).getMaxRetries(), global);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.locators.LocatorStrategy;
+import com.enterprise.mercury.core.locators.SelectorSuggester;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.Optional;
+
+/**
+ * Unit tests for XPath to CSS/id selector suggestions
+ * Inputs are the XPath locators used by the FNOL page objects
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Locator Cost Profiling")
+@Listeners(TestListener.class)
+public class SelectorSuggesterTest {
+
+    @DataProvider(name = "translatable")
+    public Object[][] translatable() {
+        return new Object[][]{
+            {"//*[@id='TabBar-ClaimTab']/div[3]/div",
+             "css:#TabBar-ClaimTab > div:nth-of-type(3) > div"},
+            {"//*[@id='TabBar-ClaimTab-ClaimTab_FNOLWizard']",
+             "id:TabBar-ClaimTab-ClaimTab_FNOLWizard"},
+            {"//div[contains(@id,'FNOLWizardFindPolicyPanelSet-Search') and contains(@class,'gw-actionable')]",
+             "css:div[id*='FNOLWizardFindPolicyPanelSet-Search'][class*='gw-actionable']"},
+            {"//div[contains(@id,'FNOLWizard') and contains(@id,'Next') and contains(@class,'gw-action')]",
+             "css:div[id*='FNOLWizard'][id*='Next'][class*='gw-action']"},
+            {"//input[@type='text' and (@placeholder='hh:mm' or contains(@aria-label,'hh:mm'))]",
+             "css:input[type='text'][placeholder='hh:mm'], input[type='text'][aria-label*='hh:mm']"},
+            {"//select[contains(@name,'Name') or contains(@id,'Name')]",
+             "css:select[name*='Name'], select[id*='Name']"},
+        };
+    }
+
+    @Test(dataProvider = "translatable", description = "Verify supported XPath locators get an equivalent selector")
+    @Severity(SeverityLevel.NORMAL)
+    public void testSuggestion(String xpath, String expected) {
+        Optional<LocatorStrategy> suggestion = SelectorSuggester.suggest(LocatorStrategy.xpath(xpath));
+        Assert.assertTrue(suggestion.isPresent(), "Expected a suggestion for " + xpath);
+        Assert.assertEquals(suggestion.get().toString(), expected);
+    }
+
+    @Test(description = "Verify XPath outside the supported subset gets no suggestion")
+    @Severity(SeverityLevel.NORMAL)
+    public void testUnsupportedXpath() {
+        Assert.assertFalse(SelectorSuggester.suggest(LocatorStrategy.xpath(
+                "//button[contains(@class,'gw-time') or contains(text(),'AA')]")).isPresent());
+        Assert.assertFalse(SelectorSuggester.suggest(LocatorStrategy.xpath(
+                "//*[contains(translate(text(), 'CLAIM', 'claim'), 'claim')]")).isPresent());
+        Assert.assertFalse(SelectorSuggester.suggest(LocatorStrategy.name("policyNumber")).isPresent());
+    }
+}
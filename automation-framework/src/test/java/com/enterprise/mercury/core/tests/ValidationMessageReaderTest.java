@@ -0,0 +1,77 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.guidewire.ScreenOutcome;
+import com.enterprise.mercury.core.guidewire.ValidationMessage;
+import com.enterprise.mercury.core.guidewire.ValidationMessageReader;
+import com.enterprise.mercury.core.listeners.TestListener;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for Guidewire validation message parsing and screen outcomes
+ * Uses JSON in the format returned by the validation message script
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Validation Messages")
+@Listeners(TestListener.class)
+public class ValidationMessageReaderTest {
+
+    private static final String MESSAGES_JSON = "{\"busy\":false,\"next\":false,\"messages\":["
+            + "[\"ERROR\",\"Missing required field \\\"Policy #\\\"\",\"Policy #\",\"\"],"
+            + "[\"WARNING\",\"Loss date is in the future\",\"Loss Date\",\"FNOLWizard-date\"],"
+            + "[\"ERROR\",\"No policies found\",\"\",\"\"]"
+            + "]}";
+
+    @Test(description = "Verify messages are parsed with severity and field association")
+    @Severity(SeverityLevel.NORMAL)
+    public void testParseMessages() {
+        List<ValidationMessage> messages = ValidationMessageReader.parseMessages(MESSAGES_JSON);
+        Assert.assertEquals(messages.size(), 3);
+
+        ValidationMessage policy = messages.get(0);
+        Assert.assertEquals(policy.severity(), ValidationMessage.Severity.ERROR);
+        Assert.assertEquals(policy.field(), "Policy #");
+        Assert.assertEquals(policy.text(), "Missing required field \"Policy #\"");
+        Assert.assertTrue(policy.hasField());
+
+        Assert.assertEquals(messages.get(1).fieldId(), "FNOLWizard-date");
+        Assert.assertFalse(messages.get(2).hasField(), "Screen-level message has no field");
+        Assert.assertEquals(messages.get(2).toString(), "ERROR: No policies found");
+    }
+
+    @Test(description = "Verify an invalid field without message text keeps its id and an empty text")
+    @Severity(SeverityLevel.NORMAL)
+    public void testInvalidFieldWithoutText() {
+        List<ValidationMessage> messages = ValidationMessageReader.parseMessages(
+                "{\"busy\":false,\"next\":false,\"messages\":[[\"ERROR\",\"\",\"\",\"FNOLWizard-lossTime\"]]}");
+        Assert.assertEquals(messages.size(), 1);
+        Assert.assertEquals(messages.get(0).text(), "");
+        Assert.assertEquals(messages.get(0).fieldId(), "FNOLWizard-lossTime");
+        Assert.assertTrue(messages.get(0).hasField());
+    }
+
+    @Test(description = "Verify an empty screen yields no messages")
+    @Severity(SeverityLevel.MINOR)
+    public void testNoMessages() {
+        Assert.assertTrue(ValidationMessageReader.parseMessages("{\"busy\":true,\"next\":true,\"messages\":[]}").isEmpty());
+    }
+
+    @Test(description = "Verify screen outcomes filter messages by severity")
+    @Severity(SeverityLevel.NORMAL)
+    public void testScreenOutcome() {
+        ScreenOutcome outcome = new ScreenOutcome(ScreenOutcome.Kind.MESSAGES,
+                ValidationMessageReader.parseMessages(MESSAGES_JSON), 420);
+        Assert.assertTrue(outcome.hasMessages());
+        Assert.assertFalse(outcome.reachedNextScreen());
+        Assert.assertEquals(outcome.messages(ValidationMessage.Severity.ERROR).size(), 2);
+        Assert.assertEquals(outcome.messages(ValidationMessage.Severity.WARNING).get(0).field(), "Loss Date");
+        Assert.assertTrue(outcome.messages(ValidationMessage.Severity.INFO).isEmpty());
+    }
+}
@@ -0,0 +1,120 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.retry.RetryBackoff;
+import com.enterprise.mercury.core.retry.RetryMetrics;
+import com.enterprise.mercury.core.retry.WizardFlow;
+import io.qameta.allure.*;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for wizard flows with checkpoints and step-level retry
+ * Runs without a browser - steps are simulated
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Wizard Flow Retry")
+@Listeners(TestListener.class)
+public class WizardFlowTest {
+
+    @Test(description = "Verify only the failed step is retried and saved time is reported")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testRetriesOnlyFailedStep() {
+        AtomicInteger firstRuns = new AtomicInteger();
+        AtomicInteger secondRuns = new AtomicInteger();
+
+        WizardFlow.Result result = WizardFlow.named("RetryOnlyFailedStepFlow", null)
+                .withBackoff(RetryBackoff.immediate())
+                .withMaxRetries(2)
+                .step("Slow first step", () -> {
+                    firstRuns.incrementAndGet();
+                    sleep(30);
+                })
+                .step("Flaky second step", () -> true, () -> {
+                    if (secondRuns.incrementAndGet() == 1) {
+                        throw new RuntimeException("Click failed", new StaleElementReferenceException("stale"));
+                    }
+                })
+                .run();
+
+        Assert.assertEquals(firstRuns.get(), 1, "Completed steps are not rerun");
+        Assert.assertEquals(secondRuns.get(), 2);
+        Assert.assertEquals(result.retries(), 1);
+        Assert.assertTrue(result.savedMillis() >= 30, "Saved time covers the completed first step");
+        long[] recorded = RetryMetrics.stepRetrySnapshot().get("RetryOnlyFailedStepFlow|Flaky second step");
+        Assert.assertNotNull(recorded);
+        Assert.assertEquals(recorded[0], 1);
+        Assert.assertEquals(recorded[2], result.savedMillis());
+    }
+
+    @Test(description = "Verify non-transient failures are not retried")
+    @Severity(SeverityLevel.NORMAL)
+    public void testNonRetryableFailure() {
+        AtomicInteger runs = new AtomicInteger();
+        WizardFlow flow = WizardFlow.named("NonRetryableFlow", null)
+                .withBackoff(RetryBackoff.immediate())
+                .withMaxRetries(3)
+                .step("Missing element", () -> {
+                    runs.incrementAndGet();
+                    throw new NoSuchElementException("missing");
+                });
+
+        Assert.expectThrows(RuntimeException.class, flow::run);
+        Assert.assertEquals(runs.get(), 1);
+    }
+
+    @Test(description = "Verify a step is not retried once its checkpoint no longer holds")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testCheckpointLost() {
+        AtomicInteger runs = new AtomicInteger();
+        WizardFlow flow = WizardFlow.named("CheckpointLostFlow", null)
+                .withBackoff(RetryBackoff.immediate())
+                .withMaxRetries(3)
+                .step("Next", () -> false, () -> {
+                    runs.incrementAndGet();
+                    throw new TimeoutException("slow");
+                });
+
+        RuntimeException failure = Assert.expectThrows(RuntimeException.class, flow::run);
+        Assert.assertTrue(failure.getMessage().contains("checkpoint"));
+        Assert.assertEquals(runs.get(), 1);
+    }
+
+    @Test(description = "Verify completed steps are skipped and late failures of completed steps are accepted")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCompletionChecks() {
+        AtomicInteger skippedRuns = new AtomicInteger();
+        AtomicBoolean nextScreen = new AtomicBoolean();
+
+        WizardFlow.Result result = WizardFlow.named("CompletionCheckFlow", null)
+                .withBackoff(RetryBackoff.immediate())
+                .withMaxRetries(0)
+                .step("Already done", () -> true, skippedRuns::incrementAndGet, () -> true)
+                .step("Next", () -> true, () -> {
+                    nextScreen.set(true);
+                    throw new TimeoutException("page load wait timed out after navigating");
+                }, nextScreen::get)
+                .run();
+
+        Assert.assertEquals(skippedRuns.get(), 0);
+        Assert.assertEquals(result.retries(), 0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
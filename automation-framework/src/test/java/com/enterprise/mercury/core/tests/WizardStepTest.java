@@ -0,0 +1,69 @@
+package com.enterprise.mercury.core.tests;
+
+import com.enterprise.mercury.core.guidewire.ScreenFingerprint;
+import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.ui.pages.ClaimCreationPage;
+import com.enterprise.mercury.ui.pages.ClaimCreationPolicySearchPage;
+import com.enterprise.mercury.ui.pages.WizardStep;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for screen fingerprint parsing and wizard step identification
+ * Uses JSON in the format returned by the fingerprint script
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Framework")
+@Feature("Wizard Steps")
+@Listeners(TestListener.class)
+public class WizardStepTest {
+
+    @Test(description = "Verify fingerprint JSON is parsed in document order")
+    @Severity(SeverityLevel.NORMAL)
+    public void testParseFingerprint() {
+        ScreenFingerprint fingerprint = ScreenFingerprint.fromJson(
+                "{\"screens\":[\"TabBar_Screen\",\"FNOLWizard_FindPolicyScreen\"],\"title\":\"Step 1 of 5: Search or Create Policy\"}");
+        Assert.assertEquals(fingerprint.screenIds(), List.of("TabBar_Screen", "FNOLWizard_FindPolicyScreen"));
+        Assert.assertEquals(fingerprint.title(), "Step 1 of 5: Search or Create Policy");
+    }
+
+    @Test(description = "Verify wizard steps win over the desktop rendered behind the wizard")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testIdentifyWizardStep() {
+        Assert.assertEquals(WizardStep.identify(fingerprint("DesktopActivitiesScreen", "FNOLWizard_BasicInfoScreen")),
+                WizardStep.FNOL_BASIC_INFO);
+        Assert.assertEquals(WizardStep.identify(fingerprint("FNOLWizard_FindPolicyScreen")),
+                WizardStep.FNOL_POLICY_SEARCH);
+        Assert.assertEquals(WizardStep.identify(fingerprint("DesktopActivitiesScreen")), WizardStep.DESKTOP);
+        Assert.assertEquals(WizardStep.identify(fingerprint("LoginScreen")), WizardStep.LOGIN);
+    }
+
+    @Test(description = "Verify unknown screens are not guessed")
+    @Severity(SeverityLevel.NORMAL)
+    public void testUnknownStep() {
+        Assert.assertEquals(WizardStep.identify(fingerprint()), WizardStep.UNKNOWN);
+        Assert.assertEquals(WizardStep.identify(fingerprint("ClaimSummaryScreen")), WizardStep.UNKNOWN);
+        Assert.assertFalse(WizardStep.UNKNOWN.matches(fingerprint("FNOLWizard_FindPolicyScreen")));
+    }
+
+    @Test(description = "Verify steps map to the page objects that drive them")
+    @Severity(SeverityLevel.NORMAL)
+    public void testPageClasses() {
+        Assert.assertTrue(WizardStep.FNOL_POLICY_SEARCH.getPageClasses().contains(ClaimCreationPage.class));
+        Assert.assertTrue(WizardStep.FNOL_BASIC_INFO.getPageClasses().contains(ClaimCreationPolicySearchPage.class));
+        Assert.assertFalse(WizardStep.FNOL_BASIC_INFO.getPageClasses().contains(ClaimCreationPage.class));
+        Assert.assertTrue(WizardStep.FNOL_LOSS_DETAILS.getPageClasses().isEmpty());
+        Assert.assertTrue(WizardStep.FNOL_BASIC_INFO.isFnolStep());
+        Assert.assertFalse(WizardStep.DESKTOP.isFnolStep());
+    }
+
+    private static ScreenFingerprint fingerprint(String... screenIds) {
+        return new ScreenFingerprint(List.of(screenIds), "");
+    }
+}
@@ -1,12 +1,15 @@
 package com.enterprise.mercury.ui.tests;
 
 import com.enterprise.mercury.core.config.ConfigManager;
+import com.enterprise.mercury.core.driver.CommandRecorder;
 import com.enterprise.mercury.core.driver.DriverFactory;
 import com.enterprise.mercury.core.listeners.TestListener;
+import com.enterprise.mercury.core.reporting.CommandMetricsReporter;
 import io.qameta.allure.Allure;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
@@ -34,6 +37,9 @@ public abstract class BaseTest {
         logger.info("Setting up test environment");
         logger.info("=================================================");
         
+        // Start a fresh WebDriver command buffer for this test
+        CommandRecorder.reset();
+        
         // Load configuration
         config = ConfigManager.getInstance();
         
@@ -65,13 +71,19 @@ public abstract class BaseTest {
     
     /**
      * Teardown method - runs after each test
+     * 
+     * @param result Result of the test that just finished
      */
     @AfterMethod(alwaysRun = true)
-    public void tearDown() {
+    public void tearDown(ITestResult result) {
         logger.info("=================================================");
         logger.info("Tearing down test environment");
         logger.info("=================================================");
         
+        // Publish WebDriver command metrics before the session goes away
+        CommandMetricsReporter.publishTestMetrics(
+                result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName());
+        
         // Quit WebDriver
         if (DriverFactory.isDriverInitialized()) {
             DriverFactory.quitDriver();
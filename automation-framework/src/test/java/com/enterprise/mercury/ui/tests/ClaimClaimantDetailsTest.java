@@ -2,6 +2,9 @@ package com.enterprise.mercury.ui.tests;
 
 import com.enterprise.mercury.core.utils.DataReader;
 import com.enterprise.mercury.ui.pages.ClaimClaimantDetailsPage;
+import com.enterprise.mercury.ui.pages.FnolFastForward;
+import com.enterprise.mercury.ui.pages.PageCache;
+import com.enterprise.mercury.ui.pages.WizardStep;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.qameta.allure.*;
 import org.testng.Assert;
@@ -38,8 +41,6 @@ public class ClaimClaimantDetailsTest extends BaseTest {
         JsonNode validData = testData.get("validClaimWithClaimantDetails");
         
         String policyNumber = validData.get("policyNumber").asText();
-        String lossDate = validData.get("lossDate").asText();
-        String lossTime = validData.get("lossTime").asText();
         String claimantName = validData.get("claimantName").asText();
         String relationToInsured = validData.get("relationToInsured").asText();
         String preferredMethod = validData.get("preferredMethodOfContact").asText();
@@ -48,59 +49,13 @@ public class ClaimClaimantDetailsTest extends BaseTest {
                     policyNumber, claimantName, relationToInsured);
         
         // Create page object
-        ClaimClaimantDetailsPage claimPage = new ClaimClaimantDetailsPage();
+        ClaimClaimantDetailsPage claimPage = PageCache.get(ClaimClaimantDetailsPage.class);
         
         // Act - Execute test steps
         
-        // Step 1-3: Navigate to New Claim
-        logger.info("Step 1-3: Navigate to Claim Tab and New Claim");
-        claimPage.clickClaimTabExpand();
-        claimPage.clickNewClaimMenuItem();
-        
-        // Wait for page load
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        // Step 4-6: Fill policy search information including complete time with AM/PM
-        logger.info("Step 4-6: Fill policy search information");
-        claimPage.enterPolicyNumber(policyNumber);
-        claimPage.enterLossDate(lossDate);
-        
-        // Enter complete time with AM/PM in one go to avoid validation error
-        // Format: "HH:MM AM/PM" (e.g., "11:11 PM")
-        claimPage.enterLossTimeWithAmPm(lossTime, "PM");
-        
-        // Wait for validation to complete
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        // Step 7: Click Search button
-        logger.info("Step 7: Click Search button");
-        claimPage.clickSearchButton();
-        
-        // Wait for search results
-        try {
-            Thread.sleep(3000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        // Step 8: Click Next button
-        logger.info("Step 8: Click Next button");
-        claimPage.clickNextButton();
-        
-        // Wait for claimant details page to load
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // Step 1-9: Fast-forward to the claimant details (Basic Info) step
+        logger.info("Step 1-9: Fast-forward to claimant details");
+        PageCache.get(FnolFastForward.class).fastForwardTo(WizardStep.FNOL_BASIC_INFO, validData);
         
         // Step 10-14: Fill claimant details
         logger.info("Step 10-14: Fill claimant details");
@@ -110,19 +65,10 @@ public class ClaimClaimantDetailsTest extends BaseTest {
         logger.info("Step 15: Click Next button");
         claimPage.clickNextButton();
         
-        // Wait for next page
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        // Assert - Verify the flow completed successfully
+        // Assert - Verify the wizard moved past the claimant details step
         logger.info("Verifying claim creation flow completed");
-        
-        // Note: Add specific assertions based on the next page that appears
-        // For now, we verify no exceptions occurred during the flow
-        Assert.assertTrue(true, "Claim creation with claimant details flow completed successfully");
+        Assert.assertEquals(claimPage.waitForWizardStep(WizardStep.FNOL_LOSS_DETAILS), WizardStep.FNOL_LOSS_DETAILS,
+                            "Next should lead to the Loss Details step");
         
         logger.info("testClaimCreationWithClaimantDetails completed successfully");
     }
@@ -153,7 +99,7 @@ public class ClaimClaimantDetailsTest extends BaseTest {
         logger.info("Test data loaded for step-by-step workflow");
         
         // Create page object
-        ClaimClaimantDetailsPage claimPage = new ClaimClaimantDetailsPage();
+        ClaimClaimantDetailsPage claimPage = PageCache.get(ClaimClaimantDetailsPage.class);
         
         // Act & Assert - Execute and verify each step
         
@@ -237,7 +183,8 @@ public class ClaimClaimantDetailsTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Story("Complete Claim Creation Flow")
     @Description("Test to verify the complete claim creation with claimant details using a single composite method. " +
-                 "This test validates that all steps can be executed in sequence without manual step-by-step calls.")
+                 "This test validates that all steps, from opening a new claim to leaving the Basic Info step, " +
+                 "run in sequence through completeClaimCreationWithClaimantDetails.")
     public void testCompleteClaimCreationFlow() {
         logger.info("Starting testCompleteClaimCreationFlow");
         
@@ -255,61 +202,16 @@ public class ClaimClaimantDetailsTest extends BaseTest {
         logger.info("Test data loaded for complete flow");
         
         // Create page object
-        ClaimClaimantDetailsPage claimPage = new ClaimClaimantDetailsPage();
+        ClaimClaimantDetailsPage claimPage = PageCache.get(ClaimClaimantDetailsPage.class);
         
-        // Wait for initial page load
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        // Act - Execute complete flow step by step
+        // Act - Execute complete flow through the composite method (Steps 1-10)
         logger.info("Executing complete claim creation flow");
+        claimPage.completeClaimCreationWithClaimantDetails(policyNumber, lossDate, lossTime,
+                                                           claimantName, relationToInsured, preferredMethod);
         
-        // Steps 1-3: Navigate to Claim Tab and New Claim
-        claimPage.clickClaimTabExpand();
-        claimPage.clickNewClaimMenuItem();
-        
-        // Steps 4-6: Fill policy search information
-        claimPage.enterPolicyNumber(policyNumber);
-        claimPage.enterLossDate(lossDate);
-        claimPage.enterLossTimeWithAmPm(lossTime, "PM");
-        
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        // Step 7: Click Search button
-        claimPage.clickSearchButton();
-        
-        // Step 8: Click Next button
-        claimPage.clickNextButton();
-        
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        // Step 9: Fill claimant details
-        claimPage.fillClaimantDetails(claimantName, relationToInsured, preferredMethod);
-        
-        // Step 10: Click Next button
-        claimPage.clickNextButton();
-        
-        // Wait for final page
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        // Assert - Verify completion
-        logger.info("Verifying complete flow executed successfully");
-        Assert.assertTrue(true, "Complete claim creation flow executed successfully");
+        // Assert - The flow ends on the step after Basic Info
+        Assert.assertEquals(claimPage.getCurrentWizardStep(), WizardStep.FNOL_LOSS_DETAILS,
+                            "Complete flow should end on the Loss Details step");
         
         logger.info("testCompleteClaimCreationFlow completed successfully");
     }
@@ -1,7 +1,8 @@
 package com.enterprise.mercury.ui.tests;
 
-import com.enterprise.mercury.core.utils.DataReader;
+import com.enterprise.mercury.core.utils.DataLeasePool;
 import com.enterprise.mercury.ui.pages.ClaimCreationPage;
+import com.enterprise.mercury.ui.pages.PageCache;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.qameta.allure.*;
 import org.testng.Assert;
@@ -30,22 +31,22 @@ public class ClaimCreationTest extends BaseTest {
     public void testCreateClaimWithValidPolicySearch() {
         logger.info("Starting testCreateClaimWithValidPolicySearch");
         
-        // Read test data from JSON
-        JsonNode testData = DataReader.readUITestData("claimCreationData.json");
-        String policyType = testData.get("validPolicySearch").get("policyType").asText();
-        String type = testData.get("validPolicySearch").get("type").asText();
-        String policyNumber = testData.get("validPolicySearch").get("policyNumber").asText();
-        String firstName = testData.get("validPolicySearch").get("firstName").asText();
-        String lastName = testData.get("validPolicySearch").get("lastName").asText();
-        String date = testData.get("validPolicySearch").get("date").asText();
-        String time = testData.get("validPolicySearch").get("time").asText();
-        String expectedResult = testData.get("validPolicySearch").get("expectedResult").asText();
+        // Lease the policy so no parallel test searches it at the same time (released by TestListener)
+        JsonNode testData = DataLeasePool.acquire("ui/claimCreationData.json", "validPolicySearch").record();
+        String policyType = testData.get("policyType").asText();
+        String type = testData.get("type").asText();
+        String policyNumber = testData.get("policyNumber").asText();
+        String firstName = testData.get("firstName").asText();
+        String lastName = testData.get("lastName").asText();
+        String date = testData.get("date").asText();
+        String time = testData.get("time").asText();
+        String expectedResult = testData.get("expectedResult").asText();
         
         logger.info("Test data loaded - Policy Number: {}, First Name: {}, Last Name: {}", 
                     policyNumber, firstName, lastName);
         
         // Create page object
-        ClaimCreationPage claimPage = new ClaimCreationPage();
+        ClaimCreationPage claimPage = PageCache.get(ClaimCreationPage.class);
         
         // Navigate to New Claim page
         claimPage.clickClaimTabExpand();
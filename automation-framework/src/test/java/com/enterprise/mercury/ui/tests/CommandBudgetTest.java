@@ -0,0 +1,88 @@
+package com.enterprise.mercury.ui.tests;
+
+import com.enterprise.mercury.core.driver.CommandBudgets;
+import com.enterprise.mercury.core.utils.DataReader;
+import com.enterprise.mercury.ui.pages.ClaimClaimantDetailsPage;
+import com.enterprise.mercury.ui.pages.ClaimCreationClaimantDetailsPage;
+import com.enterprise.mercury.ui.pages.ClaimCreationPolicySearchPage;
+import com.enterprise.mercury.ui.pages.PageCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+
+/**
+ * WebDriver Command Budget Regression Suite
+ * Runs the composite FNOL flows and fails when a page object method issues
+ * more WebDriver commands than its @CommandBudget allows
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Performance Regression")
+@Feature("WebDriver Command Budgets")
+public class CommandBudgetTest extends BaseTest {
+
+    /**
+     * Claim creation with claimant details (ClaimClaimantDetailsPage) stays within budget
+     */
+    @Test(priority = 1, description = "Verify claimant details flow stays within its WebDriver command budget")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Claimant Details Flow Budget")
+    public void testClaimantDetailsFlowBudget() {
+        JsonNode data = DataReader.readUITestData("claimClaimantDetailsData.json").get("validClaimWithClaimantDetails");
+        ClaimClaimantDetailsPage claimPage = PageCache.get(ClaimClaimantDetailsPage.class);
+
+        CommandBudgets.verify(claimPage, "completeClaimCreationWithClaimantDetails", () ->
+                claimPage.completeClaimCreationWithClaimantDetails(
+                        data.get("policyNumber").asText(),
+                        data.get("lossDate").asText(),
+                        data.get("lossTime").asText(),
+                        data.get("claimantName").asText(),
+                        data.get("relationToInsured").asText(),
+                        data.get("preferredMethodOfContact").asText()));
+    }
+
+    /**
+     * Claim creation up to claimant name selection stays within budget
+     */
+    @Test(priority = 2, description = "Verify claimant name selection flow stays within its WebDriver command budget")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Claimant Name Selection Flow Budget")
+    public void testClaimantNameSelectionFlowBudget() {
+        JsonNode data = DataReader.readUITestData("claimCreationClaimantDetailsData.json").get("validClaimWithClaimantDetails");
+        ClaimCreationClaimantDetailsPage claimPage = PageCache.get(ClaimCreationClaimantDetailsPage.class);
+
+        CommandBudgets.verify(claimPage, "completeClaimCreationWithClaimantDetails", () ->
+                claimPage.completeClaimCreationWithClaimantDetails(
+                        data.get("policyNumber").asText(),
+                        data.get("lossDate").asText(),
+                        data.get("lossTime").asText(),
+                        data.get("timeAmPm").asText(),
+                        data.get("claimantName").asText()));
+    }
+
+    /**
+     * Each step of the policy search flow stays within budget
+     */
+    @Test(priority = 3, description = "Verify policy search steps stay within their WebDriver command budgets")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Policy Search Step Budgets")
+    public void testPolicySearchStepBudgets() {
+        JsonNode data = DataReader.readUITestData("claimCreationPolicySearchData.json").get("validClaimWithPolicySearch");
+        ClaimCreationPolicySearchPage claimPage = PageCache.get(ClaimCreationPolicySearchPage.class);
+
+        claimPage.clickClaimTabExpand();
+        claimPage.clickNewClaimMenuItem();
+
+        CommandBudgets.verify(claimPage, "fillPolicySearchInfo", () ->
+                claimPage.fillPolicySearchInfo(
+                        data.get("policyNumber").asText(),
+                        data.get("lossDate").asText(),
+                        data.get("lossTime").asText(),
+                        data.get("timeAmPm").asText()));
+
+        claimPage.clickSearchButton();
+
+        CommandBudgets.verify(claimPage, "clickNextButton", claimPage::clickNextButton);
+    }
+}
@@ -0,0 +1,77 @@
+package com.enterprise.mercury.ui.tests;
+
+import com.enterprise.mercury.core.locators.LocatorProfiler;
+import com.enterprise.mercury.core.locators.LocatorRegistry;
+import com.enterprise.mercury.core.locators.LocatorStrategy;
+import com.enterprise.mercury.core.reporting.AllureConfig;
+import com.enterprise.mercury.ui.pages.ClaimClaimantDetailsPage;
+import com.enterprise.mercury.ui.pages.ClaimCreationClaimantDetailsPage;
+import com.enterprise.mercury.ui.pages.ClaimCreationPage;
+import com.enterprise.mercury.ui.pages.ClaimCreationPolicySearchPage;
+import com.enterprise.mercury.ui.pages.LoginPage;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helper Test to Profile Locator Cost
+ * Times every registry widget and page object locator against captured page sources (or the live
+ * page when no snapshots exist) and writes a ranked report with cheaper selectors
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Helper Utilities")
+@Feature("Locator Cost Profiling")
+public class LocatorProfilerTest extends BaseTest {
+
+    private static final Path REPORT_FILE = Paths.get("target", "locator-profile", "locator-cost-report.md");
+
+    /**
+     * Profile all page object locators and write the ranked report
+     */
+    @Test(priority = 1, description = "Profile page object locator evaluation cost")
+    @Severity(SeverityLevel.TRIVIAL)
+    @Story("Locator Cost Profiling")
+    @Description("Helper test that ranks page object locators by DOM evaluation cost and suggests cheaper selectors")
+    public void profilePageObjectLocators() throws IOException {
+        Map<String, LocatorStrategy> locators = new LinkedHashMap<>(LocatorProfiler.collectRegistryLocators());
+        locators.putAll(LocatorProfiler.collectLocators(
+                new LoginPage(),
+                new ClaimCreationPage(),
+                new ClaimCreationPolicySearchPage(),
+                new ClaimClaimantDetailsPage(),
+                new ClaimCreationClaimantDetailsPage()));
+        logger.info("Collected {} registry and page object locators", locators.size());
+
+        int iterations = Integer.parseInt(config.getProperty("locator.profile.iterations", "50"));
+        LocatorProfiler profiler = new LocatorProfiler(driver, iterations);
+        Path snapshotDir = Paths.get(config.getProperty("page.snapshot.dir", "../test-assets/page-snapshots"));
+
+        StringBuilder report = new StringBuilder("# Locator Cost Report\n\n");
+        if (Files.isDirectory(snapshotDir)) {
+            for (Map.Entry<String, List<LocatorProfiler.Result>> entry
+                    : profiler.profileSnapshots(snapshotDir, locators).entrySet()) {
+                report.append(LocatorProfiler.formatReport(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (report.indexOf("## ") < 0) {
+            logger.info("No page snapshots found in {} - profiling live page", snapshotDir);
+            report.append(LocatorProfiler.formatReport(driver.getCurrentUrl(), profiler.profile(locators)));
+        }
+
+        Files.createDirectories(REPORT_FILE.getParent());
+        Files.write(REPORT_FILE, report.toString().getBytes(StandardCharsets.UTF_8));
+        AllureConfig.addAttachment("Locator Cost Report", report.toString());
+        logger.info("Locator cost report written to: {}", REPORT_FILE.toAbsolutePath());
+        LocatorRegistry.logStatistics();
+    }
+}
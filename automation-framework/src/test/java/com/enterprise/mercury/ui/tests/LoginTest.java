@@ -2,6 +2,7 @@ package com.enterprise.mercury.ui.tests;
 
 import com.enterprise.mercury.core.utils.DataReader;
 import com.enterprise.mercury.ui.pages.LoginPage;
+import com.enterprise.mercury.ui.pages.PageCache;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.qameta.allure.*;
 import org.testng.Assert;
@@ -37,7 +38,7 @@ public class LoginTest extends BaseTest {
         logger.info("Test data loaded - Username: {}", username);
         
         // Create page object
-        LoginPage loginPage = new LoginPage();
+        LoginPage loginPage = PageCache.get(LoginPage.class);
         
         // Verify login page is displayed
         Assert.assertTrue(loginPage.isLoginPageDisplayed(), "Login page should be displayed");
@@ -81,7 +82,7 @@ public class LoginTest extends BaseTest {
         logger.info("Test data loaded - Username: {}", username);
         
         // Create page object
-        LoginPage loginPage = new LoginPage();
+        LoginPage loginPage = PageCache.get(LoginPage.class);
         
         // Perform login with invalid credentials
         loginPage.login(username, password);
@@ -121,7 +122,7 @@ public class LoginTest extends BaseTest {
         String password = testData.get("emptyUser").get("password").asText();
         
         // Create page object
-        LoginPage loginPage = new LoginPage();
+        LoginPage loginPage = PageCache.get(LoginPage.class);
         
         // Attempt login with empty credentials
         loginPage.login(username, password);
@@ -156,7 +157,7 @@ public class LoginTest extends BaseTest {
         String password = testData.get("validUser").get("password").asText();
         
         // Create page object
-        LoginPage loginPage = new LoginPage();
+        LoginPage loginPage = PageCache.get(LoginPage.class);
         
         // Perform login with Remember Me
         loginPage.loginWithRememberMe(username, password);
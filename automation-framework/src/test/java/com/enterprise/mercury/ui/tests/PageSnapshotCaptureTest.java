@@ -0,0 +1,52 @@
+package com.enterprise.mercury.ui.tests;
+
+import com.enterprise.mercury.core.locators.PageSnapshotStore;
+import com.enterprise.mercury.core.utils.DataReader;
+import com.enterprise.mercury.ui.pages.ClaimCreationPolicySearchPage;
+import com.enterprise.mercury.ui.pages.PageCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+
+/**
+ * Helper Test to Capture Page Snapshots
+ * Walks the FNOL wizard and stores the page source of each step in the page
+ * snapshot store, for offline locator validation and profiling
+ *
+ * @author Enterprise Automation Team
+ * @version 1.0
+ */
+@Epic("Helper Utilities")
+@Feature("Page Snapshots")
+public class PageSnapshotCaptureTest extends BaseTest {
+
+    /**
+     * Capture one snapshot per FNOL wizard step
+     */
+    @Test(priority = 1, description = "Capture page snapshots of the FNOL wizard steps")
+    @Severity(SeverityLevel.TRIVIAL)
+    @Story("Page Snapshot Capture")
+    @Description("Helper test that refreshes test-assets/page-snapshots from the live environment")
+    public void captureFnolWizardSnapshots() {
+        JsonNode data = DataReader.readUITestData("claimCreationPolicySearchData.json").get("validClaimWithPolicySearch");
+        PageSnapshotStore store = new PageSnapshotStore();
+        ClaimCreationPolicySearchPage claimPage = PageCache.get(ClaimCreationPolicySearchPage.class);
+
+        store.capture(driver, "DESKTOP");
+
+        claimPage.clickClaimTabExpand();
+        claimPage.clickNewClaimMenuItem();
+        claimPage.fillPolicySearchInfo(
+                data.get("policyNumber").asText(),
+                data.get("lossDate").asText(),
+                data.get("lossTime").asText(),
+                data.get("timeAmPm").asText());
+        claimPage.clickSearchButton();
+        store.capture(driver, "FNOL_POLICY_SEARCH");
+
+        claimPage.clickNextButton();
+        store.capture(driver, "FNOL_BASIC_INFO");
+
+        logger.info("Captured snapshots {} in {}", store.screens(), store.getDirectory().toAbsolutePath());
+    }
+}